@@ -1,16 +1,31 @@
+import mower.LookaheadMoveServiceProvider;
+import mower.MowerStrategyRegistry;
 import sim.Simulation;
+import sim.TelemetryServer;
 
 import java.io.File;
 
 /**
  * Class to instantiate and run the sim
  *
+ * Usage:
+ * Main <sim file> [--strategy=<name>] [--shared-knowledge] [--lookahead-budget=<iterations>[,<millis>]] [--metrics]
+ *      [--telemetry=<port>]
+ *
+ * The turn loop metrics of --metrics are printed to standard error, so the class format readout is left as it is.
+ * --telemetry serves the progress of the run over HTTP on the port, see TelemetryServer
+ *
  * Created by L. Arroyo on 9/12/2019
  */
 public class Main
 {
     private static final String SIMULATION_FILE_PREFIX = "scenarios/scenario";
     private static final String SIMULATION_FILE_SUFFIX = ".csv";
+    private static final String STRATEGY_OPTION = "--strategy=";
+    private static final String SHARED_KNOWLEDGE_OPTION = "--shared-knowledge";
+    private static final String LOOKAHEAD_BUDGET_OPTION = "--lookahead-budget=";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String TELEMETRY_OPTION = "--telemetry=";
     private static final boolean USE_TEST_FILES = false;
 
     public static void main(String [] args)
@@ -20,23 +35,110 @@ public class Main
             throw new RuntimeException("[FATAL ERROR] :: main - Cannot load file from args");
         }
 
-        if(USE_TEST_FILES)
+        String strategyName = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        boolean useSharedKnowledge = false;
+        boolean useMetrics = false;
+        int telemetryPort = -1;
+
+        for(int i = USE_TEST_FILES ? 0 : 1; i < args.length; i++)
         {
-            for(int i = 0; i < 16; i++)
+            final String arg = args[i].trim();
+
+            if(arg.startsWith(STRATEGY_OPTION))
+            {
+                strategyName = arg.substring(STRATEGY_OPTION.length());
+            }
+            else if(arg.equals(SHARED_KNOWLEDGE_OPTION))
+            {
+                useSharedKnowledge = true;
+            }
+            else if(arg.equals(METRICS_OPTION))
+            {
+                useMetrics = true;
+            }
+            else if(arg.startsWith(TELEMETRY_OPTION))
             {
-                final File simFile = new File(SIMULATION_FILE_PREFIX + i + SIMULATION_FILE_SUFFIX);
+                try
+                {
+                    telemetryPort = Integer.parseInt(arg.substring(TELEMETRY_OPTION.length()).trim());
+                }
+                catch(NumberFormatException e)
+                {
+                    throw new RuntimeException("[FATAL ERROR] :: main - Invalid telemetry port " + arg);
+                }
+            }
+            else if(arg.startsWith(LOOKAHEAD_BUDGET_OPTION))
+            {
+                final String [] budget = arg.substring(LOOKAHEAD_BUDGET_OPTION.length()).split(",");
 
-                final Simulation simulation = new Simulation(simFile, true); // DISPLAY LESS CRYPTIC READOUT
+                try
+                {
+                    LookaheadMoveServiceProvider.setSearchBudget(Integer.parseInt(budget[0].trim()),
+                            budget.length > 1 ? Long.parseLong(budget[1].trim()) : 0);
+                }
+                catch(NumberFormatException e)
+                {
+                    throw new RuntimeException("[FATAL ERROR] :: main - Invalid lookahead budget " + arg);
+                }
+            }
+            else{
+                throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg
+                        + ", known strategies are " + MowerStrategyRegistry.getStrategyNames());
+            }
+        }
 
-                simulation.start();
+        // FAIL BEFORE LOADING ANY FILES WHEN THE STRATEGY DOES NOT EXIST
+        MowerStrategyRegistry.getProvider(strategyName);
+
+        final TelemetryServer telemetryServer = telemetryPort < 0 ? null : TelemetryServer.start(telemetryPort);
+
+        if(telemetryServer != null)
+        {
+            System.err.println("Serving telemetry on port " + telemetryServer.getPort());
+        }
+
+        try
+        {
+            if(USE_TEST_FILES)
+            {
+                for(int i = 0; i < 16; i++)
+                {
+                    final File simFile = new File(SIMULATION_FILE_PREFIX + i + SIMULATION_FILE_SUFFIX);
+
+                    final Simulation simulation = new Simulation(simFile, true, useSharedKnowledge, strategyName); // DISPLAY LESS CRYPTIC READOUT
+
+                    runSimulation(simulation, useMetrics);
+                }
+            }
+            else{
+                File simFile = new File(args[0].trim());
+
+                final Simulation simulation = new Simulation(simFile, false, useSharedKnowledge, strategyName); // DISPLAY THE CLASS FORMAT
+
+                runSimulation(simulation, useMetrics);
+            }
+        }
+        finally
+        {
+            if(telemetryServer != null)
+            {
+                telemetryServer.stop();
             }
         }
-        else{
-            File simFile = new File(args[0].trim());
+    }
 
-            final Simulation simulation = new Simulation(simFile, false); // DISPLAY THE CLASS FORMAT
+    private static void runSimulation(final Simulation simulation, final boolean useMetrics)
+    {
+        if(useMetrics)
+        {
+            simulation.enableMetrics();
+        }
 
-            simulation.start();
+        simulation.start();
+
+        if(useMetrics)
+        {
+            System.err.print(simulation.getMetrics().getSnapshot());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+package bench;
+
+import mower.MowerStrategyRegistry;
+import sim.ScenarioDefinition;
+import sim.Simulation;
+import sim.SimulationResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Tool that measures the bytes a strategic mower allocates in a steady state turn and fails when a strategy goes over
+ * its allocation budget, so a hot path that has been made allocation free stays that way. It is meant to be run by
+ * the build after the benchmarks, the exit status is 1 when any strategy is over its budget
+ *
+ * Usage:
+ * AllocationBudgetCheck [--strategies=<name>,<name>...] [--budget=<bytes per turn>] [--turns=<turns>]
+ *
+ * Note:
+ * A turn can not be run on its own, so every measurement runs the same seeded lawn twice, once to the end of the
+ * warmup turns and once past them, and takes the difference. Everything before the warmup turns is the same in both
+ * runs, so the setup and the first turns cancel out and only the measured turns are left. The smallest of a few
+ * rounds is kept, because a round can pick up allocations of the JIT compiling the turn loop
+ *
+ * The budgets are read from allocation-budgets.properties next to this class, one strategy name and budget in bytes
+ * per turn on every line. A strategy without a budget is measured but never fails
+ */
+public class AllocationBudgetCheck
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String STRATEGIES_OPTION = "--strategies=";
+    private static final String BUDGET_OPTION = "--budget=";
+    private static final String TURNS_OPTION = "--turns=";
+    private static final String BUDGETS_RESOURCE = "allocation-budgets.properties";
+    private static final int DEFAULT_MEASURED_TURNS = 400;
+    private static final int WARMUP_TURNS = 300;
+    private static final int WARMUP_ROUNDS = 6;
+    private static final int MEASUREMENT_ROUNDS = 4;
+    private static final long SEED = 20261018L;
+
+    // ONE MOWER ON A LAWN IT CAN NOT FINISH, SO EVERY MEASURED TURN IS ONE DECISION OF THE SAME STRATEGIC MOWER
+    private static final ScenarioGenerator LAWN = new ScenarioGenerator(60, 60, 1, 0.05, 0);
+
+    private final ScenarioDefinition shortRun;
+    private final ScenarioDefinition longRun;
+    private final int measuredTurns;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param measuredTurns - The number of turns measured after the warmup turns
+     */
+    AllocationBudgetCheck(final int measuredTurns)
+    {
+        this.shortRun = LAWN.withMaxTurns(WARMUP_TURNS).generate(SEED);
+        this.longRun = LAWN.withMaxTurns(WARMUP_TURNS + measuredTurns).generate(SEED);
+        this.measuredTurns = measuredTurns;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        List<String> strategies = MowerStrategyRegistry.getStrategyNames();
+        long budgetOverride = -1;
+        int measuredTurns = DEFAULT_MEASURED_TURNS;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(STRATEGIES_OPTION))
+                {
+                    strategies = Arrays.asList(arg.substring(STRATEGIES_OPTION.length()).trim().split(","));
+                }
+                else if(arg.startsWith(BUDGET_OPTION))
+                {
+                    budgetOverride = Long.parseLong(arg.substring(BUDGET_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(TURNS_OPTION))
+                {
+                    measuredTurns = Integer.parseInt(arg.substring(TURNS_OPTION.length()).trim());
+                }
+                else{
+                    throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg);
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(measuredTurns < 1)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - At least 1 turn has to be measured");
+        }
+
+        // FAIL BEFORE RUNNING ANYTHING WHEN A STRATEGY DOES NOT EXIST
+        for(String strategy : strategies)
+        {
+            MowerStrategyRegistry.getProvider(strategy);
+        }
+
+        final Properties budgets = loadBudgets();
+        final AllocationBudgetCheck check = new AllocationBudgetCheck(measuredTurns);
+        final List<String> failures = new ArrayList<>();
+
+        System.out.println("Allocation budgets: " + LAWN.withMaxTurns(WARMUP_TURNS + measuredTurns) + ", "
+                + measuredTurns + " turns measured after " + WARMUP_TURNS + " warmup turns");
+        System.out.println();
+        System.out.println(String.format("%-16s %14s %14s  %s", "strategy", "B/turn", "budget", "result"));
+
+        for(String strategy : strategies)
+        {
+            final String configuredBudget = budgets.getProperty(strategy);
+            final long budget = budgetOverride >= 0
+                    ? budgetOverride
+                    : configuredBudget == null ? -1 : Long.parseLong(configuredBudget.trim());
+            final double bytesPerTurn = check.measure(strategy);
+
+            String result;
+
+            if(budget < 0)
+            {
+                result = "no budget";
+            }
+            else if(bytesPerTurn > budget)
+            {
+                result = "OVER BUDGET";
+
+                failures.add(strategy);
+            }
+            else{
+                result = "ok";
+            }
+
+            System.out.println(String.format("%-16s %14.1f %14s  %s", strategy, bytesPerTurn,
+                    budget < 0 ? "-" : String.valueOf(budget), result));
+        }
+
+        if(!failures.isEmpty())
+        {
+            System.out.println();
+            System.out.println("[ERROR] - Over the allocation budget: " + failures);
+
+            System.exit(1);
+        }
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Measures the bytes a strategic mower allocates in a steady state turn
+     *
+     * @param strategy - The strategy of the mower
+     *
+     * @return - The bytes allocated per turn
+     *
+     * @throws RuntimeException - When the JVM can not count allocations, or the mower stops before the last turn
+     */
+    double measure(final String strategy)
+    {
+        double response = Double.MAX_VALUE;
+
+        for(int i = 0; i < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; i++)
+        {
+            final long shortRunBytes = run(shortRun, strategy, WARMUP_TURNS);
+            final long longRunBytes = run(longRun, strategy, WARMUP_TURNS + measuredTurns);
+
+            if(i >= WARMUP_ROUNDS)
+            {
+                response = Math.min(response, (double) Math.max(0, longRunBytes - shortRunBytes) / measuredTurns);
+            }
+        }
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs the lawn to its turn limit
+     *
+     * @return - The bytes the run allocated
+     */
+    private static long run(final ScenarioDefinition scenario, final String strategy, final int expectedTurns)
+    {
+        final Simulation simulation = Simulation.builder(scenario)
+                .setStrategyName(strategy)
+                .setRandom(new Random(SEED))
+                .build();
+
+        final long allocatedBefore = BenchmarkRunner.getAllocatedBytes();
+
+        final SimulationResult result = simulation.run();
+
+        final long allocated = BenchmarkRunner.getAllocatedBytes() - allocatedBefore;
+
+        if(allocatedBefore < 0)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The JVM can not count the allocations of a thread");
+        }
+
+        if(result.getTurnsTaken() != expectedTurns)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The " + strategy + " mower stopped after "
+                    + result.getTurnsTaken() + " of " + expectedTurns + " turns, a steady state turn can not be "
+                    + "measured");
+        }
+
+        return allocated;
+    }
+
+    /**
+     * @return - The budgets by strategy name, empty when the budgets file is missing
+     */
+    private static Properties loadBudgets()
+    {
+        final Properties response = new Properties();
+
+        try(InputStream in = AllocationBudgetCheck.class.getResourceAsStream(BUDGETS_RESOURCE))
+        {
+            if(in != null)
+            {
+                response.load(in);
+            }
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to read " + BUDGETS_RESOURCE, e);
+        }
+
+        return response;
+    }
+}
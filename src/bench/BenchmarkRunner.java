@@ -0,0 +1,281 @@
+package bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Class used to measure the throughput of a benchmark the way JMH does: the benchmark is called in a loop for a fixed
+ * time per iteration, the warmup iterations let the JIT compile the hot paths, and only the measurement iterations
+ * are counted. Along with the throughput it measures what the GC profiler of JMH reports, the bytes allocated per
+ * unit and the number and time of the collections during the measurement. The time and the bytes are both given per
+ * unit of work, the same unit the throughput is counted in, so a benchmark that counts turns reports ns per turn
+ *
+ * Note:
+ * Every benchmark runs in the same JVM, one after the other, so a benchmark can be affected by the profile the JIT
+ * built up for the benchmarks before it. Filter down to a single benchmark when a number needs to be exact
+ */
+class BenchmarkRunner
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int MAX_TIME_CHECK_INTERVAL = 64;
+    private static final long FAST_OPERATION_NANOS = 1000;
+
+    // EVERY RESULT IS WRITTEN HERE SO THE JIT CAN NOT DROP THE WORK OF A BENCHMARK AS DEAD CODE
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param warmupIterations - The number of iterations that are run before measuring
+     * @param measurementIterations - The number of iterations that are measured
+     * @param iterationMillis - The length of every iteration
+     */
+    BenchmarkRunner(final int warmupIterations, final int measurementIterations, final long iterationMillis)
+    {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Keeps a result of a benchmark alive
+     *
+     * @param result - The result
+     */
+    static void consume(final Object result)
+    {
+        sink = result;
+    }
+
+    /**
+     * Runs a benchmark
+     *
+     * @param benchmark - The benchmark
+     *
+     * @return - The result of the measurement
+     */
+    Result run(final Benchmark benchmark)
+    {
+        benchmark.setUp();
+
+        for(int i = 0; i < warmupIterations; i++)
+        {
+            runIteration(benchmark);
+        }
+
+        final SampleStatistics throughput = new SampleStatistics();
+        final long gcCountBefore = getGcCount();
+        final long gcMillisBefore = getGcMillis();
+        final long allocatedBefore = getAllocatedBytes();
+
+        long units = 0;
+        long nanos = 0;
+
+        for(int i = 0; i < measurementIterations; i++)
+        {
+            final long[] iteration = runIteration(benchmark);
+
+            units += iteration[1];
+            nanos += iteration[2];
+
+            throughput.add(iteration[1] * 1e9 / iteration[2]);
+        }
+
+        final long allocated = getAllocatedBytes() - allocatedBefore;
+
+        return new Result(benchmark,
+                throughput,
+                (double) nanos / units,
+                allocatedBefore < 0 ? Double.NaN : (double) allocated / units,
+                getGcCount() - gcCountBefore,
+                getGcMillis() - gcMillisBefore);
+    }
+
+    /**
+     * Prints the header of the result table
+     */
+    static void displayHeader()
+    {
+        System.out.println(String.format("%-44s %-28s %16s %12s %8s %8s",
+                "benchmark", "throughput (95% CI)", "ns/unit", "B/unit", "gc.count", "gc.ms"));
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Calls the benchmark until the iteration time is up, every call is finished so the time can run over a little.
+     * The clock is read after every call at first, and only every few calls once the calls turn out to be fast, so
+     * reading the clock does not add to the time of a fast call
+     *
+     * @return - The number of operations, the units of work, and the nanoseconds of the iteration
+     */
+    private long[] runIteration(final Benchmark benchmark)
+    {
+        final long startTime = System.nanoTime();
+
+        long operations = 0;
+        long units = 0;
+        long elapsed;
+        int interval = 1;
+
+        do
+        {
+            for(int i = 0; i < interval; i++)
+            {
+                units += benchmark.invoke();
+            }
+
+            operations += interval;
+            elapsed = System.nanoTime() - startTime;
+
+            if(interval < MAX_TIME_CHECK_INTERVAL && elapsed < operations * FAST_OPERATION_NANOS)
+            {
+                interval *= 2;
+            }
+        }
+        while(elapsed < iterationNanos);
+
+        return new long[] {operations, units, elapsed};
+    }
+
+    /**
+     * @return - The bytes the current thread has allocated so far, -1 when the JVM can not tell
+     */
+    static long getAllocatedBytes()
+    {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        if(threadBean instanceof com.sun.management.ThreadMXBean)
+        {
+            final com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+
+            if(sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled())
+            {
+                return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return - The number of collections of every collector so far
+     */
+    private static long getGcCount()
+    {
+        long response = 0;
+
+        for(GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            response += Math.max(0, gcBean.getCollectionCount());
+        }
+
+        return response;
+    }
+
+    /**
+     * @return - The time every collector has spent collecting so far
+     */
+    private static long getGcMillis()
+    {
+        long response = 0;
+
+        for(GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            response += Math.max(0, gcBean.getCollectionTime());
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A piece of work to measure. A microbenchmark does one call per operation and counts it as one unit, a
+     * macrobenchmark can do more per operation and count what it did, like the turns of a simulation
+     */
+    abstract static class Benchmark
+    {
+        private final String name;
+        private final String unit;
+
+        /**
+         * @param name - The name of the benchmark
+         * @param unit - What the throughput is counted in, like ops or turns
+         */
+        Benchmark(final String name, final String unit)
+        {
+            this.name = name;
+            this.unit = unit;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getUnit() {
+            return unit;
+        }
+
+        /**
+         * Prepares the state of the benchmark, called once before the warmup
+         */
+        void setUp() {}
+
+        /**
+         * Runs one operation of the benchmark
+         *
+         * @return - The units of work the operation did
+         */
+        abstract long invoke();
+    }
+
+    /**
+     * The measurement of a benchmark
+     */
+    static class Result
+    {
+        private final Benchmark benchmark;
+        private final SampleStatistics throughput;
+        private final double nanosPerUnit;
+        private final double bytesPerUnit;
+        private final long gcCount;
+        private final long gcMillis;
+
+        private Result(final Benchmark benchmark,
+                       final SampleStatistics throughput,
+                       final double nanosPerUnit,
+                       final double bytesPerUnit,
+                       final long gcCount,
+                       final long gcMillis)
+        {
+            this.benchmark = benchmark;
+            this.throughput = throughput;
+            this.nanosPerUnit = nanosPerUnit;
+            this.bytesPerUnit = bytesPerUnit;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%-44s %-28s %16.1f %12.1f %8d %8d",
+                    benchmark.getName(),
+                    String.format("%.4g +- %.2g %s/s", throughput.getMean(), throughput.getConfidenceHalfWidth(),
+                            benchmark.getUnit()),
+                    nanosPerUnit,
+                    bytesPerUnit,
+                    gcCount,
+                    gcMillis);
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package bench;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import lawn.Lawn;
+import lawn.LawnSquare;
+import mower.Mower;
+import mower.MowerMove;
+import mower.MowerStrategyRegistry;
+import mower.NextMowerMoveService;
+import mower.NextMowerMoveServiceProvider;
+import sim.Simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tool that benchmarks the hot paths of the engine, so every optimization has a baseline to be measured against and
+ * a regression shows up as a drop in a number instead of a slower run. The microbenchmarks time single calls of the
+ * lawn lookup, the move ranking, the surrounding squares update, and the scan, and the macrobenchmarks time whole
+ * simulations on generated lawns of three sizes
+ *
+ * Usage:
+ * EngineBenchmarks [--warmup=<iterations>] [--iterations=<iterations>] [--time=<millis>] [--strategy=<name>]
+ *                  [--filter=<text>] [--list]
+ *
+ * Note:
+ * The private methods of the mower are called through reflection, the cost of the reflective call is the same for
+ * every run so the numbers can still be compared with each other
+ */
+public class EngineBenchmarks
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String WARMUP_OPTION = "--warmup=";
+    private static final String ITERATIONS_OPTION = "--iterations=";
+    private static final String TIME_OPTION = "--time=";
+    private static final String STRATEGY_OPTION = "--strategy=";
+    private static final String FILTER_OPTION = "--filter=";
+    private static final String LIST_OPTION = "--list";
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+    private static final long DEFAULT_ITERATION_MILLIS = 1000;
+    private static final int SAMPLE_COUNT = 1024;
+    private static final long BASE_SEED = 20261018L;
+
+    static final String[] LAWN_SIZES = {"small", "medium", "large"};
+    static final ScenarioGenerator[] LAWNS = {
+            new ScenarioGenerator(10, 10, 2, 0.1, 300),
+            new ScenarioGenerator(40, 40, 6, 0.1, 2000),
+            new ScenarioGenerator(100, 100, 16, 0.1, 6000)
+    };
+
+    private final File scenarioDirectory;
+    private final String strategy;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param scenarioDirectory - The directory the generated lawns are written to
+     * @param strategy - The strategy of the mowers in the simulations
+     */
+    EngineBenchmarks(final File scenarioDirectory, final String strategy)
+    {
+        this.scenarioDirectory = scenarioDirectory;
+        this.strategy = strategy;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        int warmup = DEFAULT_WARMUP_ITERATIONS;
+        int iterations = DEFAULT_MEASUREMENT_ITERATIONS;
+        long millis = DEFAULT_ITERATION_MILLIS;
+        String strategy = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        String filter = "";
+        boolean isListOnly = false;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(WARMUP_OPTION))
+                {
+                    warmup = Integer.parseInt(arg.substring(WARMUP_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(ITERATIONS_OPTION))
+                {
+                    iterations = Integer.parseInt(arg.substring(ITERATIONS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(TIME_OPTION))
+                {
+                    millis = Long.parseLong(arg.substring(TIME_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(STRATEGY_OPTION))
+                {
+                    strategy = arg.substring(STRATEGY_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(FILTER_OPTION))
+                {
+                    filter = arg.substring(FILTER_OPTION.length()).trim();
+                }
+                else if(arg.equals(LIST_OPTION))
+                {
+                    isListOnly = true;
+                }
+                else{
+                    throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg);
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(warmup < 0 || iterations < 1 || millis < 1)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The benchmarks need at least 1 measurement iteration "
+                    + "of at least 1 ms");
+        }
+
+        // FAIL BEFORE RUNNING ANYTHING WHEN THE STRATEGY DOES NOT EXIST
+        MowerStrategyRegistry.getProvider(strategy);
+
+        final File directory = createScenarioDirectory();
+        final List<BenchmarkRunner.Benchmark> benchmarks = new ArrayList<>();
+
+        for(BenchmarkRunner.Benchmark benchmark : new EngineBenchmarks(directory, strategy).getBenchmarks())
+        {
+            if(benchmark.getName().contains(filter))
+            {
+                benchmarks.add(benchmark);
+            }
+        }
+
+        if(isListOnly)
+        {
+            for(BenchmarkRunner.Benchmark benchmark : benchmarks)
+            {
+                System.out.println(benchmark.getName());
+            }
+
+            return;
+        }
+
+        System.out.println("Engine benchmarks: " + warmup + " warmup and " + iterations + " measurement iterations of "
+                + millis + " ms, " + strategy + " strategy");
+
+        for(int i = 0; i < LAWNS.length; i++)
+        {
+            System.out.println("  " + LAWN_SIZES[i] + ": " + LAWNS[i]);
+        }
+
+        System.out.println();
+
+        final BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, millis);
+
+        BenchmarkRunner.displayHeader();
+
+        for(BenchmarkRunner.Benchmark benchmark : benchmarks)
+        {
+            System.out.println(runner.run(benchmark));
+        }
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - Every benchmark of the suite, the state of a benchmark is only built when it is set up
+     */
+    List<BenchmarkRunner.Benchmark> getBenchmarks()
+    {
+        final List<BenchmarkRunner.Benchmark> response = new ArrayList<>();
+
+        for(int i = 0; i < LAWNS.length; i++)
+        {
+            response.add(new LawnLookupBenchmark(i));
+        }
+
+        response.add(new MoveRankingBenchmark());
+        response.add(new SurroundingSquaresUpdateBenchmark());
+
+        for(int i = 0; i < LAWNS.length; i++)
+        {
+            response.add(new ScanBenchmark(i));
+        }
+
+        for(int i = 0; i < LAWNS.length; i++)
+        {
+            response.add(new SimulationBenchmark(i));
+        }
+
+        return response;
+    }
+
+    /**
+     * Writes a generated lawn into the scenario directory, a lawn is only written once
+     *
+     * @param size - The index of the lawn size
+     * @param maxTurns - The turn limit to write, -1 to keep the one of the lawn size
+     *
+     * @return - The simulation file
+     */
+    File getScenarioFile(final int size, final int maxTurns)
+    {
+        final File file = new File(scenarioDirectory, LAWN_SIZES[size] + (maxTurns < 0 ? "" : "-" + maxTurns) + ".csv");
+
+        if(!file.exists())
+        {
+            final ScenarioGenerator lawn = LAWNS[size];
+
+            (maxTurns < 0 ? lawn : lawn.withMaxTurns(maxTurns)).write(file, BASE_SEED + size);
+
+            file.deleteOnExit();
+        }
+
+        return file;
+    }
+
+    /**
+     * Creates a simulation of a generated lawn that has been parsed but has not taken a turn, so its mowers can be
+     * driven one call at a time
+     *
+     * @param size - The index of the lawn size
+     *
+     * @return - The simulation
+     */
+    Simulation createParsedSimulation(final int size)
+    {
+        final Simulation response = new Simulation(getScenarioFile(size, 0), false, false, strategy,
+                new Random(BASE_SEED), null);
+
+        // A TURN LIMIT OF 0 PARSES THE LAWN WITHOUT TAKING A TURN
+        response.start();
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - A new temporary directory that is removed when the JVM exits
+     */
+    private static File createScenarioDirectory()
+    {
+        try
+        {
+            final File response = Files.createTempDirectory("engine-benchmarks").toFile();
+
+            response.deleteOnExit();
+
+            return response;
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to create a directory for the lawns", e);
+        }
+    }
+
+    /**
+     * Looks up a private method of the mower and makes it callable
+     *
+     * @param name - The name of the method, it must not take any parameters
+     *
+     * @return - The method
+     */
+    private static Method getMowerMethod(final String name)
+    {
+        try
+        {
+            final Method response = Mower.class.getDeclaredMethod(name);
+
+            response.setAccessible(true);
+
+            return response;
+        }
+        catch(NoSuchMethodException e)
+        {
+            throw new RuntimeException("[ERROR] - The mower no longer has a method named " + name, e);
+        }
+    }
+
+    /**
+     * Calls a method that was made callable by getMowerMethod
+     *
+     * @return - The return value of the method
+     */
+    private static Object invokeMowerMethod(final Method method, final Mower mower)
+    {
+        try
+        {
+            return method.invoke(mower);
+        }
+        catch(IllegalAccessException | InvocationTargetException e)
+        {
+            throw new RuntimeException("[ERROR] - The call to " + method.getName() + " failed", e);
+        }
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lawn.getLawnSquareByCoordinates for random squares of a lawn
+     */
+    private static class LawnLookupBenchmark extends BenchmarkRunner.Benchmark
+    {
+        private final int size;
+        private final int[] xCoordinates = new int[SAMPLE_COUNT];
+        private final int[] yCoordinates = new int[SAMPLE_COUNT];
+        private Lawn lawn;
+        private int next;
+
+        private LawnLookupBenchmark(final int size)
+        {
+            super("lawn.getLawnSquareByCoordinates:" + LAWN_SIZES[size], "ops");
+
+            this.size = size;
+        }
+
+        @Override
+        void setUp()
+        {
+            final int width = LAWNS[size].getWidth();
+            final int height = LAWNS[size].getHeight();
+            final Random random = new Random(BASE_SEED);
+
+            lawn = new Lawn(width, height);
+
+            for(int x = 0; x < width; x++)
+            {
+                for(int y = 0; y < height; y++)
+                {
+                    lawn.addLawnSquare(new LawnSquare(x, y, LawnSquareContent.GRASS));
+                }
+            }
+
+            for(int i = 0; i < SAMPLE_COUNT; i++)
+            {
+                xCoordinates[i] = random.nextInt(width);
+                yCoordinates[i] = random.nextInt(height);
+            }
+        }
+
+        @Override
+        long invoke()
+        {
+            final int i = next++ & (SAMPLE_COUNT - 1);
+
+            BenchmarkRunner.consume(lawn.getLawnSquareByCoordinates(xCoordinates[i], yCoordinates[i]));
+
+            return 1;
+        }
+    }
+
+    /**
+     * NextMowerMoveService.getPossibleMovesByRanking for random surrounding squares models
+     */
+    private static class MoveRankingBenchmark extends BenchmarkRunner.Benchmark
+    {
+        private final List<List<LawnSquareContent>> models = new ArrayList<>();
+        private final RankingService service = new RankingService();
+        private int next;
+
+        private MoveRankingBenchmark()
+        {
+            super("moveService.getPossibleMovesByRanking", "ops");
+        }
+
+        @Override
+        void setUp()
+        {
+            final Random random = new Random(BASE_SEED);
+            final LawnSquareContent[] contents = LawnSquareContent.values();
+
+            for(int i = 0; i < SAMPLE_COUNT; i++)
+            {
+                final LawnSquareContent[] model = new LawnSquareContent[8];
+
+                for(int j = 0; j < model.length; j++)
+                {
+                    model[j] = contents[random.nextInt(contents.length)];
+                }
+
+                models.add(Arrays.asList(model));
+            }
+        }
+
+        @Override
+        long invoke()
+        {
+            BenchmarkRunner.consume(service.rank(models.get(next++ & (SAMPLE_COUNT - 1))));
+
+            return 1;
+        }
+    }
+
+    /**
+     * A move service that only exists to reach the ranking of the base class
+     */
+    private static class RankingService extends NextMowerMoveService
+    {
+        @Override
+        public MowerMove getNextMowerMove(final Mower mower)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        private List<List<Integer>> rank(final List<LawnSquareContent> surroundingSquares)
+        {
+            return getPossibleMovesByRanking(surroundingSquares);
+        }
+    }
+
+    /**
+     * Mower.updateSurroundingSquaresAfterMove for mowers facing every direction
+     */
+    private class SurroundingSquaresUpdateBenchmark extends BenchmarkRunner.Benchmark
+    {
+        private final Method update = getMowerMethod("updateSurroundingSquaresAfterMove");
+        private final Mower[] mowers = new Mower[8];
+        private int next;
+
+        private SurroundingSquaresUpdateBenchmark()
+        {
+            super("mower.updateSurroundingSquaresAfterMove", "ops");
+        }
+
+        @Override
+        void setUp()
+        {
+            final Simulation simulation = createParsedSimulation(0);
+            final NextMowerMoveServiceProvider provider = MowerStrategyRegistry.getProvider(strategy);
+
+            for(Direction direction : Direction.values())
+            {
+                mowers[direction.getIndex()] = new Mower(direction.getIndex(), "m" + direction.getIndex(), direction,
+                        1, 1, simulation, true, provider);
+            }
+        }
+
+        @Override
+        long invoke()
+        {
+            final Mower mower = mowers[next++ & 7];
+
+            invokeMowerMethod(update, mower);
+
+            BenchmarkRunner.consume(mower.getSurroundingSquares());
+
+            return 1;
+        }
+    }
+
+    /**
+     * Mower.scan from random squares of a lawn
+     */
+    private class ScanBenchmark extends BenchmarkRunner.Benchmark
+    {
+        private final int size;
+        private final Method scan = getMowerMethod("scan");
+        private final List<Mower> mowers = new ArrayList<>();
+        private int next;
+
+        private ScanBenchmark(final int size)
+        {
+            super("mower.scan:" + LAWN_SIZES[size], "ops");
+
+            this.size = size;
+        }
+
+        @Override
+        void setUp()
+        {
+            final Simulation simulation = createParsedSimulation(size);
+            final NextMowerMoveServiceProvider provider = MowerStrategyRegistry.getProvider(strategy);
+            final Random random = new Random(BASE_SEED);
+
+            for(int i = 0; i < SAMPLE_COUNT; i++)
+            {
+                mowers.add(new Mower(i, "m" + i, Direction.NORTH, random.nextInt(LAWNS[size].getWidth()),
+                        random.nextInt(LAWNS[size].getHeight()), simulation, true, provider));
+            }
+        }
+
+        @Override
+        long invoke()
+        {
+            BenchmarkRunner.consume(invokeMowerMethod(scan, mowers.get(next++ & (SAMPLE_COUNT - 1))));
+
+            return 1;
+        }
+    }
+
+    /**
+     * Simulation.start on a generated lawn, counted in turns so lawns of every size are measured in the same unit
+     */
+    private class SimulationBenchmark extends BenchmarkRunner.Benchmark
+    {
+        private final int size;
+        private File file;
+        private long seed = BASE_SEED;
+
+        private SimulationBenchmark(final int size)
+        {
+            super("simulation.start:" + LAWN_SIZES[size], "turns");
+
+            this.size = size;
+        }
+
+        @Override
+        void setUp()
+        {
+            file = getScenarioFile(size, -1);
+        }
+
+        @Override
+        long invoke()
+        {
+            final Simulation simulation = new Simulation(file, false, false, strategy, new Random(seed++), null);
+
+            simulation.start();
+
+            BenchmarkRunner.consume(simulation);
+
+            return simulation.getTurnsTaken();
+        }
+    }
+}
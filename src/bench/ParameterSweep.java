@@ -0,0 +1,556 @@
+package bench;
+
+import constant.SimulationParameter;
+import mower.MowerStrategyRegistry;
+import sim.Simulation;
+import sim.TelemetryServer;
+import sim.SimulationParameters;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tool that searches the simulation parameters for the set that cuts the most grass per turn. The candidate sets are
+ * drawn at random from the range of every parameter and played on every scenario, either all with the same number of
+ * seeds or with successive halving, which plays every candidate with a few seeds, keeps the best third, and plays the
+ * survivors again with three times as many seeds until only the best candidate is left
+ *
+ * Usage:
+ * ParameterSweep [--method=random|halving] [--samples=<count>] [--seeds=<count>] [--strategy=<name>]
+ *                [--threads=<count>] [--telemetry=<port>] [<file or directory>...]
+ *
+ * Note:
+ * The default parameters are always played as the baseline and never dropped, and every candidate plays the same
+ * seeds on every scenario, so the candidates and the baseline are compared on the same runs of luck. The sweep draws
+ * its candidates from a fixed seed so the same options always give the same result
+ */
+public class ParameterSweep
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String METHOD_OPTION = "--method=";
+    private static final String SAMPLES_OPTION = "--samples=";
+    private static final String SEEDS_OPTION = "--seeds=";
+    private static final String STRATEGY_OPTION = "--strategy=";
+    private static final String THREADS_OPTION = "--threads=";
+    private static final String TELEMETRY_OPTION = "--telemetry=";
+    private static final String RANDOM_METHOD = "random";
+    private static final String HALVING_METHOD = "halving";
+    private static final String DEFAULT_SCENARIO_DIRECTORY = "scenarios";
+    private static final String SCENARIO_SUFFIX = ".csv";
+    private static final int DEFAULT_SAMPLES = 27;
+    private static final int DEFAULT_SEEDS = 2;
+    private static final int HALVING_FACTOR = 3;
+    private static final int DISPLAYED_CANDIDATES = 10;
+    private static final long BASE_SEED = 20261018L;
+
+    private final String strategy;
+    private final List<File> scenarios;
+    private final boolean useHalving;
+    private final int samples;
+    private final int seeds;
+    private final int threads;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param strategy - The strategy every mower plays with
+     * @param scenarios - The scenarios every candidate plays
+     * @param useHalving - True to use successive halving, false to play every candidate with every seed
+     * @param samples - The number of candidates, including the default parameters
+     * @param seeds - The seeds per scenario, for successive halving the seeds of the first round
+     * @param threads - The number of simulations to run at once
+     */
+    public ParameterSweep(final String strategy,
+                          final List<File> scenarios,
+                          final boolean useHalving,
+                          final int samples,
+                          final int seeds,
+                          final int threads)
+    {
+        this.strategy = strategy;
+        this.scenarios = scenarios;
+        this.useHalving = useHalving;
+        this.samples = samples;
+        this.seeds = seeds;
+        this.threads = threads;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        String strategy = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        String method = HALVING_METHOD;
+        List<File> scenarios = new ArrayList<>();
+        int samples = DEFAULT_SAMPLES;
+        int seeds = DEFAULT_SEEDS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int telemetryPort = -1;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(METHOD_OPTION))
+                {
+                    method = arg.substring(METHOD_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(SAMPLES_OPTION))
+                {
+                    samples = Integer.parseInt(arg.substring(SAMPLES_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(SEEDS_OPTION))
+                {
+                    seeds = Integer.parseInt(arg.substring(SEEDS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(STRATEGY_OPTION))
+                {
+                    strategy = arg.substring(STRATEGY_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(THREADS_OPTION))
+                {
+                    threads = Integer.parseInt(arg.substring(THREADS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(TELEMETRY_OPTION))
+                {
+                    telemetryPort = Integer.parseInt(arg.substring(TELEMETRY_OPTION.length()).trim());
+                }
+                else{
+                    scenarios.addAll(getScenarioFiles(new File(arg.trim())));
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(scenarios.isEmpty())
+        {
+            scenarios.addAll(getScenarioFiles(new File(DEFAULT_SCENARIO_DIRECTORY)));
+        }
+
+        if(!method.equals(RANDOM_METHOD) && !method.equals(HALVING_METHOD))
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unknown sweep method " + method + ", use "
+                    + RANDOM_METHOD + " or " + HALVING_METHOD);
+        }
+
+        if(samples < 1 || seeds < 1 || threads < 1 || scenarios.isEmpty())
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The sweep needs at least 1 sample, 1 seed, 1 thread, "
+                    + "and 1 scenario");
+        }
+
+        // FAIL BEFORE RUNNING ANYTHING WHEN THE STRATEGY DOES NOT EXIST
+        MowerStrategyRegistry.getProvider(strategy);
+
+        final TelemetryServer telemetryServer = telemetryPort < 0 ? null : TelemetryServer.start(telemetryPort);
+
+        if(telemetryServer != null)
+        {
+            System.out.println("Serving telemetry on port " + telemetryServer.getPort() + "\n");
+        }
+
+        try
+        {
+            new ParameterSweep(strategy, scenarios, method.equals(HALVING_METHOD), samples, seeds, threads).run();
+        }
+        finally
+        {
+            if(telemetryServer != null)
+            {
+                telemetryServer.stop();
+            }
+        }
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs the sweep and prints the best candidates
+     *
+     * @return - The best parameters found
+     */
+    public SimulationParameters run()
+    {
+        final List<Candidate> candidates = drawCandidates();
+        final Candidate baseline = candidates.get(0);
+
+        List<Candidate> survivors = new ArrayList<>(candidates);
+        int seedsPlayed = 0;
+        int roundSeeds = seeds;
+        int round = 1;
+
+        System.out.println("Parameter sweep: " + (useHalving ? "successive halving" : "random search") + " of "
+                + candidates.size() + " candidates with the " + strategy + " strategy on " + scenarios.size()
+                + " scenarios and " + threads + " threads\n");
+
+        while(true)
+        {
+            final long startTime = System.nanoTime();
+            final int runCount = playRound(survivors, seedsPlayed, seedsPlayed + roundSeeds);
+            final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+            seedsPlayed += roundSeeds;
+
+            System.out.println(String.format("Round %d: %d candidates x %d seeds per scenario, %d runs in %d ms",
+                    round, survivors.size(), seedsPlayed, runCount, elapsedMillis));
+
+            if(!useHalving || survivors.size() <= 2)
+            {
+                break;
+            }
+
+            survivors = halve(survivors, baseline);
+            roundSeeds = seedsPlayed * HALVING_FACTOR - seedsPlayed;
+            round++;
+        }
+
+        return displayResults(candidates, baseline, seedsPlayed);
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Draws the candidates, the default parameters first and then sets drawn uniformly from the range of every
+     * parameter, a set that breaks the rules between the parameters is drawn again
+     *
+     * @return - The candidates
+     */
+    private List<Candidate> drawCandidates()
+    {
+        final Random random = new Random(BASE_SEED);
+        final List<Candidate> response = new ArrayList<>();
+
+        response.add(new Candidate(SimulationParameters.DEFAULTS));
+
+        while(response.size() < samples)
+        {
+            SimulationParameters parameters = SimulationParameters.DEFAULTS;
+
+            for(SimulationParameter parameter : SimulationParameter.values())
+            {
+                parameters = parameters.with(parameter, parameter.getMinValue()
+                        + random.nextInt(parameter.getMaxValue() - parameter.getMinValue() + 1));
+            }
+
+            if(parameters.isConsistent() && !containsParameters(response, parameters))
+            {
+                response.add(new Candidate(parameters));
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Plays a range of seeds on every scenario for every candidate in parallel and adds the results to the candidates
+     *
+     * @param candidates - The candidates to play
+     * @param firstSeed - The first seed number to play
+     * @param endSeed - The seed number to stop at, exclusive
+     *
+     * @return - The number of runs played
+     */
+    private int playRound(final List<Candidate> candidates, final int firstSeed, final int endSeed)
+    {
+        final List<SweepRun> runs = new ArrayList<>();
+
+        for(Candidate candidate : candidates)
+        {
+            for(int scenario = 0; scenario < scenarios.size(); scenario++)
+            {
+                for(int seed = firstSeed; seed < endSeed; seed++)
+                {
+                    runs.add(new SweepRun(candidate, scenario, getSeed(scenario, seed)));
+                }
+            }
+        }
+
+        runInParallel(runs);
+
+        // THE RESULTS ARE ONLY ADDED UP ONCE EVERY RUN IS DONE, SO THE CANDIDATES ARE NEVER SHARED BETWEEN THREADS
+        for(SweepRun run : runs)
+        {
+            if(!run.isFailed)
+            {
+                run.candidate.grassPerTurn.add(run.grassPerTurn);
+            }
+        }
+
+        for(Candidate candidate : candidates)
+        {
+            candidate.seedsPlayed = endSeed;
+        }
+
+        return runs.size();
+    }
+
+    /**
+     * Keeps the best candidates of a round for the next round, the baseline is always kept
+     *
+     * @param candidates - The candidates of the round
+     * @param baseline - The default parameters
+     *
+     * @return - The candidates of the next round
+     */
+    private List<Candidate> halve(final List<Candidate> candidates, final Candidate baseline)
+    {
+        final List<Candidate> ranked = new ArrayList<>(candidates);
+
+        ranked.sort(getRanking());
+
+        final int keep = Math.max(1, (ranked.size() + HALVING_FACTOR - 1) / HALVING_FACTOR);
+        final List<Candidate> response = new ArrayList<>(ranked.subList(0, keep));
+
+        if(!response.contains(baseline))
+        {
+            response.add(baseline);
+        }
+
+        return response;
+    }
+
+    /**
+     * Runs the simulations on a fixed pool, every run fills in its own results so nothing is shared between threads
+     *
+     * @param runs - The runs to make
+     */
+    private void runInParallel(final List<SweepRun> runs)
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for(SweepRun run : runs)
+            {
+                futures.add(executor.submit(run));
+            }
+
+            for(Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("[ERROR] - The sweep was interrupted", e);
+        }
+        catch(ExecutionException e)
+        {
+            throw new RuntimeException("[ERROR] - A sweep run failed unexpectedly", e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Displays the candidates that were played the most ranked by grass cut per turn, along with the best parameters
+     * and how they compare to the baseline
+     *
+     * @param candidates - Every candidate
+     * @param baseline - The default parameters
+     * @param seedsPlayed - The number of seeds the last round played
+     *
+     * @return - The best parameters
+     */
+    private SimulationParameters displayResults(final List<Candidate> candidates,
+                                                final Candidate baseline,
+                                                final int seedsPlayed)
+    {
+        final List<Candidate> finalists = new ArrayList<>();
+
+        for(Candidate candidate : candidates)
+        {
+            // A CANDIDATE THAT WAS DROPPED EARLY HAS A MEAN OVER FEWER RUNS, SO IT IS NOT RANKED AGAINST THE FINALISTS
+            if(candidate.seedsPlayed == seedsPlayed)
+            {
+                finalists.add(candidate);
+            }
+        }
+
+        finalists.sort(getRanking());
+
+        System.out.println(String.format("%n%-4s %6s %-20s %s", "rank", "runs", "grass/turn (95% CI)",
+                "parameters"));
+
+        for(int rank = 0; rank < finalists.size() && rank < DISPLAYED_CANDIDATES; rank++)
+        {
+            final Candidate candidate = finalists.get(rank);
+
+            System.out.println(String.format("%-4d %6d %-20s %s%s",
+                    rank + 1,
+                    candidate.grassPerTurn.getCount(),
+                    String.format("%.3f +- %.3f", candidate.grassPerTurn.getMean(),
+                            candidate.grassPerTurn.getConfidenceHalfWidth()),
+                    candidate == baseline ? "(defaults) " : "",
+                    getChangedParameters(candidate.parameters)));
+        }
+
+        final Candidate best = finalists.get(0);
+
+        System.out.println("\nBest parameters: " + best.parameters);
+        System.out.println(String.format("Grass per turn: %.3f, defaults: %.3f (%+.1f%%)",
+                best.grassPerTurn.getMean(), baseline.grassPerTurn.getMean(),
+                baseline.grassPerTurn.getMean() == 0.0 ? 0.0
+                        : 100.0 * (best.grassPerTurn.getMean() / baseline.grassPerTurn.getMean() - 1)));
+
+        return best.parameters;
+    }
+
+    /**
+     * @return - The parameters that differ from the defaults, so the table only shows what a candidate changes
+     */
+    private String getChangedParameters(final SimulationParameters parameters)
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        for(SimulationParameter parameter : SimulationParameter.values())
+        {
+            if(parameters.get(parameter) != SimulationParameters.DEFAULTS.get(parameter))
+            {
+                sb.append(sb.length() > 0 ? ", " : "").append(parameter.name()).append('=')
+                        .append(parameters.get(parameter));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @return - The order of the candidates from the most to the least grass cut per turn
+     */
+    private static Comparator<Candidate> getRanking()
+    {
+        return Comparator.comparingDouble((Candidate candidate) -> candidate.grassPerTurn.getMean()).reversed();
+    }
+
+    /**
+     * @return - True if one of the candidates already has the parameters, false otherwise
+     */
+    private static boolean containsParameters(final List<Candidate> candidates, final SimulationParameters parameters)
+    {
+        for(Candidate candidate : candidates)
+        {
+            if(candidate.parameters.equals(parameters))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return - The seed of a run, which only depends on the scenario and the seed number so every candidate plays it
+     */
+    private long getSeed(final int scenario, final int seed)
+    {
+        return BASE_SEED + scenario * 1_000_003L + seed;
+    }
+
+    /**
+     * Gets the scenario files of a file or directory, the files in a directory are sorted by name
+     *
+     * @param file - A scenario file or a directory of them
+     *
+     * @return - The scenario files
+     */
+    private static List<File> getScenarioFiles(final File file)
+    {
+        final List<File> response = new ArrayList<>();
+
+        if(file.isDirectory())
+        {
+            final File[] files = file.listFiles((dir, name) -> name.endsWith(SCENARIO_SUFFIX));
+
+            if(files != null)
+            {
+                Arrays.sort(files);
+
+                response.addAll(Arrays.asList(files));
+            }
+        }
+        else{
+            response.add(file);
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A set of parameters and the grass it cut per turn over every run played so far
+     */
+    private static class Candidate
+    {
+        private final SimulationParameters parameters;
+        private final SampleStatistics grassPerTurn;
+
+        private int seedsPlayed;
+
+        private Candidate(final SimulationParameters parameters)
+        {
+            this.parameters = parameters;
+            this.grassPerTurn = new SampleStatistics();
+        }
+    }
+
+    /**
+     * A single simulation of the sweep and its result
+     */
+    private class SweepRun implements Runnable
+    {
+        private final Candidate candidate;
+        private final int scenario;
+        private final long seed;
+
+        private boolean isFailed;
+        private double grassPerTurn;
+
+        private SweepRun(final Candidate candidate, final int scenario, final long seed)
+        {
+            this.candidate = candidate;
+            this.scenario = scenario;
+            this.seed = seed;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                final Simulation simulation = new Simulation(scenarios.get(scenario), false, false, strategy,
+                        new Random(seed), null, candidate.parameters);
+
+                simulation.start();
+
+                // THE GRASS UNDER THE STARTING MOWERS IS CUT AT SETUP FOR EVERY CANDIDATE, SO IT IS NOT SCORED
+                grassPerTurn = (double) (simulation.getTotalGrassCut() - simulation.getSetupGrassCut())
+                        / Math.max(1, simulation.getTurnsTaken());
+            }
+            catch(RuntimeException e)
+            {
+                // A SCENARIO THAT CANNOT BE RUN FAILS FOR EVERY CANDIDATE, SO IT IS LEFT OUT INSTEAD OF STOPPING
+                isFailed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package bench;
+
+/**
+ * Class used to keep the running mean and variance of a sample without holding on to the values, the variance is kept
+ * with Welford's method so it stays accurate over many thousands of runs
+ */
+class SampleStatistics
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final double Z_95 = 1.959964;
+
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    long getCount() {
+        return count;
+    }
+
+    double getMean() {
+        return mean;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Adds a value to the sample
+     *
+     * @param value - The value
+     */
+    void add(final double value)
+    {
+        count++;
+
+        final double delta = value - mean;
+
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+    }
+
+    /**
+     * @return - The sample standard deviation, 0 when the sample has less than 2 values
+     */
+    double getStandardDeviation()
+    {
+        return count < 2 ? 0.0 : Math.sqrt(sumOfSquares / (count - 1));
+    }
+
+    /**
+     * Gets the half width of the 95% confidence interval of the mean, using the normal approximation which holds for
+     * the number of runs a tournament makes
+     *
+     * @return - The half width of the interval
+     */
+    double getConfidenceHalfWidth()
+    {
+        return count < 2 ? 0.0 : Z_95 * getStandardDeviation() / Math.sqrt(count);
+    }
+
+    // STATIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the 95% Wilson score interval of a proportion, which unlike the normal approximation stays inside 0 and 1
+     * when nearly every run succeeds or fails
+     *
+     * @param successes - The number of successes
+     * @param trials - The number of trials
+     *
+     * @return - The lower and upper bound of the interval
+     */
+    static double[] getWilsonInterval(final long successes, final long trials)
+    {
+        if(trials == 0)
+        {
+            return new double[] {0.0, 0.0};
+        }
+
+        final double p = (double) successes / trials;
+        final double z2 = Z_95 * Z_95;
+        final double denominator = 1 + z2 / trials;
+        final double centre = (p + z2 / (2 * trials)) / denominator;
+        final double halfWidth = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+
+        return new double[] {Math.max(0.0, centre - halfWidth), Math.min(1.0, centre + halfWidth)};
+    }
+}
@@ -0,0 +1,595 @@
+package bench;
+
+import mower.MowerStrategyRegistry;
+import sim.Simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool that runs the engine headless on generated lawns of growing size with growing fleets, and reports a matrix of
+ * turns per second, time to the first turn, peak heap, and GC time, so the point where the engine stops scaling can be
+ * found and tracked from one change to the next
+ *
+ * Usage:
+ * ScalingBenchmarks [--sizes=<side>,<side>...] [--fleets=<mowers>,<mowers>...] [--turns=<turns>]
+ *                   [--craters=<density>] [--strategy=<name>] [--timeout=<seconds>] [--heap=<size>] [--csv=<file>]
+ *
+ * Note:
+ * Every cell of the matrix runs in its own JVM, so a lawn that runs out of memory or time only loses its own cell and
+ * the heap and GC numbers of a cell are not mixed up with the ones before it. The lawn is generated by that JVM before
+ * the measurement starts. A cell that fails also skips the cells with a bigger lawn or a bigger fleet, since they
+ * would only fail the same way after using up the whole timeout
+ *
+ * The peak heap is the sum of the peaks of every heap pool, which can be a little more than the heap ever held at once.
+ * Every cell starts from a cold JVM, so the numbers include the JIT warming up the way a single real run would
+ */
+public class ScalingBenchmarks
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String SIZES_OPTION = "--sizes=";
+    private static final String FLEETS_OPTION = "--fleets=";
+    private static final String TURNS_OPTION = "--turns=";
+    private static final String CRATERS_OPTION = "--craters=";
+    private static final String STRATEGY_OPTION = "--strategy=";
+    private static final String TIMEOUT_OPTION = "--timeout=";
+    private static final String HEAP_OPTION = "--heap=";
+    private static final String CSV_OPTION = "--csv=";
+    private static final String CELL_OPTION = "--cell=";
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final String DEFAULT_SIZES = "10,100,1000,10000";
+    private static final String DEFAULT_FLEETS = "1,10,100,1000,10000,100000";
+    private static final int DEFAULT_TURNS = 100;
+    private static final double DEFAULT_CRATER_DENSITY = 0.05;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 60;
+    private static final long SEED = 20261018L;
+
+    private final int turns;
+    private final double craterDensity;
+    private final String strategy;
+    private final long timeoutSeconds;
+    private final String heap;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param turns - The turn limit of every lawn
+     * @param craterDensity - The share of every lawn that is cratered
+     * @param strategy - The strategy of the mowers
+     * @param timeoutSeconds - The time a cell gets before it is stopped
+     * @param heap - The maximum heap of the JVM of a cell, like 4g, null for the default of the JVM
+     */
+    ScalingBenchmarks(final int turns,
+                      final double craterDensity,
+                      final String strategy,
+                      final long timeoutSeconds,
+                      final String heap)
+    {
+        this.turns = turns;
+        this.craterDensity = craterDensity;
+        this.strategy = strategy;
+        this.timeoutSeconds = timeoutSeconds;
+        this.heap = heap;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        String sizesOption = DEFAULT_SIZES;
+        String fleetsOption = DEFAULT_FLEETS;
+        int turns = DEFAULT_TURNS;
+        double craterDensity = DEFAULT_CRATER_DENSITY;
+        String strategy = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
+        String heap = null;
+        String csvFile = null;
+        String cell = null;
+
+        int[] sizes;
+        int[] fleets;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(SIZES_OPTION))
+                {
+                    sizesOption = arg.substring(SIZES_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(FLEETS_OPTION))
+                {
+                    fleetsOption = arg.substring(FLEETS_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(TURNS_OPTION))
+                {
+                    turns = Integer.parseInt(arg.substring(TURNS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(CRATERS_OPTION))
+                {
+                    craterDensity = Double.parseDouble(arg.substring(CRATERS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(STRATEGY_OPTION))
+                {
+                    strategy = arg.substring(STRATEGY_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(TIMEOUT_OPTION))
+                {
+                    timeoutSeconds = Long.parseLong(arg.substring(TIMEOUT_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(HEAP_OPTION))
+                {
+                    heap = arg.substring(HEAP_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(CSV_OPTION))
+                {
+                    csvFile = arg.substring(CSV_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(CELL_OPTION))
+                {
+                    cell = arg.substring(CELL_OPTION.length()).trim();
+                }
+                else{
+                    throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg);
+                }
+            }
+
+            sizes = parseIntegers(sizesOption);
+            fleets = parseIntegers(fleetsOption);
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(turns < 1 || craterDensity < 0 || craterDensity >= 1 || timeoutSeconds < 1)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The lawns need at least 1 turn, a crater density "
+                    + "below 1, and a timeout of at least 1 second");
+        }
+
+        // FAIL BEFORE RUNNING ANYTHING WHEN THE STRATEGY DOES NOT EXIST
+        MowerStrategyRegistry.getProvider(strategy);
+
+        final ScalingBenchmarks benchmarks =
+                new ScalingBenchmarks(turns, craterDensity, strategy, timeoutSeconds, heap);
+
+        // A CELL IS RUN BY ITS OWN JVM, WHICH REPORTS BACK ON STANDARD OUTPUT
+        if(cell != null)
+        {
+            final String[] sizeAndFleet = cell.split(",");
+
+            System.out.println(benchmarks.measureCell(Integer.parseInt(sizeAndFleet[0].trim()),
+                    Integer.parseInt(sizeAndFleet[1].trim())));
+
+            return;
+        }
+
+        System.out.println("Scaling benchmarks: " + turns + " turns, " + Math.round(craterDensity * 100)
+                + "% craters, " + strategy + " strategy, " + timeoutSeconds + " s per cell"
+                + (heap == null ? "" : ", " + heap + " heap"));
+        System.out.println();
+
+        final CellResult[][] results = benchmarks.run(sizes, fleets);
+
+        displayMatrix("turns/s", sizes, fleets, results, 0);
+        displayMatrix("time to first turn (ms)", sizes, fleets, results, 1);
+        displayMatrix("peak heap (MB)", sizes, fleets, results, 2);
+        displayMatrix("gc time (ms)", sizes, fleets, results, 3);
+
+        if(csvFile != null)
+        {
+            writeCsv(new File(csvFile), sizes, fleets, results);
+        }
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs every cell of the matrix in order of lawn size and then fleet size, printing every cell as it finishes
+     *
+     * @param sizes - The sides of the square lawns, in ascending order
+     * @param fleets - The fleet sizes, in ascending order
+     *
+     * @return - The results by lawn size and fleet size
+     */
+    CellResult[][] run(final int[] sizes, final int[] fleets)
+    {
+        final CellResult[][] response = new CellResult[sizes.length][fleets.length];
+
+        for(int i = 0; i < sizes.length; i++)
+        {
+            for(int j = 0; j < fleets.length; j++)
+            {
+                final long area = (long) sizes[i] * sizes[i];
+
+                if(fleets[j] + (long) (area * craterDensity) > area || area > Integer.MAX_VALUE)
+                {
+                    response[i][j] = CellResult.notRun(CellResult.DOES_NOT_FIT);
+                }
+                else if((i > 0 && response[i - 1][j].isFailed()) || (j > 0 && response[i][j - 1].isFailed()))
+                {
+                    response[i][j] = CellResult.notRun(CellResult.SKIPPED);
+                }
+                else{
+                    response[i][j] = runCell(sizes[i], fleets[j]);
+                }
+
+                System.out.println(String.format("  %5d x %-5d lawn, %6d mowers: %s", sizes[i], sizes[i], fleets[j],
+                        response[i][j].getDescription()));
+            }
+        }
+
+        System.out.println();
+
+        return response;
+    }
+
+    /**
+     * Generates a lawn and measures a run of it in the current JVM
+     *
+     * @param size - The side of the square lawn
+     * @param fleet - The number of mowers
+     *
+     * @return - The result line the parent JVM reads back
+     */
+    String measureCell(final int size, final int fleet)
+    {
+        final File file = createScenarioFile();
+
+        new ScenarioGenerator(size, size, fleet, craterDensity, turns).write(file, SEED);
+
+        final Simulation simulation = new Simulation(file, false, false, strategy, new Random(SEED), null);
+
+        // START THE MEASUREMENT FROM A CLEAN HEAP, SO THE GENERATION OF THE LAWN IS NOT COUNTED
+        System.gc();
+
+        final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+        {
+            if(pool.getType() == MemoryType.HEAP)
+            {
+                pool.resetPeakUsage();
+
+                heapPools.add(pool);
+            }
+        }
+
+        final long gcMillisBefore = getGcMillis();
+        final long startTime = System.nanoTime();
+
+        simulation.start();
+
+        final long runNanos = System.nanoTime() - startTime;
+        final long gcMillis = getGcMillis() - gcMillisBefore;
+
+        long peakHeapBytes = 0;
+
+        for(MemoryPoolMXBean pool : heapPools)
+        {
+            peakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+
+        return RESULT_PREFIX + simulation.getSetupNanos() + " " + (runNanos - simulation.getSetupNanos()) + " "
+                + simulation.getTurnsTaken() + " " + peakHeapBytes + " " + gcMillis;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs a cell in its own JVM
+     *
+     * @return - The result of the cell
+     */
+    private CellResult runCell(final int size, final int fleet)
+    {
+        final List<String> command = new ArrayList<>();
+
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+
+        if(heap != null)
+        {
+            command.add("-Xmx" + heap);
+        }
+
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ScalingBenchmarks.class.getName());
+        command.add(CELL_OPTION + size + "," + fleet);
+        command.add(TURNS_OPTION + turns);
+        command.add(CRATERS_OPTION + craterDensity);
+        command.add(STRATEGY_OPTION + strategy);
+
+        File output = null;
+        Process process = null;
+
+        try
+        {
+            output = File.createTempFile("scaling-cell", ".out");
+
+            process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output).start();
+
+            if(!process.waitFor(timeoutSeconds, TimeUnit.SECONDS))
+            {
+                return CellResult.notRun(CellResult.TIMED_OUT);
+            }
+
+            final List<String> lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+
+            for(String line : lines)
+            {
+                if(line.startsWith(RESULT_PREFIX))
+                {
+                    return CellResult.parse(line.substring(RESULT_PREFIX.length()));
+                }
+            }
+
+            for(String line : lines)
+            {
+                if(line.contains("OutOfMemoryError"))
+                {
+                    return CellResult.notRun(CellResult.OUT_OF_MEMORY);
+                }
+            }
+
+            return CellResult.notRun(CellResult.FAILED);
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to run the cell " + size + "x" + size + ", "
+                    + fleet + " mowers | " + e.getMessage(), e);
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("[FATAL ERROR] :: main - Interrupted while running the cells", e);
+        }
+        finally
+        {
+            if(process != null)
+            {
+                process.destroyForcibly();
+            }
+
+            if(output != null && !output.delete())
+            {
+                output.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Prints one of the numbers of every cell as a matrix, lawn sizes down and fleet sizes across
+     */
+    private static void displayMatrix(final String title,
+                                      final int[] sizes,
+                                      final int[] fleets,
+                                      final CellResult[][] results,
+                                      final int column)
+    {
+        final StringBuilder sb = new StringBuilder(String.format("%-24s", title));
+
+        for(int fleet : fleets)
+        {
+            sb.append(String.format(" %12s", fleet + " mowers"));
+        }
+
+        System.out.println(sb);
+
+        for(int i = 0; i < sizes.length; i++)
+        {
+            sb.setLength(0);
+            sb.append(String.format("%-24s", sizes[i] + "x" + sizes[i]));
+
+            for(int j = 0; j < fleets.length; j++)
+            {
+                sb.append(String.format(" %12s", results[i][j].getColumn(column)));
+            }
+
+            System.out.println(sb);
+        }
+
+        System.out.println();
+    }
+
+    /**
+     * Writes every cell as a row of a CSV file, so the numbers can be tracked from one run to the next
+     */
+    private static void writeCsv(final File file, final int[] sizes, final int[] fleets, final CellResult[][] results)
+    {
+        try(PrintWriter writer = new PrintWriter(file, "US-ASCII"))
+        {
+            writer.println("size,mowers,status,turns,turns_per_second,first_turn_ms,peak_heap_mb,gc_ms");
+
+            for(int i = 0; i < sizes.length; i++)
+            {
+                for(int j = 0; j < fleets.length; j++)
+                {
+                    final CellResult result = results[i][j];
+
+                    writer.println(sizes[i] + "," + fleets[j] + "," + result.getStatus() + "," + result.turns + ","
+                            + result.getColumn(0) + "," + result.getColumn(1) + "," + result.getColumn(2) + ","
+                            + result.getColumn(3));
+                }
+            }
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to write " + file, e);
+        }
+    }
+
+    /**
+     * @return - The temporary file the lawn of a cell is written to, it is removed when the JVM exits
+     */
+    private static File createScenarioFile()
+    {
+        try
+        {
+            final File response = File.createTempFile("scaling-lawn", ".csv");
+
+            response.deleteOnExit();
+
+            return response;
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to create a file for the lawn", e);
+        }
+    }
+
+    /**
+     * @return - The time every collector has spent collecting so far
+     */
+    private static long getGcMillis()
+    {
+        long response = 0;
+
+        for(GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            response += Math.max(0, gcBean.getCollectionTime());
+        }
+
+        return response;
+    }
+
+    /**
+     * @return - The comma separated integers of an option
+     */
+    private static int[] parseIntegers(final String option)
+    {
+        final String[] values = option.split(",");
+        final int[] response = new int[values.length];
+
+        for(int i = 0; i < values.length; i++)
+        {
+            response[i] = Integer.parseInt(values[i].trim());
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * The measurement of one lawn size and fleet size, or the reason it has none
+     */
+    static class CellResult
+    {
+        static final String DOES_NOT_FIT = "-";
+        static final String SKIPPED = "skipped";
+        static final String TIMED_OUT = "timeout";
+        static final String OUT_OF_MEMORY = "oom";
+        static final String FAILED = "failed";
+
+        private final String status;
+        private final long setupNanos;
+        private final long turnNanos;
+        private final int turns;
+        private final long peakHeapBytes;
+        private final long gcMillis;
+
+        private CellResult(final String status,
+                           final long setupNanos,
+                           final long turnNanos,
+                           final int turns,
+                           final long peakHeapBytes,
+                           final long gcMillis)
+        {
+            this.status = status;
+            this.setupNanos = setupNanos;
+            this.turnNanos = turnNanos;
+            this.turns = turns;
+            this.peakHeapBytes = peakHeapBytes;
+            this.gcMillis = gcMillis;
+        }
+
+        static CellResult notRun(final String status)
+        {
+            return new CellResult(status, 0, 0, 0, 0, 0);
+        }
+
+        /**
+         * @param line - The result line of a cell without its prefix
+         */
+        static CellResult parse(final String line)
+        {
+            final String[] values = line.trim().split(" ");
+
+            return new CellResult("ok",
+                    Long.parseLong(values[0]),
+                    Long.parseLong(values[1]),
+                    Integer.parseInt(values[2]),
+                    Long.parseLong(values[3]),
+                    Long.parseLong(values[4]));
+        }
+
+        String getStatus() {
+            return status;
+        }
+
+        /**
+         * @return - True if the cell was run and did not finish, or was skipped because a smaller cell did not
+         */
+        boolean isFailed()
+        {
+            return !status.equals("ok") && !status.equals(DOES_NOT_FIT);
+        }
+
+        /**
+         * @param column - 0 for turns per second, 1 for the time to the first turn, 2 for the peak heap, 3 for the
+         *                 GC time
+         *
+         * @return - The number formatted for the report, or the status when the cell has no numbers
+         */
+        String getColumn(final int column)
+        {
+            if(!status.equals("ok"))
+            {
+                return status;
+            }
+
+            String response;
+
+            if(column == 0)
+            {
+                response = turns == 0 ? "0" : String.format("%.4g", turns * 1e9 / Math.max(1, turnNanos));
+            }
+            else if(column == 1)
+            {
+                response = String.format("%.1f", setupNanos / 1e6);
+            }
+            else if(column == 2)
+            {
+                response = String.format("%.1f", peakHeapBytes / (1024.0 * 1024.0));
+            }
+            else{
+                response = String.valueOf(gcMillis);
+            }
+
+            return response;
+        }
+
+        String getDescription()
+        {
+            return status.equals("ok")
+                    ? turns + " turns at " + getColumn(0) + " turns/s, first turn after " + getColumn(1) + " ms, "
+                            + getColumn(2) + " MB peak heap, " + getColumn(3) + " ms gc"
+                    : status;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package bench;
+
+import constant.Direction;
+import sim.ScenarioDefinition;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Class used to write simulation files for lawns of any size, so the benchmarks do not depend on the handful of
+ * small scenarios that ship with the project. The same seed always writes the same lawn
+ *
+ * Note:
+ * Lawns of up to a few million squares are placed with a shuffle of every square. Larger lawns are placed by picking
+ * squares at random until enough distinct ones are found, so a 10k x 10k lawn does not need an array of every square
+ */
+class ScenarioGenerator
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int MAX_SHUFFLED_AREA = 1 << 22;
+
+    private final int width;
+    private final int height;
+    private final int mowerCount;
+    private final double craterDensity;
+    private final int maxTurns;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param width - The width of the lawn
+     * @param height - The height of the lawn
+     * @param mowerCount - The number of strategic mowers
+     * @param craterDensity - The share of the lawn that is cratered, between 0 and 1
+     * @param maxTurns - The turn limit of the simulation
+     *
+     * @throws RuntimeException - When the mowers and craters do not fit on the lawn
+     */
+    ScenarioGenerator(final int width,
+                      final int height,
+                      final int mowerCount,
+                      final double craterDensity,
+                      final int maxTurns)
+    {
+        if(width < 1 || height < 1 || mowerCount < 1 || craterDensity < 0 || craterDensity >= 1
+                || mowerCount + (int) (width * height * craterDensity) > width * height)
+        {
+            final String errorMsg = "[ERROR] - The mowers and craters do not fit on a " + width + "x" + height
+                    + " lawn";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.mowerCount = mowerCount;
+        this.craterDensity = craterDensity;
+        this.maxTurns = maxTurns;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param maxTurns - The turn limit of the new lawn
+     *
+     * @return - The same lawn with a different turn limit
+     */
+    ScenarioGenerator withMaxTurns(final int maxTurns)
+    {
+        return new ScenarioGenerator(width, height, mowerCount, craterDensity, maxTurns);
+    }
+
+    /**
+     * Places the mowers and craters of a lawn on distinct squares at random
+     *
+     * @param seed - The seed of the placement
+     *
+     * @return - The scenario, ready to be run without writing a file
+     */
+    ScenarioDefinition generate(final long seed)
+    {
+        final Random random = new Random(seed);
+        final int craterCount = (int) (width * height * craterDensity);
+        final int[] squares = placeSquares(random, mowerCount + craterCount);
+        final ScenarioDefinition.Builder builder = ScenarioDefinition.builder(width, height)
+                .setName(width + "x" + height + "-" + seed)
+                .setMaxTurns(maxTurns);
+
+        for(int i = 0; i < mowerCount; i++)
+        {
+            final int square = squares[i];
+
+            builder.addMower(square % width, square / width, Direction.getDirectionByIndex(random.nextInt(8)), true);
+        }
+
+        for(int i = mowerCount; i < mowerCount + craterCount; i++)
+        {
+            final int square = squares[i];
+
+            builder.addCrater(square % width, square / width);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Writes the simulation file of a lawn, the mowers and craters are placed on distinct squares at random
+     *
+     * @param file - The file to write
+     * @param seed - The seed of the placement
+     *
+     * @return - The file
+     *
+     * @throws RuntimeException - When the file can not be written
+     */
+    File write(final File file, final long seed)
+    {
+        final ScenarioDefinition scenario = generate(seed);
+
+        try(PrintWriter writer = new PrintWriter(file, "US-ASCII"))
+        {
+            writer.println(width);
+            writer.println(height);
+            writer.println(mowerCount);
+
+            for(ScenarioDefinition.MowerDefinition mower : scenario.getMowers())
+            {
+                writer.println(mower.getXCoordinate() + "," + mower.getYCoordinate() + ","
+                        + mower.getDirection().name().toLowerCase() + ",1");
+            }
+
+            writer.println(scenario.getCraterCount());
+
+            for(int i = 0; i < scenario.getCraterCount(); i++)
+            {
+                writer.println(scenario.getCraterXCoordinate(i) + "," + scenario.getCraterYCoordinate(i));
+            }
+
+            writer.println(maxTurns);
+        }
+        catch(IOException e)
+        {
+            final String errorMsg = "[ERROR] - Unable to write the scenario " + file;
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e);
+        }
+
+        return file;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Picks distinct squares of the lawn at random
+     *
+     * @param random - The source of the placement
+     * @param count - The number of squares to pick
+     *
+     * @return - The indexes of the squares, row by row from the bottom left corner
+     */
+    private int[] placeSquares(final Random random, final int count)
+    {
+        final int area = width * height;
+        final int[] response;
+
+        if(area <= MAX_SHUFFLED_AREA)
+        {
+            response = new int[area];
+
+            for(int i = 0; i < area; i++)
+            {
+                response[i] = i;
+            }
+
+            // THE SAME SWAPS AS COLLECTIONS.SHUFFLE, SO A SEED PLACES A LAWN THE WAY IT ALWAYS HAS
+            for(int i = area; i > 1; i--)
+            {
+                final int j = random.nextInt(i);
+                final int square = response[i - 1];
+
+                response[i - 1] = response[j];
+                response[j] = square;
+            }
+        }
+        else{
+            final BitSet isTaken = new BitSet(area);
+
+            response = new int[count];
+
+            for(int i = 0; i < count; i++)
+            {
+                int square = random.nextInt(area);
+
+                while(isTaken.get(square))
+                {
+                    square = random.nextInt(area);
+                }
+
+                isTaken.set(square);
+
+                response[i] = square;
+            }
+        }
+
+        return response;
+    }
+
+    @Override
+    public String toString()
+    {
+        return width + "x" + height + " lawn, " + mowerCount + " mowers, " + Math.round(craterDensity * 100)
+                + "% craters, " + maxTurns + " turns";
+    }
+}
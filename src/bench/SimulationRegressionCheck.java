@@ -0,0 +1,279 @@
+package bench;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import constant.MowerMovementType;
+import lawn.LawnKnowledgeMap;
+import mower.Mower;
+import mower.MowerMove;
+import sim.ScenarioDefinition;
+import sim.Simulation;
+import sim.SimulationStep;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tool that runs small seeded simulations and checks behavior that has gone wrong before, so a fix stays fixed. It is
+ * meant to be run by the build next to the allocation budget check, the exit status is 1 when any check fails
+ *
+ * Usage:
+ * SimulationRegressionCheck
+ */
+public class SimulationRegressionCheck
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final long SEED = 20261018L;
+
+    // INTERFACES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A check that throws when the behavior it covers is broken
+     */
+    private interface Check
+    {
+        void run();
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        final Map<String, Check> checks = new LinkedHashMap<>();
+        final List<String> failures = new ArrayList<>();
+
+        checks.put("step after start is rejected", SimulationRegressionCheck::checkStepAfterStart);
+        checks.put("step after the end is rejected", SimulationRegressionCheck::checkStepAfterEnd);
+        checks.put("shared mower next to a strategic mower is kept",
+                SimulationRegressionCheck::checkSharedMowerNextToStrategicMower);
+        checks.put("random mower has no risk profile", SimulationRegressionCheck::checkRandomMowerHasNoRiskProfile);
+        checks.put("two mowers on one start square are rejected", SimulationRegressionCheck::checkSharedStartSquare);
+        checks.put("mower on a crater is rejected", SimulationRegressionCheck::checkMowerOnCrater);
+
+        for(Map.Entry<String, Check> check : checks.entrySet())
+        {
+            String result;
+
+            try
+            {
+                check.getValue().run();
+
+                result = "ok";
+            }
+            catch(RuntimeException | AssertionError e)
+            {
+                result = "FAILED - " + e;
+
+                failures.add(check.getKey());
+            }
+
+            System.out.println(String.format("%-48s %s", check.getKey(), result));
+        }
+
+        if(!failures.isEmpty())
+        {
+            System.out.println();
+            System.out.println("[ERROR] - Failed checks: " + failures);
+
+            System.exit(1);
+        }
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A simulation that was run to the end with start has no step recorder, stepping it has to fail with an error
+     * instead of a null pointer
+     */
+    private static void checkStepAfterStart()
+    {
+        final Simulation simulation = createSimulation(createOpenLawn(), "risk-profile");
+
+        simulation.start();
+
+        expectRejectedStep(simulation, "has already been started");
+    }
+
+    /**
+     * A stepped simulation that has ended can not be stepped again
+     */
+    private static void checkStepAfterEnd()
+    {
+        final Simulation simulation = createSimulation(createOpenLawn(), "risk-profile");
+
+        SimulationStep step = simulation.step(0);
+
+        while(!step.isFinished())
+        {
+            step = simulation.step(50);
+        }
+
+        expectRejectedStep(simulation, "has already been ended");
+    }
+
+    /**
+     * A non-strategic mower never reserves its square, so the reservation overlay must not turn the square the shared
+     * knowledge map reports it on back to UNKNOWN, or the strategic mower next to it skips its scan and ranks its
+     * moves as if the square could be free
+     */
+    private static void checkSharedMowerNextToStrategicMower()
+    {
+        final ScenarioDefinition scenario = ScenarioDefinition.builder(5, 5)
+                .setName("shared-neighbor")
+                .addMower(2, 2, Direction.EAST, true)
+                .addMower(3, 2, Direction.NORTH, false)
+                .setMaxTurns(10)
+                .build();
+        final Simulation simulation = Simulation.builder(scenario)
+                .setStrategyName("low-risk")
+                .setUseSharedKnowledge(true)
+                .setRandom(new Random(SEED))
+                .build();
+
+        simulation.step(0);
+
+        final Mower mower = simulation.getMowers().get(0);
+        final LawnKnowledgeMap knowledgeMap = simulation.getKnowledgeMap();
+
+        // EVERY SQUARE AROUND THE STRATEGIC MOWER HAS BEEN OBSERVED, THE ONE TO THE EAST HOLDS THE OTHER MOWER
+        for(Direction direction : Direction.values())
+        {
+            knowledgeMap.recordObservation(2 + direction.getxIncrement(), 2 + direction.getyIncrement(),
+                    direction == Direction.EAST ? LawnSquareContent.MOWER : LawnSquareContent.GRASS, 0);
+        }
+
+        final MowerMove move = mower.determineMove();
+        final LawnSquareContent east = mower.getSurroundingSquares().get(Direction.EAST.getIndex());
+
+        if(east != LawnSquareContent.MOWER)
+        {
+            throw new AssertionError("The square of the other mower was overlaid as " + east);
+        }
+
+        if(move.getMowerMovementType() == MowerMovementType.MOVE
+                && move.getNewXCoordinate() == 3 && move.getNewYCoordinate() == 2)
+        {
+            throw new AssertionError("The strategic mower moved onto the other mower");
+        }
+    }
+
+    /**
+     * A mower that is not strategic moves at random, so the risk-profile strategy must not determine a profile for it
+     * and print a change of it in the readout
+     */
+    private static void checkRandomMowerHasNoRiskProfile()
+    {
+        final ScenarioDefinition scenario = ScenarioDefinition.builder(6, 5)
+                .setName("random-mower")
+                .addMower(0, 0, Direction.NORTH, false)
+                .addCrater(3, 2)
+                .setMaxTurns(20)
+                .build();
+        final ByteArrayOutputStream readout = new ByteArrayOutputStream();
+        final Simulation simulation = Simulation.builder(scenario)
+                .setStrategyName("risk-profile")
+                .setDisplayPretty(true)
+                .setOutput(new PrintStream(readout, true))
+                .setRandom(new Random(SEED))
+                .build();
+
+        simulation.start();
+
+        if(new String(readout.toByteArray(), StandardCharsets.UTF_8).contains("Risk Profile"))
+        {
+            throw new AssertionError("The readout shows a risk profile for a random mower");
+        }
+
+        if(simulation.getMowers().get(0).getLastRiskProfile() != null)
+        {
+            throw new AssertionError("A risk profile was determined for a random mower");
+        }
+    }
+
+    /**
+     * Two mowers on the same start square would have the square counted as cut twice at setup
+     */
+    private static void checkSharedStartSquare()
+    {
+        expectRejectedScenario(ScenarioDefinition.builder(5, 5)
+                .setName("shared-start")
+                .addMower(1, 1, Direction.NORTH, true)
+                .addMower(1, 1, Direction.SOUTH, false)
+                .setMaxTurns(10), "can not start on the same square");
+    }
+
+    /**
+     * A mower that starts on a crater would have the crater counted as cut grass at setup
+     */
+    private static void checkMowerOnCrater()
+    {
+        expectRejectedScenario(ScenarioDefinition.builder(5, 5)
+                .setName("crater-start")
+                .addMower(2, 3, Direction.EAST, true)
+                .addCrater(2, 3)
+                .setMaxTurns(10), "can not start on a crater");
+    }
+
+    private static void expectRejectedScenario(final ScenarioDefinition.Builder builder, final String expectedMessage)
+    {
+        try
+        {
+            builder.build();
+        }
+        catch(RuntimeException e)
+        {
+            if(e.getMessage() == null || !e.getMessage().contains(expectedMessage))
+            {
+                throw new AssertionError("The scenario failed with " + e + " instead of \"" + expectedMessage + "\"");
+            }
+
+            return;
+        }
+
+        throw new AssertionError("The scenario was built");
+    }
+
+    private static void expectRejectedStep(final Simulation simulation, final String expectedMessage)
+    {
+        try
+        {
+            simulation.step(1);
+        }
+        catch(RuntimeException e)
+        {
+            if(e.getMessage() == null || !e.getMessage().contains(expectedMessage))
+            {
+                throw new AssertionError("The step failed with " + e + " instead of \"" + expectedMessage + "\"");
+            }
+
+            return;
+        }
+
+        throw new AssertionError("The step was taken");
+    }
+
+    private static ScenarioDefinition createOpenLawn()
+    {
+        return ScenarioDefinition.builder(6, 5)
+                .setName("open-lawn")
+                .addMower(0, 0, Direction.NORTH, true)
+                .addCrater(3, 2)
+                .setMaxTurns(60)
+                .build();
+    }
+
+    private static Simulation createSimulation(final ScenarioDefinition scenario, final String strategy)
+    {
+        return Simulation.builder(scenario)
+                .setStrategyName(strategy)
+                .setRandom(new Random(SEED))
+                .build();
+    }
+}
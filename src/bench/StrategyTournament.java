@@ -0,0 +1,416 @@
+package bench;
+
+import mower.MowerStrategyRegistry;
+import sim.Simulation;
+import sim.TelemetryServer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tool that plays every registered strategy against every scenario with many seeds and ranks the strategies by the
+ * grass they cut per turn, how often they finish the lawn, and how many mowers they lose
+ *
+ * Usage:
+ * StrategyTournament [--seeds=<count>] [--strategies=<name>,<name>] [--threads=<count>] [--telemetry=<port>]
+ *                    [<file or directory>...]
+ *
+ * Note:
+ * Every strategy plays the same seeds on every scenario, so the strategies are compared on the same runs of luck.
+ * The simulations run without a readout on a pool with one thread per core by default. The grass cut at setup under
+ * the starting mowers is the same for every strategy, so only the grass cut in the turns is scored
+ */
+public class StrategyTournament
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String SEEDS_OPTION = "--seeds=";
+    private static final String STRATEGIES_OPTION = "--strategies=";
+    private static final String THREADS_OPTION = "--threads=";
+    private static final String TELEMETRY_OPTION = "--telemetry=";
+    private static final String DEFAULT_SCENARIO_DIRECTORY = "scenarios";
+    private static final String SCENARIO_SUFFIX = ".csv";
+    private static final int DEFAULT_SEEDS = 20;
+    private static final long BASE_SEED = 20261018L;
+
+    private final List<String> strategies;
+    private final List<File> scenarios;
+    private final int seeds;
+    private final int threads;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public StrategyTournament(final List<String> strategies,
+                              final List<File> scenarios,
+                              final int seeds,
+                              final int threads)
+    {
+        this.strategies = strategies;
+        this.scenarios = scenarios;
+        this.seeds = seeds;
+        this.threads = threads;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        List<String> strategies = MowerStrategyRegistry.getStrategyNames();
+        List<File> scenarios = new ArrayList<>();
+        int seeds = DEFAULT_SEEDS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int telemetryPort = -1;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(SEEDS_OPTION))
+                {
+                    seeds = Integer.parseInt(arg.substring(SEEDS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(STRATEGIES_OPTION))
+                {
+                    strategies = Arrays.asList(arg.substring(STRATEGIES_OPTION.length()).split(","));
+                }
+                else if(arg.startsWith(THREADS_OPTION))
+                {
+                    threads = Integer.parseInt(arg.substring(THREADS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(TELEMETRY_OPTION))
+                {
+                    telemetryPort = Integer.parseInt(arg.substring(TELEMETRY_OPTION.length()).trim());
+                }
+                else{
+                    scenarios.addAll(getScenarioFiles(new File(arg.trim())));
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(scenarios.isEmpty())
+        {
+            scenarios.addAll(getScenarioFiles(new File(DEFAULT_SCENARIO_DIRECTORY)));
+        }
+
+        if(seeds < 1 || threads < 1 || scenarios.isEmpty())
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - The tournament needs at least 1 seed, 1 thread, "
+                    + "and 1 scenario");
+        }
+
+        // FAIL BEFORE RUNNING ANYTHING WHEN A STRATEGY DOES NOT EXIST
+        for(String strategy : strategies)
+        {
+            MowerStrategyRegistry.getProvider(strategy);
+        }
+
+        final TelemetryServer telemetryServer = telemetryPort < 0 ? null : TelemetryServer.start(telemetryPort);
+
+        if(telemetryServer != null)
+        {
+            System.out.println("Serving telemetry on port " + telemetryServer.getPort() + "\n");
+        }
+
+        try
+        {
+            new StrategyTournament(strategies, scenarios, seeds, threads).run();
+        }
+        finally
+        {
+            if(telemetryServer != null)
+            {
+                telemetryServer.stop();
+            }
+        }
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs every strategy on every scenario with every seed and prints the ranking
+     */
+    public void run()
+    {
+        final List<TournamentRun> runs = new ArrayList<>();
+
+        for(String strategy : strategies)
+        {
+            for(int scenario = 0; scenario < scenarios.size(); scenario++)
+            {
+                for(int seed = 0; seed < seeds; seed++)
+                {
+                    runs.add(new TournamentRun(strategy, scenario, getSeed(scenario, seed)));
+                }
+            }
+        }
+
+        final long startTime = System.nanoTime();
+
+        runInParallel(runs);
+
+        final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        System.out.println("Strategy tournament: " + strategies.size() + " strategies x " + scenarios.size()
+                + " scenarios x " + seeds + " seeds = " + runs.size() + " runs on " + threads + " threads in "
+                + elapsedMillis + " ms\n");
+
+        displayRanking(runs);
+        displayScenarioTable(runs);
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs the simulations on a fixed pool, every run fills in its own results so nothing is shared between threads
+     *
+     * @param runs - The runs to make
+     */
+    private void runInParallel(final List<TournamentRun> runs)
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for(TournamentRun run : runs)
+            {
+                futures.add(executor.submit(run));
+            }
+
+            for(Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("[ERROR] - The tournament was interrupted", e);
+        }
+        catch(ExecutionException e)
+        {
+            throw new RuntimeException("[ERROR] - A tournament run failed unexpectedly", e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Displays the strategies ranked by grass cut per turn with the 95% confidence intervals of every measure
+     */
+    private void displayRanking(final List<TournamentRun> runs)
+    {
+        final List<String> ranked = new ArrayList<>(strategies);
+        final List<SampleStatistics> grassPerTurn = new ArrayList<>();
+
+        for(String strategy : strategies)
+        {
+            grassPerTurn.add(getGrassPerTurn(runs, strategy, -1));
+        }
+
+        ranked.sort(Comparator.comparingDouble(
+                (String strategy) -> grassPerTurn.get(strategies.indexOf(strategy)).getMean()).reversed());
+
+        System.out.println(String.format("%-4s %-14s %6s %-24s %-24s %-24s %6s",
+                "rank", "strategy", "runs", "grass/turn (95% CI)", "completion (95% CI)", "mowers lost (95% CI)",
+                "failed"));
+
+        for(int rank = 0; rank < ranked.size(); rank++)
+        {
+            final String strategy = ranked.get(rank);
+            final SampleStatistics grass = grassPerTurn.get(strategies.indexOf(strategy));
+            final SampleStatistics lost = new SampleStatistics();
+
+            long completed = 0;
+            long failed = 0;
+
+            for(TournamentRun run : runs)
+            {
+                if(!run.strategy.equals(strategy))
+                {
+                    continue;
+                }
+
+                if(run.isFailed)
+                {
+                    failed++;
+                }
+                else{
+                    lost.add(run.mowersLost);
+
+                    if(run.isCompleted)
+                    {
+                        completed++;
+                    }
+                }
+            }
+
+            final double[] completion = SampleStatistics.getWilsonInterval(completed, grass.getCount());
+
+            System.out.println(String.format("%-4d %-14s %6d %-24s %-24s %-24s %6d",
+                    rank + 1,
+                    strategy,
+                    grass.getCount(),
+                    String.format("%.3f +- %.3f", grass.getMean(), grass.getConfidenceHalfWidth()),
+                    String.format("%.1f%% [%.1f, %.1f]",
+                            grass.getCount() == 0 ? 0.0 : 100.0 * completed / grass.getCount(),
+                            100.0 * completion[0], 100.0 * completion[1]),
+                    String.format("%.2f +- %.2f", lost.getMean(), lost.getConfidenceHalfWidth()),
+                    failed));
+        }
+    }
+
+    /**
+     * Displays the mean grass cut per turn of every strategy on every scenario
+     */
+    private void displayScenarioTable(final List<TournamentRun> runs)
+    {
+        final StringBuilder header = new StringBuilder(String.format("%n%-20s", "grass/turn"));
+
+        for(String strategy : strategies)
+        {
+            header.append(String.format(" %14s", strategy));
+        }
+
+        System.out.println(header.toString());
+
+        for(int scenario = 0; scenario < scenarios.size(); scenario++)
+        {
+            final StringBuilder row = new StringBuilder(String.format("%-20s", scenarios.get(scenario).getName()));
+
+            for(String strategy : strategies)
+            {
+                final SampleStatistics grass = getGrassPerTurn(runs, strategy, scenario);
+
+                row.append(grass.getCount() == 0 ? String.format(" %14s", "failed")
+                        : String.format(" %14.3f", grass.getMean()));
+            }
+
+            System.out.println(row.toString());
+        }
+    }
+
+    /**
+     * Gets the grass cut per turn of the runs of a strategy that did not fail
+     *
+     * @param runs - Every run of the tournament
+     * @param strategy - The strategy
+     * @param scenario - The index of the scenario, -1 for every scenario
+     *
+     * @return - The statistics of the grass cut per turn
+     */
+    private SampleStatistics getGrassPerTurn(final List<TournamentRun> runs, final String strategy, final int scenario)
+    {
+        final SampleStatistics response = new SampleStatistics();
+
+        for(TournamentRun run : runs)
+        {
+            if(run.strategy.equals(strategy) && !run.isFailed && (scenario < 0 || run.scenario == scenario))
+            {
+                response.add(run.grassPerTurn);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * @return - The seed of a run, which only depends on the scenario and the seed number so every strategy plays it
+     */
+    private long getSeed(final int scenario, final int seed)
+    {
+        return BASE_SEED + scenario * 1_000_003L + seed;
+    }
+
+    /**
+     * Gets the scenario files of a file or directory, the files in a directory are sorted by name
+     *
+     * @param file - A scenario file or a directory of them
+     *
+     * @return - The scenario files
+     */
+    private static List<File> getScenarioFiles(final File file)
+    {
+        final List<File> response = new ArrayList<>();
+
+        if(file.isDirectory())
+        {
+            final File[] files = file.listFiles((dir, name) -> name.endsWith(SCENARIO_SUFFIX));
+
+            if(files != null)
+            {
+                Arrays.sort(files);
+
+                response.addAll(Arrays.asList(files));
+            }
+        }
+        else{
+            response.add(file);
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A single simulation of the tournament and its results
+     */
+    private class TournamentRun implements Runnable
+    {
+        private final String strategy;
+        private final int scenario;
+        private final long seed;
+
+        private boolean isFailed;
+        private boolean isCompleted;
+        private double grassPerTurn;
+        private int mowersLost;
+
+        private TournamentRun(final String strategy, final int scenario, final long seed)
+        {
+            this.strategy = strategy;
+            this.scenario = scenario;
+            this.seed = seed;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                final Simulation simulation = new Simulation(scenarios.get(scenario), false, false, strategy,
+                        new Random(seed), null);
+
+                simulation.start();
+
+                isCompleted = simulation.getTotalGrassCut() == simulation.getStartingGrassToCut();
+                // THE GRASS UNDER THE STARTING MOWERS IS CUT AT SETUP FOR EVERY STRATEGY, SO IT IS NOT SCORED
+                grassPerTurn = (double) (simulation.getTotalGrassCut() - simulation.getSetupGrassCut())
+                        / Math.max(1, simulation.getTurnsTaken());
+                mowersLost = simulation.getMowerCount() - simulation.getActiveMowers();
+            }
+            catch(RuntimeException e)
+            {
+                // A SCENARIO THAT CANNOT BE RUN IS COUNTED AGAINST THE STRATEGY INSTEAD OF STOPPING THE TOURNAMENT
+                isFailed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package constant;
+
+/**
+ * Enum that represents what a mower ran into when a move ended its run
+ */
+public enum CollisionCause
+{
+    FENCE,  // ALSO USED FOR MOVES OFF OF THE LAWN
+    CRATER,
+    MOWER
+}
@@ -21,6 +21,9 @@ public enum Direction
 
     // FIELDS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // VALUES() CLONES THE ARRAY ON EVERY CALL, THE LOOKUPS ARE MADE EVERY TURN SO THEY SHARE THIS COPY
+    private static final Direction[] DIRECTIONS = values();
+
     private final int index;
     private final int xIncrement;
     private final int yIncrement;
@@ -58,12 +61,26 @@ public enum Direction
      * @return - The direction
      */
     public static Direction getDirectionByIndex(final int index)
+    {
+        // THE VALUES ARE DECLARED IN INDEX ORDER
+        return index >= 0 && index < DIRECTIONS.length ? DIRECTIONS[index] : null;
+    }
+
+    /**
+     * Gets a direction based on the x and y increments of a single step
+     *
+     * @param xIncrement - The x increment, between -1 and 1
+     * @param yIncrement - The y increment, between -1 and 1
+     *
+     * @return - The direction, null if the increments do not represent a single step
+     */
+    public static Direction getDirectionByIncrements(final int xIncrement, final int yIncrement)
     {
         Direction result = null;
 
-        for(Direction direction : values())
+        for(Direction direction : DIRECTIONS)
         {
-            if(direction.index == index)
+            if(direction.xIncrement == xIncrement && direction.yIncrement == yIncrement)
             {
                 result = direction;
             }
@@ -0,0 +1,20 @@
+package constant;
+
+/**
+ * Enum that represents where a simulation job submitted to the job service is in its life
+ */
+public enum SimulationJobStatus
+{
+    QUEUED,
+    RUNNING,
+    FINISHED,
+    FAILED;
+
+    /**
+     * @return - True if the job will not change anymore
+     */
+    public boolean isDone()
+    {
+        return this == FINISHED || this == FAILED;
+    }
+}
@@ -0,0 +1,51 @@
+package constant;
+
+/**
+ * Enum that represents the tunable thresholds the mowers and the simulation decide with, along with their default
+ * value and the range a parameter sweep is allowed to explore
+ */
+public enum SimulationParameter
+{
+    // VALUES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    LOW_RISK_MAX_UNKNOWN_SQUARES(3, 1, 9),
+    LOW_RISK_MAX_TURNS_SINCE_LAST_SCAN(2, 1, 10),
+    MEDIUM_RISK_MAX_UNKNOWN_SQUARES(5, 1, 9),
+    MEDIUM_RISK_MAX_TURNS_SINCE_LAST_SCAN(3, 1, 10),
+    HIGH_RISK_MAX_UNKNOWN_SQUARES(5, 1, 9),
+    HIGH_RISK_MAX_TURNS_SINCE_LAST_SCAN(3, 1, 10),
+    RANDOM_PASS_PERCENT(11, 0, 100),    // THE RANDOM MOVE PERCENTAGES CAN NOT ADD UP TO MORE THAN 100, THE REST STEER
+    RANDOM_MOVE_PERCENT(35, 0, 100),
+    RANDOM_SCAN_PERCENT(20, 0, 100),
+    LOW_RISK_FACTOR(5, 1, 12),          // TURNS PER GRASS SQUARE AT OR ABOVE WHICH A MOWER PLAYS IT SAFE
+    MEDIUM_RISK_FACTOR(3, 0, 12);       // TURNS PER GRASS SQUARE BELOW WHICH A MOWER TAKES HIGH RISKS
+
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final int defaultValue;
+    private final int minValue;
+    private final int maxValue;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationParameter(final int defaultValue, final int minValue, final int maxValue)
+    {
+        this.defaultValue = defaultValue;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    public int getMinValue() {
+        return minValue;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+}
@@ -0,0 +1,12 @@
+package constant;
+
+/**
+ * Enum that represents why a simulation stopped taking turns
+ */
+public enum SimulationTerminationReason
+{
+    LAWN_CUT,           // EVERY SQUARE OF GRASS WAS CUT
+    NO_ACTIVE_MOWERS,   // EVERY MOWER WAS DISABLED
+    TURN_LIMIT,         // THE TURNS RAN OUT WITH GRASS LEFT THAT COULD STILL BE REACHED
+    GRASS_UNREACHABLE   // NO MOWER THAT IS LEFT CAN GET TO THE GRASS THAT IS LEFT
+}
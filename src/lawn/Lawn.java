@@ -16,6 +16,7 @@ public class Lawn
     private final int xLength;
     private final int yLength;
     private final List<LawnSquare> lawnSquares;
+    private final LawnSquare[] lawnSquaresByIndex; // INDEXED BY x + y * xLength SO A LOOKUP IS NOT A SEARCH
 
     // CONSTRUCTORS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -23,7 +24,8 @@ public class Lawn
     {
         this.xLength = xLength;
         this.yLength = yLength;
-        this.lawnSquares = new ArrayList<>();
+        this.lawnSquares = new ArrayList<>(xLength * yLength);
+        this.lawnSquaresByIndex = new LawnSquare[xLength * yLength];
     }
 
     // ACCESS METHODS
@@ -33,6 +35,14 @@ public class Lawn
         return lawnSquares;
     }
 
+    public int getxLength() {
+        return xLength;
+    }
+
+    public int getyLength() {
+        return yLength;
+    }
+
     // CUSTOM PUBLIC METHODS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
@@ -45,17 +55,12 @@ public class Lawn
      */
     public LawnSquare getLawnSquareByCoordinates(final int x, final int y)
     {
-        LawnSquare result = null;
-
-        for(LawnSquare lawnSquare : lawnSquares)
+        if(x < 0 || x >= xLength || y < 0 || y >= yLength)
         {
-            if(lawnSquare.getxCoordinate() == x && lawnSquare.getyCoordinate() == y)
-            {
-                result = lawnSquare;
-            }
+            return null;
         }
 
-        return result;
+        return lawnSquaresByIndex[x + y * xLength];
     }
 
     /**
@@ -63,20 +68,30 @@ public class Lawn
      *
      * @param square - The lawn square to add to the model
      *
-     * @throws RuntimeException - When trying to add a null square to the model
+     * @throws RuntimeException - When trying to add a null square or a square off the lawn to the model
      */
     public void addLawnSquare(final LawnSquare square)
     {
-        if(square != null)
+        if(square == null)
         {
-            lawnSquares.add(square);
-        }
-        else{
             final String errorMsg = "[ERROR] - Cannot add a null square to the lawn model";
 
             System.out.println(errorMsg);
 
             throw new RuntimeException(errorMsg);
         }
+        else if(square.getxCoordinate() < 0 || square.getxCoordinate() >= xLength
+                || square.getyCoordinate() < 0 || square.getyCoordinate() >= yLength)
+        {
+            final String errorMsg = "[ERROR] - Cannot add the square (" + square.getxCoordinate() + ","
+                    + square.getyCoordinate() + ") to a " + xLength + "x" + yLength + " lawn model";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        lawnSquares.add(square);
+        lawnSquaresByIndex[square.getxCoordinate() + square.getyCoordinate() * xLength] = square;
     }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package lawn;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+
+import java.util.Arrays;
+
+/**
+ * Class used to split the lawn into the areas a mower can move around in without running into a crater. Every square
+ * that is not a crater is labeled with its area in one flood fill over the lawn, so labeling takes time in line with
+ * the size of the lawn, and every area keeps its grass and the mowers that start in it
+ *
+ * Note:
+ * The areas are taken from the lawn as it starts out. A mower that runs into a crater clears it at the cost of the
+ * mower, so the grass of an area without mowers is only out of reach for as long as nobody gives up a mower for it
+ */
+public class LawnComponents
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int NO_COMPONENT = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int xLength;
+    private final int yLength;
+    private final int[] labels;
+    private final int componentCount;
+    private final int[] grassCounts;
+    private final int[] mowerCounts;
+
+    private int reachableGrass;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param lawn - The lawn with its craters in place
+     */
+    public LawnComponents(final Lawn lawn)
+    {
+        this.xLength = lawn.getxLength();
+        this.yLength = lawn.getyLength();
+        this.labels = new int[xLength * yLength];
+
+        final boolean[] isGrass = new boolean[labels.length];
+
+        Arrays.fill(labels, NO_COMPONENT);
+
+        for(LawnSquare square : lawn.getLawnSquares())
+        {
+            final int index = square.getxCoordinate() + square.getyCoordinate() * xLength;
+
+            // EVERY SQUARE THAT IS NOT A CRATER IS WAITING FOR A LABEL
+            if(square.getLawnSquareContent() != LawnSquareContent.CRATER)
+            {
+                labels[index] = Integer.MAX_VALUE;
+            }
+
+            isGrass[index] = square.getLawnSquareContent() == LawnSquareContent.GRASS;
+        }
+
+        this.componentCount = label();
+        this.grassCounts = new int[componentCount];
+        this.mowerCounts = new int[componentCount];
+
+        for(int i = 0; i < labels.length; i++)
+        {
+            if(isGrass[i])
+            {
+                grassCounts[labels[i]]++;
+            }
+        }
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * @return - The grass in the areas that hold a mower
+     */
+    public int getReachableGrass() {
+        return reachableGrass;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Adds a mower to the area it starts in
+     *
+     * @param x - The x coordinate of the mower
+     * @param y - The y coordinate of the mower
+     */
+    public void addMower(final int x, final int y)
+    {
+        final int component = getComponent(x, y);
+
+        if(component != NO_COMPONENT)
+        {
+            if(mowerCounts[component] == 0)
+            {
+                reachableGrass += grassCounts[component];
+            }
+
+            mowerCounts[component]++;
+        }
+    }
+
+    /**
+     * Gets the area of a square
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     *
+     * @return - The area, NO_COMPONENT for a crater or a square off the lawn
+     */
+    public int getComponent(final int x, final int y)
+    {
+        if(x < 0 || x >= xLength || y < 0 || y >= yLength)
+        {
+            return NO_COMPONENT;
+        }
+
+        return labels[x + y * xLength];
+    }
+
+    /**
+     * @param component - The area
+     *
+     * @return - The grass the area started with
+     */
+    public int getGrass(final int component)
+    {
+        return grassCounts[component];
+    }
+
+    /**
+     * @param component - The area
+     *
+     * @return - The mowers that start in the area
+     */
+    public int getMowers(final int component)
+    {
+        return mowerCounts[component];
+    }
+
+    /**
+     * Checks to see if a square can be reached by a mower without running into a crater
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     *
+     * @return - True if the square is in an area that holds a mower
+     */
+    public boolean isReachable(final int x, final int y)
+    {
+        final int component = getComponent(x, y);
+
+        return component != NO_COMPONENT && mowerCounts[component] > 0;
+    }
+
+    /**
+     * @return - The grass in the areas without a mower
+     */
+    public int getUnreachableGrass()
+    {
+        int response = 0;
+
+        for(int i = 0; i < componentCount; i++)
+        {
+            response += grassCounts[i];
+        }
+
+        return response - reachableGrass;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Floods every unlabeled square outwards until it runs into craters or the edge of the lawn, every square is
+     * pushed at most once so the whole lawn is labeled in time in line with its size
+     *
+     * @return - The number of areas
+     */
+    private int label()
+    {
+        final int[] stack = new int[labels.length];
+
+        int count = 0;
+
+        for(int start = 0; start < labels.length; start++)
+        {
+            if(labels[start] != Integer.MAX_VALUE)
+            {
+                continue;
+            }
+
+            int size = 0;
+
+            labels[start] = count;
+            stack[size++] = start;
+
+            while(size > 0)
+            {
+                final int square = stack[--size];
+                final int x = square % xLength;
+                final int y = square / xLength;
+
+                for(Direction direction : DIRECTIONS)
+                {
+                    final int neighborX = x + direction.getxIncrement();
+                    final int neighborY = y + direction.getyIncrement();
+
+                    if(neighborX < 0 || neighborX >= xLength || neighborY < 0 || neighborY >= yLength)
+                    {
+                        continue;
+                    }
+
+                    final int neighbor = neighborX + neighborY * xLength;
+
+                    if(labels[neighbor] == Integer.MAX_VALUE)
+                    {
+                        labels[neighbor] = count;
+                        stack[size++] = neighbor;
+                    }
+                }
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package lawn;
+
+import constant.LawnSquareContent;
+
+/**
+ * Class used to keep track of how much grass is left in every part of the lawn. The lawn is split into square blocks
+ * that each keep a count of their remaining grass, the count is updated whenever a square changes so the grass around
+ * any square can be read from the 9 blocks around it without walking the lawn
+ */
+public class LawnGrassDensity
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int BLOCK_SIZE = 4;
+
+    private final int xLength;
+    private final int yLength;
+    private final int xBlocks;
+    private final int yBlocks;
+    private final int[] grassCounts;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public LawnGrassDensity(final Lawn lawn)
+    {
+        this.xLength = lawn.getxLength();
+        this.yLength = lawn.getyLength();
+        this.xBlocks = (xLength + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.yBlocks = (yLength + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.grassCounts = new int[xBlocks * yBlocks];
+
+        for(LawnSquare square : lawn.getLawnSquares())
+        {
+            if(square.getLawnSquareContent() == LawnSquareContent.GRASS)
+            {
+                grassCounts[getBlockIndex(square.getxCoordinate(), square.getyCoordinate())]++;
+            }
+        }
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Updates the grass counts for a square that changed content
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param oldContent - The content the square had
+     * @param newContent - The content the square has now
+     */
+    public void recordContentChange(final int x,
+                                    final int y,
+                                    final LawnSquareContent oldContent,
+                                    final LawnSquareContent newContent)
+    {
+        if(oldContent == LawnSquareContent.GRASS && newContent != LawnSquareContent.GRASS)
+        {
+            grassCounts[getBlockIndex(x, y)]--;
+        }
+        else if(oldContent != LawnSquareContent.GRASS && newContent == LawnSquareContent.GRASS)
+        {
+            grassCounts[getBlockIndex(x, y)]++;
+        }
+    }
+
+    /**
+     * Gets the grass left in the block of a square and the 8 blocks around it
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     *
+     * @return - The number of grass squares left near the square
+     */
+    public int getNearbyGrass(final int x, final int y)
+    {
+        final int blockX = x / BLOCK_SIZE;
+        final int blockY = y / BLOCK_SIZE;
+
+        int count = 0;
+
+        for(int by = Math.max(0, blockY - 1); by <= Math.min(yBlocks - 1, blockY + 1); by++)
+        {
+            for(int bx = Math.max(0, blockX - 1); bx <= Math.min(xBlocks - 1, blockX + 1); bx++)
+            {
+                count += grassCounts[by * xBlocks + bx];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the number of lawn squares covered by the block of a square and the 8 blocks around it, which is smaller
+     * along the edges of the lawn
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     *
+     * @return - The number of lawn squares near the square
+     */
+    public int getNearbyArea(final int x, final int y)
+    {
+        final int blockX = x / BLOCK_SIZE;
+        final int blockY = y / BLOCK_SIZE;
+
+        final int minX = Math.max(0, blockX - 1) * BLOCK_SIZE;
+        final int maxX = Math.min(xLength, (blockX + 2) * BLOCK_SIZE);
+        final int minY = Math.max(0, blockY - 1) * BLOCK_SIZE;
+        final int maxY = Math.min(yLength, (blockY + 2) * BLOCK_SIZE);
+
+        return (maxX - minX) * (maxY - minY);
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private int getBlockIndex(final int x, final int y)
+    {
+        return (y / BLOCK_SIZE) * xBlocks + x / BLOCK_SIZE;
+    }
+}
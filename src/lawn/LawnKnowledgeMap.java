@@ -0,0 +1,255 @@
+package lawn;
+
+import constant.LawnSquareContent;
+
+import java.util.Arrays;
+
+/**
+ * Class used to represent what the mowers have actually observed about the lawn. Every scan result is written into
+ * this grid along with the turn it was observed on, which allows a mower to reuse what itself or another mower has
+ * already seen instead of spending a turn to scan the same squares again
+ *
+ * Note:
+ * The grid is one square larger than the lawn on every side so that fence squares picked up by a scan along the edge
+ * of the lawn can be recorded, squares outside of that border can never be scanned and are always UNKNOWN
+ */
+public class LawnKnowledgeMap
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int NEVER_OBSERVED = Integer.MIN_VALUE;
+
+    private static final LawnSquareContent[] CONTENT_VALUES = LawnSquareContent.values();
+    private static final byte UNKNOWN_ORDINAL = (byte) LawnSquareContent.UNKNOWN.ordinal();
+
+    private final int xLength;
+    private final int yLength;
+    private final int gridWidth;
+    private final byte[] contents;
+    private final int[] observedTurns;
+    private final int[] lawnContentCounts;
+
+    private int revision;
+    private int obstacleRevision;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public LawnKnowledgeMap(final int xLength, final int yLength)
+    {
+        this.xLength = xLength;
+        this.yLength = yLength;
+        this.gridWidth = xLength + 2;
+        this.contents = new byte[gridWidth * (yLength + 2)];
+        this.observedTurns = new int[contents.length];
+        this.lawnContentCounts = new int[CONTENT_VALUES.length];
+
+        Arrays.fill(contents, UNKNOWN_ORDINAL);
+        Arrays.fill(observedTurns, NEVER_OBSERVED);
+
+        lawnContentCounts[UNKNOWN_ORDINAL] = xLength * yLength;
+
+        this.revision = 0;
+        this.obstacleRevision = 0;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int getxLength() {
+        return xLength;
+    }
+
+    public int getyLength() {
+        return yLength;
+    }
+
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    public int getGridSize() {
+        return contents.length;
+    }
+
+    /**
+     * Gets the revision of the map, the revision is incremented every time the content of a square changes which
+     * allows planners to skip re-validating their plans when nothing has changed
+     *
+     * @return - The current revision
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Gets the obstacle revision of the map, the obstacle revision is only incremented when a square becomes or
+     * stops being a fence or crater, which are the only changes that affect the layout of the lawn
+     *
+     * @return - The current obstacle revision
+     */
+    public int getObstacleRevision() {
+        return obstacleRevision;
+    }
+
+    /**
+     * Gets the number of squares on the lawn that currently hold a content, the fence border is not counted
+     *
+     * @param content - The content to count
+     *
+     * @return - The number of lawn squares last observed with the content, or never observed for UNKNOWN
+     */
+    public int getLawnContentCount(final LawnSquareContent content) {
+        return lawnContentCounts[content.ordinal()];
+    }
+
+    // CUSTOM PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Records the content of a square that was observed by a mower
+     *
+     * Note:
+     * Observations outside of the fence border and observations of UNKNOWN content are ignored because they do
+     * not add any knowledge to the map
+     *
+     * @param x - The x coordinate
+     * @param y - The y coordinate
+     * @param content - The content that was observed
+     * @param turn - The turn the content was observed on
+     */
+    public void recordObservation(final int x, final int y, final LawnSquareContent content, final int turn)
+    {
+        final int idx = getGridIndex(x, y);
+
+        if(idx >= 0 && content != null && content != LawnSquareContent.UNKNOWN)
+        {
+            if(contents[idx] != (byte) content.ordinal())
+            {
+                if(isObstacle(CONTENT_VALUES[contents[idx]]) || isObstacle(content))
+                {
+                    obstacleRevision++;
+                }
+
+                if(isOnLawn(idx))
+                {
+                    lawnContentCounts[contents[idx]]--;
+                    lawnContentCounts[content.ordinal()]++;
+                }
+
+                contents[idx] = (byte) content.ordinal();
+
+                revision++;
+            }
+
+            observedTurns[idx] = turn;
+        }
+    }
+
+    /**
+     * Gets the last observed content of a square
+     *
+     * @param x - The x coordinate
+     * @param y - The y coordinate
+     *
+     * @return - The last observed content, UNKNOWN if the square has never been observed
+     */
+    public LawnSquareContent getContent(final int x, final int y)
+    {
+        final int idx = getGridIndex(x, y);
+
+        return idx < 0 ? LawnSquareContent.UNKNOWN : CONTENT_VALUES[contents[idx]];
+    }
+
+    /**
+     * Gets the turn that a square was last observed on
+     *
+     * @param x - The x coordinate
+     * @param y - The y coordinate
+     *
+     * @return - The turn of the last observation, NEVER_OBSERVED if the square has never been observed
+     */
+    public int getObservedTurn(final int x, final int y)
+    {
+        final int idx = getGridIndex(x, y);
+
+        return idx < 0 ? NEVER_OBSERVED : observedTurns[idx];
+    }
+
+    /**
+     * Checks to see if a grid index is a square of the lawn itself rather than the fence border around it
+     *
+     * @param gridIndex - The grid index
+     *
+     * @return - True if the square is on the lawn, false otherwise
+     */
+    public boolean isOnLawn(final int gridIndex)
+    {
+        final int x = getxCoordinate(gridIndex);
+        final int y = getyCoordinate(gridIndex);
+
+        return x >= 0 && y >= 0 && x < xLength && y < yLength;
+    }
+
+    /**
+     * Gets the last observed content of a square by its grid index
+     *
+     * @param gridIndex - The grid index of the square
+     *
+     * @return - The last observed content, UNKNOWN if the square has never been observed
+     */
+    public LawnSquareContent getContent(final int gridIndex)
+    {
+        return CONTENT_VALUES[contents[gridIndex]];
+    }
+
+    /**
+     * Converts a lawn coordinate into a grid index, grid indexes allow planners to walk the map without creating
+     * coordinate objects
+     *
+     * @param x - The x coordinate
+     * @param y - The y coordinate
+     *
+     * @return - The grid index, or -1 when the coordinate is outside of the fence border
+     */
+    public int getGridIndex(final int x, final int y)
+    {
+        if(x < -1 || y < -1 || x > xLength || y > yLength)
+        {
+            return -1;
+        }
+
+        return (y + 1) * gridWidth + (x + 1);
+    }
+
+    /**
+     * Gets the x coordinate of a grid index
+     *
+     * @param gridIndex - The grid index
+     *
+     * @return - The x coordinate on the lawn
+     */
+    public int getxCoordinate(final int gridIndex)
+    {
+        return gridIndex % gridWidth - 1;
+    }
+
+    /**
+     * Gets the y coordinate of a grid index
+     *
+     * @param gridIndex - The grid index
+     *
+     * @return - The y coordinate on the lawn
+     */
+    public int getyCoordinate(final int gridIndex)
+    {
+        return gridIndex / gridWidth - 1;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - True if the content is a fence or a crater
+     */
+    private boolean isObstacle(final LawnSquareContent content)
+    {
+        return content == LawnSquareContent.FENCE || content == LawnSquareContent.CRATER;
+    }
+}
@@ -0,0 +1,175 @@
+package lawn;
+
+import constant.LawnSquareContent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class used to split the lawn into regions so that each strategic mower has its own part of the lawn to cover.
+ * The regions are grown from the mowers positions over the squares that are not known to be blocked, one square
+ * per region at a time, so the regions end up with roughly the same number of squares wherever the layout of the
+ * lawn allows it
+ */
+public class LawnPartition
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int NO_OWNER = -1;
+
+    private static final int INITIAL_QUEUE_CAPACITY = 16;
+
+    private final int xLength;
+    private final int yLength;
+    private final int[] owners;
+
+    private int revision;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public LawnPartition(final int xLength, final int yLength)
+    {
+        this.xLength = xLength;
+        this.yLength = yLength;
+        this.owners = new int[xLength * yLength];
+        this.revision = 0;
+
+        Arrays.fill(owners, NO_OWNER);
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the revision of the partition, the revision is incremented every time the regions are rebuilt
+     *
+     * @return - The current revision
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    // CUSTOM PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the owner of a square
+     *
+     * @param x - The x coordinate
+     * @param y - The y coordinate
+     *
+     * @return - The id of the mower that owns the square, NO_OWNER if the square is off the lawn or unreachable
+     */
+    public int getOwner(final int x, final int y)
+    {
+        if(x < 0 || y < 0 || x >= xLength || y >= yLength)
+        {
+            return NO_OWNER;
+        }
+
+        return owners[y * xLength + x];
+    }
+
+    /**
+     * Rebuilds the regions from the current positions of the mowers, this is used when the partition is first
+     * created and whenever a mower is disabled so its region is handed over to the mowers that are left
+     *
+     * @param knowledgeMap - The knowledge map, squares known to be a fence or crater are never part of a region
+     * @param ownerIds - The ids of the mowers that will own the regions
+     * @param positions - The positions of the mowers, in the same order as the ids
+     *
+     * @throws RuntimeException - When the number of ids and positions do not match
+     */
+    public void rebuild(final LawnKnowledgeMap knowledgeMap,
+                        final List<Integer> ownerIds,
+                        final List<Coordinate> positions)
+    {
+        if(ownerIds.size() != positions.size())
+        {
+            final String errorMsg = "[ERROR] - Cannot partition the lawn, each owner needs exactly one position";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        Arrays.fill(owners, NO_OWNER);
+
+        final int regionCount = ownerIds.size();
+
+        // EACH REGION HAS ITS OWN QUEUE, THE QUEUES ONLY GROW AS LARGE AS THE REGION THEY BELONG TO
+        final int[][] queues = new int[regionCount][];
+        final int[] heads = new int[regionCount];
+        final int[] tails = new int[regionCount];
+
+        for(int region = 0; region < regionCount; region++)
+        {
+            queues[region] = new int[INITIAL_QUEUE_CAPACITY];
+
+            final Coordinate position = positions.get(region);
+            final int square = position.getyCoordinate() * xLength + position.getxCoordinate();
+
+            if(isClaimable(knowledgeMap, position.getxCoordinate(), position.getyCoordinate()))
+            {
+                owners[square] = ownerIds.get(region);
+                queues[region][tails[region]++] = square;
+            }
+        }
+
+        // GROW THE REGIONS ONE SQUARE AT A TIME IN TURN UNTIL NONE OF THEM CAN GROW ANY FURTHER
+        boolean isGrowing = true;
+
+        while(isGrowing)
+        {
+            isGrowing = false;
+
+            for(int region = 0; region < regionCount; region++)
+            {
+                if(heads[region] < tails[region])
+                {
+                    isGrowing = true;
+
+                    final int square = queues[region][heads[region]++];
+                    final int x = square % xLength;
+                    final int y = square / xLength;
+
+                    for(int dx = -1; dx <= 1; dx++)
+                    {
+                        for(int dy = -1; dy <= 1; dy++)
+                        {
+                            if(isClaimable(knowledgeMap, x + dx, y + dy))
+                            {
+                                final int neighbour = (y + dy) * xLength + (x + dx);
+
+                                if(tails[region] == queues[region].length)
+                                {
+                                    queues[region] = Arrays.copyOf(queues[region], queues[region].length * 2);
+                                }
+
+                                owners[neighbour] = ownerIds.get(region);
+                                queues[region][tails[region]++] = neighbour;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        revision++;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Checks to see if a square can still be added to a region
+     */
+    private boolean isClaimable(final LawnKnowledgeMap knowledgeMap, final int x, final int y)
+    {
+        if(x < 0 || y < 0 || x >= xLength || y >= yLength || owners[y * xLength + x] != NO_OWNER)
+        {
+            return false;
+        }
+
+        final LawnSquareContent content = knowledgeMap.getContent(x, y);
+
+        return content != LawnSquareContent.CRATER && content != LawnSquareContent.FENCE;
+    }
+}
@@ -0,0 +1,277 @@
+package mower;
+
+import constant.LawnSquareContent;
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class used to decompose the lawn into boustrophedon cells around the known obstacles and to turn those cells into
+ * an order that covers every free square. The lawn is cut into stripes along its longer side, each stripe is split
+ * into free segments by the obstacles, and neighbouring segments belong to the same cell for as long as the
+ * connection between the stripes is one to one. A cell can then be swept back and forth without having to go
+ * around an obstacle, which keeps the number of STEER moves to one pair per stripe
+ */
+final class BoustrophedonDecomposition
+{
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private BoustrophedonDecomposition(){}
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Builds the order the free squares of the lawn should be covered in
+     *
+     * @param map - The knowledge map, fences and craters in the map are treated as obstacles and everything else
+     *              on the lawn is treated as free
+     * @param partition - The partition of the lawn, squares outside of the owners region are treated as obstacles.
+     *                    When null the whole lawn is covered
+     * @param ownerId - The id of the mower the order is for
+     * @param startX - The x coordinate the coverage starts from
+     * @param startY - The y coordinate the coverage starts from
+     * @param order - The buffer the grid indexes of the order are written into, sized for every square on the lawn
+     *
+     * @return - The number of squares in the order
+     */
+    static int buildCoverageOrder(final LawnKnowledgeMap map,
+                                  final LawnPartition partition,
+                                  final int ownerId,
+                                  final int startX,
+                                  final int startY,
+                                  final int[] order)
+    {
+        final boolean isStripeAlongX = map.getxLength() > map.getyLength();
+        final int stripeCount = isStripeAlongX ? map.getyLength() : map.getxLength();
+        final int stripeLength = isStripeAlongX ? map.getxLength() : map.getyLength();
+
+        // 1. SPLIT EVERY STRIPE INTO FREE SEGMENTS
+        final List<List<Segment>> stripes = new ArrayList<>(stripeCount);
+
+        for(int stripe = 0; stripe < stripeCount; stripe++)
+        {
+            final List<Segment> segments = new ArrayList<>();
+
+            int segmentStart = -1;
+
+            for(int along = 0; along <= stripeLength; along++)
+            {
+                final boolean isFree = along < stripeLength
+                        && !isObstacle(map.getContent(toGridIndex(map, isStripeAlongX, stripe, along)))
+                        && (partition == null || ownerId == (isStripeAlongX
+                                ? partition.getOwner(along, stripe) : partition.getOwner(stripe, along)));
+
+                if(isFree && segmentStart < 0)
+                {
+                    segmentStart = along;
+                }
+                else if(!isFree && segmentStart >= 0)
+                {
+                    segments.add(new Segment(stripe, segmentStart, along - 1));
+
+                    segmentStart = -1;
+                }
+            }
+
+            stripes.add(segments);
+        }
+
+        // 2. JOIN THE SEGMENTS INTO CELLS, A CELL ONLY CONTINUES WHEN THE CONNECTION IS ONE TO ONE
+        final List<Cell> cells = new ArrayList<>();
+
+        for(int stripe = 0; stripe < stripeCount; stripe++)
+        {
+            for(Segment segment : stripes.get(stripe))
+            {
+                final List<Segment> previous = stripe == 0
+                        ? new ArrayList<Segment>() : getOverlapping(stripes.get(stripe - 1), segment);
+
+                if(previous.size() == 1 && getOverlapping(stripes.get(stripe), previous.get(0)).size() == 1)
+                {
+                    segment.cell = previous.get(0).cell;
+                }
+                else{
+                    segment.cell = new Cell();
+
+                    cells.add(segment.cell);
+                }
+
+                segment.cell.segments.add(segment);
+
+                for(Segment other : previous)
+                {
+                    other.cell.link(segment.cell);
+                }
+            }
+        }
+
+        // 3. VISIT THE CELLS DEPTH FIRST FROM THE CELL NEAREST TO THE START, SWEEPING EACH ONE BACK AND FORTH
+        final int startStripe = isStripeAlongX ? startY : startX;
+        int exitAlong = isStripeAlongX ? startX : startY;
+        int count = 0;
+
+        final List<Cell> stack = new ArrayList<>();
+
+        if(!cells.isEmpty())
+        {
+            stack.add(getNearestCell(cells, startStripe, exitAlong));
+        }
+
+        while(!stack.isEmpty())
+        {
+            final Cell cell = stack.remove(stack.size() - 1);
+
+            if(cell.isVisited)
+            {
+                continue;
+            }
+
+            cell.isVisited = true;
+
+            final boolean isReversed = Math.abs(cell.getLastStripe() - startStripe)
+                    < Math.abs(cell.getFirstStripe() - startStripe) && count == 0;
+
+            for(int i = 0; i < cell.segments.size(); i++)
+            {
+                final Segment segment = cell.segments.get(isReversed ? cell.segments.size() - 1 - i : i);
+
+                // ENTER EACH STRIPE FROM THE END NEAREST TO WHERE THE LAST STRIPE WAS LEFT
+                final boolean isAscending = Math.abs(segment.start - exitAlong) <= Math.abs(segment.end - exitAlong);
+
+                for(int j = 0; j <= segment.end - segment.start; j++)
+                {
+                    final int along = isAscending ? segment.start + j : segment.end - j;
+
+                    order[count++] = toGridIndex(map, isStripeAlongX, segment.stripe, along);
+                }
+
+                exitAlong = isAscending ? segment.end : segment.start;
+            }
+
+            for(int i = cell.neighbours.size() - 1; i >= 0; i--)
+            {
+                stack.add(cell.neighbours.get(i));
+            }
+        }
+
+        return count;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - True if the content blocks the mower
+     */
+    private static boolean isObstacle(final LawnSquareContent content)
+    {
+        return content == LawnSquareContent.CRATER || content == LawnSquareContent.FENCE;
+    }
+
+    /**
+     * Converts a stripe and a position along the stripe into a grid index
+     */
+    private static int toGridIndex(final LawnKnowledgeMap map,
+                                   final boolean isStripeAlongX,
+                                   final int stripe,
+                                   final int along)
+    {
+        return isStripeAlongX ? map.getGridIndex(along, stripe) : map.getGridIndex(stripe, along);
+    }
+
+    /**
+     * Gets the segments of a stripe that overlap a segment of a neighbouring stripe. Mowers can move diagonally so
+     * segments that only touch at a corner are also considered to overlap
+     */
+    private static List<Segment> getOverlapping(final List<Segment> stripe, final Segment segment)
+    {
+        final List<Segment> response = new ArrayList<>();
+
+        for(Segment other : stripe)
+        {
+            if(other.start <= segment.end + 1 && other.end >= segment.start - 1)
+            {
+                response.add(other);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Gets the cell with a segment nearest to a position on the lawn
+     */
+    private static Cell getNearestCell(final List<Cell> cells, final int stripe, final int along)
+    {
+        Cell response = null;
+        int bestDistance = Integer.MAX_VALUE;
+
+        for(Cell cell : cells)
+        {
+            for(Segment segment : cell.segments)
+            {
+                final int alongDistance = along < segment.start
+                        ? segment.start - along : (along > segment.end ? along - segment.end : 0);
+                final int distance = Math.max(Math.abs(segment.stripe - stripe), alongDistance);
+
+                if(distance < bestDistance)
+                {
+                    bestDistance = distance;
+                    response = cell;
+                }
+            }
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A run of free squares within a single stripe
+     */
+    private static class Segment
+    {
+        private final int stripe;
+        private final int start;
+        private final int end;
+        private Cell cell;
+
+        private Segment(final int stripe, final int start, final int end)
+        {
+            this.stripe = stripe;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * A boustrophedon cell, a group of segments in consecutive stripes that can be swept without obstacles
+     */
+    private static class Cell
+    {
+        private final List<Segment> segments = new ArrayList<>();
+        private final List<Cell> neighbours = new ArrayList<>();
+        private boolean isVisited;
+
+        private int getFirstStripe()
+        {
+            return segments.get(0).stripe;
+        }
+
+        private int getLastStripe()
+        {
+            return segments.get(segments.size() - 1).stripe;
+        }
+
+        private void link(final Cell other)
+        {
+            if(other != this && !neighbours.contains(other))
+            {
+                neighbours.add(other);
+                other.neighbours.add(this);
+            }
+        }
+    }
+}
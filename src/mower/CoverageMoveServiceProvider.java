@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the coverage strategy, which sweeps the lawn back and forth around the known craters
+ */
+public class CoverageMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "coverage";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextCoverageMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return true;
+    }
+}
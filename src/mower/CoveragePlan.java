@@ -0,0 +1,118 @@
+package mower;
+
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
+
+/**
+ * Class used to hold the order a mower will cover the lawn in. The order is built from a boustrophedon decomposition
+ * of the lawn around the known obstacles, each cell of the decomposition is swept back and forth in stripes
+ *
+ * Note:
+ * The decomposition only depends on where the fences and craters are and how the lawn is partitioned, so the order
+ * is only rebuilt when the obstacle revision of the knowledge map or the revision of the partition changes. When the
+ * lawn is partitioned the order first only covers the mowers own region
+ */
+class CoveragePlan
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private int[] order;
+    private int length;
+    private int cursor;
+    private int obstacleRevision;
+    private int partitionRevision;
+    private boolean isRegionOnly;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CoveragePlan()
+    {
+        this.order = new int[0];
+        this.length = 0;
+        this.cursor = 0;
+        this.obstacleRevision = -1;
+        this.partitionRevision = -1;
+        this.isRegionOnly = false;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    boolean isRegionOnly() {
+        return isRegionOnly;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Checks to see if the order was built from the current layout of the knowledge map and the current partition
+     *
+     * @param map - The knowledge map
+     * @param partition - The partition of the lawn, null if the lawn is not partitioned
+     *
+     * @return - True if the order is up to date, false if it needs to be rebuilt
+     */
+    boolean isCurrent(final LawnKnowledgeMap map, final LawnPartition partition)
+    {
+        return obstacleRevision == map.getObstacleRevision()
+                && partitionRevision == (partition == null ? 0 : partition.getRevision());
+    }
+
+    /**
+     * Rebuilds the coverage order from the current layout of the knowledge map
+     *
+     * @param map - The knowledge map
+     * @param partition - The partition of the lawn, the order only covers the owners region when it is not null
+     * @param ownerId - The id of the mower the order is for
+     * @param startX - The x coordinate the mower is starting the coverage from
+     * @param startY - The y coordinate the mower is starting the coverage from
+     */
+    void rebuild(final LawnKnowledgeMap map,
+                 final LawnPartition partition,
+                 final int ownerId,
+                 final int startX,
+                 final int startY)
+    {
+        if(order.length < map.getxLength() * map.getyLength())
+        {
+            order = new int[map.getxLength() * map.getyLength()];
+        }
+
+        length = BoustrophedonDecomposition.buildCoverageOrder(map, partition, ownerId, startX, startY, order);
+        cursor = 0;
+        obstacleRevision = map.getObstacleRevision();
+        isRegionOnly = partition != null;
+
+        if(partition != null)
+        {
+            partitionRevision = partition.getRevision();
+        }
+        else if(partitionRevision < 0)
+        {
+            partitionRevision = 0;
+        }
+    }
+
+    /**
+     * @return - True if every square in the order has been covered or skipped
+     */
+    boolean isComplete()
+    {
+        return cursor >= length;
+    }
+
+    /**
+     * @return - The grid index of the square that needs to be covered next
+     */
+    int getTarget()
+    {
+        return order[cursor];
+    }
+
+    /**
+     * Moves on to the next square in the order
+     */
+    void advance()
+    {
+        cursor++;
+    }
+}
@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the high-risk strategy, which always uses the high risk service
+ */
+public class HighRiskMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "high-risk";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextHighRiskMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return false;
+    }
+}
@@ -0,0 +1,261 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import lawn.LawnKnowledgeMap;
+
+import java.util.Arrays;
+
+/**
+ * Class used to run breadth first searches over the knowledge map. Only squares that are known to be safe to move
+ * onto (GRASS or EMPTY) are expanded, the search buffers are reused between searches so planning does not allocate
+ * arrays the size of the lawn on every turn
+ *
+ * Note:
+ * The buffers are kept per thread because the move services are singletons that can be shared by simulations
+ * running in parallel
+ */
+class KnowledgeMapSearch
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int NOT_FOUND = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final ThreadLocal<KnowledgeMapSearch> SEARCHES = ThreadLocal.withInitial(KnowledgeMapSearch::new);
+
+    private int[] parents;
+    private int[] visitedStamps;
+    private int[] markedStamps;
+    private int[] queue;
+    private int[] pathBuffer;
+    private int visitedStamp;
+    private int markedStamp;
+    private int nearestUnknown;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private KnowledgeMapSearch()
+    {
+        this.parents = new int[0];
+        this.visitedStamps = new int[0];
+        this.markedStamps = new int[0];
+        this.queue = new int[0];
+        this.pathBuffer = new int[0];
+    }
+
+    // INTERFACES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Test used to decide if a square is the goal of a search
+     */
+    interface GoalTest
+    {
+        boolean isGoal(final LawnKnowledgeMap map, final int gridIndex);
+    }
+
+    // STATIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the search for the current thread, sized for the knowledge map
+     *
+     * @param map - The knowledge map that will be searched
+     *
+     * @return - The search
+     */
+    static KnowledgeMapSearch forMap(final LawnKnowledgeMap map)
+    {
+        final KnowledgeMapSearch search = SEARCHES.get();
+
+        search.ensureCapacity(map.getGridSize());
+
+        return search;
+    }
+
+    /**
+     * Checks to see if a square is known to be safe to move onto
+     *
+     * @param content - The content of the square
+     *
+     * @return - True for GRASS and EMPTY squares, false otherwise
+     */
+    static boolean isPassable(final LawnSquareContent content)
+    {
+        return content == LawnSquareContent.GRASS || content == LawnSquareContent.EMPTY;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs a breadth first search from a square until a goal square is found. The goal test is run against every
+     * square that is reached, but only passable squares are expanded any further. An optimistic search also expands
+     * unknown squares on the lawn, assuming they are safe until a scan shows otherwise
+     *
+     * @param map - The knowledge map to search
+     * @param start - The grid index the search starts from
+     * @param firstDirection - The direction that is expanded first from every square, which breaks ties between
+     *                         equally near goals in favour of that direction
+     * @param goalTest - The test for the goal square
+     * @param maxExpansions - The max number of squares to expand before giving up
+     * @param isOptimistic - True if unknown squares on the lawn should be expanded
+     *
+     * @return - The grid index of the nearest goal square, NOT_FOUND if no goal was reached
+     */
+    int search(final LawnKnowledgeMap map,
+               final int start,
+               final Direction firstDirection,
+               final GoalTest goalTest,
+               final int maxExpansions,
+               final boolean isOptimistic)
+    {
+        nextVisitedStamp();
+
+        nearestUnknown = NOT_FOUND;
+
+        int head = 0;
+        int tail = 0;
+
+        visitedStamps[start] = visitedStamp;
+        parents[start] = NOT_FOUND;
+        queue[tail++] = start;
+
+        while(head < tail && head < maxExpansions)
+        {
+            final int current = queue[head++];
+            final int x = map.getxCoordinate(current);
+            final int y = map.getyCoordinate(current);
+
+            for(int i = 0; i < DIRECTIONS.length; i++)
+            {
+                final Direction direction = DIRECTIONS[(firstDirection.getIndex() + i) % DIRECTIONS.length];
+                final int neighbour = map.getGridIndex(x + direction.getxIncrement(), y + direction.getyIncrement());
+
+                if(neighbour < 0 || visitedStamps[neighbour] == visitedStamp)
+                {
+                    continue;
+                }
+
+                visitedStamps[neighbour] = visitedStamp;
+                parents[neighbour] = current;
+
+                if(goalTest.isGoal(map, neighbour))
+                {
+                    return neighbour;
+                }
+
+                final LawnSquareContent content = map.getContent(neighbour);
+
+                if(isPassable(content)
+                        || (isOptimistic && content == LawnSquareContent.UNKNOWN && map.isOnLawn(neighbour)))
+                {
+                    queue[tail++] = neighbour;
+                }
+
+                if(content == LawnSquareContent.UNKNOWN && nearestUnknown == NOT_FOUND)
+                {
+                    nearestUnknown = neighbour;
+                }
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return - The nearest unknown square reached by the last search, NOT_FOUND if none was reached
+     */
+    int getNearestUnknown()
+    {
+        return nearestUnknown;
+    }
+
+    /**
+     * Builds the path from the start of the last search to a square it reached, the start square is not included
+     *
+     * @param goal - The grid index of a square that was reached by the last search
+     *
+     * @return - The number of steps in the path, the steps are held in the path buffer
+     */
+    int buildPath(final int goal)
+    {
+        int count = 0;
+
+        for(int step = goal; parents[step] != NOT_FOUND; step = parents[step])
+        {
+            count++;
+        }
+
+        int idx = count;
+
+        for(int step = goal; parents[step] != NOT_FOUND; step = parents[step])
+        {
+            pathBuffer[--idx] = step;
+        }
+
+        return count;
+    }
+
+    int[] getPathBuffer()
+    {
+        return pathBuffer;
+    }
+
+    /**
+     * Clears every marked square, marks are used as the goal of searches that need to reach a set of squares
+     */
+    void clearMarks()
+    {
+        markedStamp++;
+
+        if(markedStamp == Integer.MAX_VALUE)
+        {
+            Arrays.fill(markedStamps, 0);
+
+            markedStamp = 1;
+        }
+    }
+
+    void mark(final int gridIndex)
+    {
+        markedStamps[gridIndex] = markedStamp;
+    }
+
+    boolean isMarked(final LawnKnowledgeMap map, final int gridIndex)
+    {
+        return markedStamps[gridIndex] == markedStamp;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Moves to the next visited stamp, which clears every visited square without touching the whole array
+     */
+    private void nextVisitedStamp()
+    {
+        visitedStamp++;
+
+        if(visitedStamp == Integer.MAX_VALUE)
+        {
+            Arrays.fill(visitedStamps, 0);
+
+            visitedStamp = 1;
+        }
+    }
+
+    /**
+     * Grows the buffers if they are smaller than the grid
+     */
+    private void ensureCapacity(final int gridSize)
+    {
+        if(parents.length < gridSize)
+        {
+            parents = new int[gridSize];
+            visitedStamps = new int[gridSize];
+            markedStamps = new int[gridSize];
+            queue = new int[gridSize];
+            pathBuffer = new int[gridSize];
+            visitedStamp = 0;
+            markedStamp = 1;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package mower;
+
+/**
+ * Provider for the lookahead strategy, which picks every move with a Monte Carlo tree search over the knowledge map
+ */
+public class LookaheadMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    /**
+     * Sets the budget of every lookahead decision, the search stops at whichever budget runs out first
+     *
+     * @param iterations - The max number of playouts per decision
+     * @param millis - The max number of milliseconds per decision, 0 for no time limit
+     */
+    public static void setSearchBudget(final int iterations, final long millis)
+    {
+        NextLookaheadMoveServiceImpl.getInstance().setSearchBudget(iterations, millis);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "lookahead";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextLookaheadMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return true;
+    }
+}
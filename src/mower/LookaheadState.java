@@ -0,0 +1,417 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import lawn.LawnKnowledgeMap;
+
+/**
+ * Class used to represent a cheap copy of the world around a mower for the lookahead search. The state is a square
+ * window of the knowledge map centred on the mower, every array is allocated once so a state can be copied and played
+ * forward thousands of times per decision without creating any objects
+ *
+ * Note:
+ * Squares that no mower has observed yet are only decided when the simulated mower moves onto them or scans them,
+ * which lets every playout see a different version of the unknown part of the lawn. Every change to the lawn is
+ * written into the knowledge map, so an unknown square on the lawn can only be GRASS or a CRATER
+ */
+class LookaheadState
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int RADIUS = 12;
+    static final int WIDTH = 2 * RADIUS + 1;
+    static final int ACTION_MOVE = 0;           // ACTIONS 1 - 8 STEER TOWARDS THE DIRECTION WITH INDEX ACTION - 1
+    static final int ACTION_SCAN = 9;
+    static final int ACTION_COUNT = 10;
+    static final double CRASH_REWARD = -20.0;
+
+    private static final byte EMPTY = (byte) LawnSquareContent.EMPTY.ordinal();
+    private static final byte GRASS = (byte) LawnSquareContent.GRASS.ordinal();
+    private static final byte CRATER = (byte) LawnSquareContent.CRATER.ordinal();
+    private static final byte FENCE = (byte) LawnSquareContent.FENCE.ordinal();
+    private static final byte UNKNOWN = (byte) LawnSquareContent.UNKNOWN.ordinal();
+
+    private static final int CENTRE = RADIUS * WIDTH + RADIUS;
+    private static final int UNREACHABLE = 2 * WIDTH;
+    private static final double EXPLORE_PROBABILITY = 0.1;
+
+    private static final KnowledgeMapSearch.GoalTest GRASS_OR_UNKNOWN_GOAL =
+            (map, gridIndex) -> map.getContent(gridIndex) == LawnSquareContent.GRASS
+                    || (map.getContent(gridIndex) == LawnSquareContent.UNKNOWN && map.isOnLawn(gridIndex));
+
+    // THE OFFSET OF EVERY DIRECTION IN THE WINDOW, BY DIRECTION INDEX
+    private static final int[] OFFSETS = {WIDTH, WIDTH + 1, 1, 1 - WIDTH, -WIDTH, -WIDTH - 1, -1, WIDTH - 1};
+
+    private final byte[] contents;
+    private int[] goalDistances;
+    private int[] queue;
+    private double craterProbability;
+    private int position;
+    private int direction;
+    private boolean isCrashed;
+    private long seed;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    LookaheadState()
+    {
+        this.contents = new byte[WIDTH * WIDTH];
+        this.seed = System.nanoTime() | 1L;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    int getDirection() {
+        return direction;
+    }
+
+    boolean isCrashed() {
+        return isCrashed;
+    }
+
+    /**
+     * @return - The number of moves from the simulated mower to the nearest square worth reaching, as seen from the
+     *           start of the search
+     */
+    int getGoalDistance() {
+        return goalDistances[position];
+    }
+
+    void setSeed(final long seed) {
+        this.seed = seed == 0 ? 1L : seed;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Loads the window around a mower from the knowledge map, this is only done once per decision for the state that
+     * every playout is copied from
+     *
+     * @param map - The knowledge map
+     * @param x - The x coordinate of the mower
+     * @param y - The y coordinate of the mower
+     * @param directionIndex - The index of the direction the mower is facing
+     */
+    void load(final LawnKnowledgeMap map, final int x, final int y, final int directionIndex)
+    {
+        if(goalDistances == null)
+        {
+            goalDistances = new int[contents.length];
+            queue = new int[contents.length];
+        }
+
+        final int originX = x - RADIUS;
+        final int originY = y - RADIUS;
+
+        for(int wy = 0; wy < WIDTH; wy++)
+        {
+            for(int wx = 0; wx < WIDTH; wx++)
+            {
+                final int lawnX = originX + wx;
+                final int lawnY = originY + wy;
+
+                byte content;
+
+                // THE EDGE OF THE WINDOW IS TREATED AS A FENCE SO A PLAYOUT NEVER HAS TO CHECK ITS BOUNDS
+                if(wx == 0 || wy == 0 || wx == WIDTH - 1 || wy == WIDTH - 1
+                        || lawnX < 0 || lawnY < 0 || lawnX >= map.getxLength() || lawnY >= map.getyLength())
+                {
+                    content = FENCE;
+                }
+                else{
+                    content = (byte) map.getContent(lawnX, lawnY).ordinal();
+                }
+
+                contents[wy * WIDTH + wx] = content;
+            }
+        }
+
+        contents[CENTRE] = EMPTY;
+        position = CENTRE;
+        direction = directionIndex;
+        isCrashed = false;
+
+        // LAPLACE SMOOTHED SHARE OF CRATERS AMONG THE LAWN SQUARES THAT HAVE BEEN OBSERVED SO FAR
+        final int observed = map.getxLength() * map.getyLength() - map.getLawnContentCount(LawnSquareContent.UNKNOWN);
+
+        craterProbability = (map.getLawnContentCount(LawnSquareContent.CRATER) + 1.0) / (observed + 10.0);
+
+        loadGoalDistances(map, originX, originY);
+    }
+
+    /**
+     * Copies another state into this one without allocating
+     *
+     * @param other - The state to copy
+     */
+    void copyFrom(final LookaheadState other)
+    {
+        System.arraycopy(other.contents, 0, contents, 0, contents.length);
+
+        goalDistances = other.goalDistances;
+        craterProbability = other.craterProbability;
+        position = other.position;
+        direction = other.direction;
+        isCrashed = other.isCrashed;
+    }
+
+    /**
+     * Checks to see if an action is worth considering, moving onto a known obstacle and steering towards the direction
+     * the mower is already facing never are
+     *
+     * @param action - The action
+     *
+     * @return - True if the action is worth considering, false otherwise
+     */
+    boolean isLegal(final int action)
+    {
+        if(action == ACTION_MOVE)
+        {
+            final byte content = contents[position + OFFSETS[direction]];
+
+            return content == GRASS || content == EMPTY || content == UNKNOWN;
+        }
+
+        return action == ACTION_SCAN || action - 1 != direction;
+    }
+
+    /**
+     * Plays an action forward
+     *
+     * @param action - The action
+     *
+     * @return - The reward for the action, 1 for cutting a square of grass and CRASH_REWARD for a collision
+     */
+    double apply(final int action)
+    {
+        if(action == ACTION_MOVE)
+        {
+            final int target = position + OFFSETS[direction];
+            final byte content = reveal(target);
+
+            if(content == GRASS)
+            {
+                contents[target] = EMPTY;
+                position = target;
+
+                return 1.0;
+            }
+            else if(content == EMPTY)
+            {
+                position = target;
+
+                return 0.0;
+            }
+
+            isCrashed = true;
+
+            return CRASH_REWARD;
+        }
+        else if(action == ACTION_SCAN)
+        {
+            for(int offset : OFFSETS)
+            {
+                reveal(position + offset);
+            }
+        }
+        else{
+            direction = action - 1;
+        }
+
+        return 0.0;
+    }
+
+    /**
+     * Picks the action for the playout after the search tree, which follows the same rules as the risk profile
+     * services: cut grass that is known to be next to the mower, scan when anything next to it is unknown, and
+     * otherwise head towards the nearest square worth reaching
+     *
+     * @return - The action
+     */
+    int getPlayoutAction()
+    {
+        if(contents[position + OFFSETS[direction]] == GRASS)
+        {
+            return ACTION_MOVE;
+        }
+
+        int grassDirection = -1;
+        int grassCount = 0;
+        boolean hasUnknown = false;
+
+        for(int i = 0; i < OFFSETS.length; i++)
+        {
+            final byte content = contents[position + OFFSETS[i]];
+
+            if(content == GRASS && nextInt(++grassCount) == 0)
+            {
+                grassDirection = i;
+            }
+
+            hasUnknown |= content == UNKNOWN;
+        }
+
+        if(grassDirection >= 0)
+        {
+            return grassDirection + 1;
+        }
+
+        if(hasUnknown)
+        {
+            return ACTION_SCAN;
+        }
+
+        final boolean isExploring = nextDouble() < EXPLORE_PROBABILITY;
+
+        int bestDirection = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int emptyCount = 0;
+
+        for(int i = 0; i < OFFSETS.length; i++)
+        {
+            // START FROM THE FACING DIRECTION SO THAT TIES ARE BROKEN WITHOUT A STEER
+            final int dir = (direction + i) % OFFSETS.length;
+            final int target = position + OFFSETS[dir];
+
+            if(contents[target] != EMPTY)
+            {
+                continue;
+            }
+
+            if(isExploring ? nextInt(++emptyCount) == 0 : goalDistances[target] < bestDistance)
+            {
+                bestDirection = dir;
+                bestDistance = goalDistances[target];
+            }
+        }
+
+        if(bestDirection < 0)
+        {
+            return ACTION_SCAN; // BOXED IN, THE SCAN ONLY PASSES THE TURN
+        }
+
+        return bestDirection == direction ? ACTION_MOVE : bestDirection + 1;
+    }
+
+    /**
+     * @return - A random int between 0 (inclusive) and the bound (exclusive)
+     */
+    int nextInt(final int bound)
+    {
+        return (int) ((nextLong() >>> 33) % bound);
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Decides the content of an unknown square, the square keeps that content for the rest of the playout
+     *
+     * @param cell - The window index of the square
+     *
+     * @return - The content of the square
+     */
+    private byte reveal(final int cell)
+    {
+        if(contents[cell] == UNKNOWN)
+        {
+            contents[cell] = nextDouble() < craterProbability ? CRATER : GRASS;
+        }
+
+        return contents[cell];
+    }
+
+    /**
+     * Fills the distance from every square of the window to the nearest grass or unknown square. When nothing worth
+     * reaching is inside the window the straight line distance to the nearest one on the rest of the lawn is used,
+     * so the playouts still drift the right way
+     */
+    private void loadGoalDistances(final LawnKnowledgeMap map, final int originX, final int originY)
+    {
+        int head = 0;
+        int tail = 0;
+
+        for(int cell = 0; cell < contents.length; cell++)
+        {
+            if(contents[cell] == GRASS || contents[cell] == UNKNOWN)
+            {
+                goalDistances[cell] = 0;
+                queue[tail++] = cell;
+            }
+            else{
+                goalDistances[cell] = UNREACHABLE;
+            }
+        }
+
+        if(tail == 0)
+        {
+            loadFarGoalDistances(map, originX, originY);
+
+            return;
+        }
+
+        while(head < tail)
+        {
+            final int current = queue[head++];
+
+            for(int offset : OFFSETS)
+            {
+                final int neighbour = current + offset;
+
+                // GOALS ARE ONLY EXPANDED THROUGH SQUARES THE MOWER CAN STAND ON, THE FENCE EDGE STOPS THE SEARCH
+                if(neighbour >= 0 && neighbour < contents.length
+                        && goalDistances[neighbour] == UNREACHABLE && contents[neighbour] == EMPTY)
+                {
+                    goalDistances[neighbour] = goalDistances[current] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the straight line distance from every square of the window to the nearest square worth reaching outside
+     * of the window, or zero everywhere when there is nothing left to reach
+     */
+    private void loadFarGoalDistances(final LawnKnowledgeMap map, final int originX, final int originY)
+    {
+        final KnowledgeMapSearch search = KnowledgeMapSearch.forMap(map);
+        final int start = map.getGridIndex(originX + RADIUS, originY + RADIUS);
+        final int goal = search.search(map, start, Direction.getDirectionByIndex(direction), GRASS_OR_UNKNOWN_GOAL,
+                map.getGridSize(), false);
+
+        for(int cell = 0; cell < contents.length; cell++)
+        {
+            if(goal == KnowledgeMapSearch.NOT_FOUND)
+            {
+                goalDistances[cell] = 0;
+            }
+            else{
+                final int dx = Math.abs(originX + cell % WIDTH - map.getxCoordinate(goal));
+                final int dy = Math.abs(originY + cell / WIDTH - map.getyCoordinate(goal));
+
+                goalDistances[cell] = Math.max(dx, dy);
+            }
+        }
+    }
+
+    /**
+     * @return - A random double between 0 (inclusive) and 1 (exclusive)
+     */
+    private double nextDouble()
+    {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Xorshift generator, the playouts draw millions of numbers per decision and java.util.Random would make every
+     * worker contend on the same seed
+     */
+    private long nextLong()
+    {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+
+        return seed;
+    }
+}
@@ -0,0 +1,245 @@
+package mower;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Class used to run Monte Carlo tree search over copies of a lookahead state. Every tree searches on its own, the
+ * lookahead service runs one tree per core from the same starting state and adds up the statistics of the first
+ * actions, so the trees never have to share anything while they are running
+ *
+ * Note:
+ * The nodes are kept in flat arrays that are reused between decisions, expanding a node claims the next block of
+ * ACTION_COUNT children so the child of a node for an action is always firstChild + action
+ */
+class LookaheadTree implements Callable<Void>
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int HORIZON = 12;
+
+    private static final int NO_CHILDREN = -1;
+    private static final int TIME_CHECK_INTERVAL = 32;
+    private static final double DISCOUNT = 0.9;
+    private static final double EXPLORATION = 2.0;
+    private static final double DISTANCE_WEIGHT = 0.25;
+
+    private final LookaheadState state;
+    private final int[] pathNodes;
+    private final double[] rewards;
+
+    private int[] visits;
+    private double[] valueSums;
+    private int[] firstChildren;
+    private int nodeCount;
+
+    private LookaheadState root;
+    private int iterations;
+    private long deadline;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    LookaheadTree()
+    {
+        this.state = new LookaheadState();
+        this.pathNodes = new int[HORIZON];
+        this.rewards = new double[HORIZON];
+        this.visits = new int[0];
+        this.valueSums = new double[0];
+        this.firstChildren = new int[0];
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Prepares the tree for a new decision, the tree is emptied but its arrays are kept when they are large enough
+     *
+     * @param root - The state every iteration starts from, it is only read by the tree
+     * @param iterations - The max number of iterations to run
+     * @param deadline - The System.nanoTime() after which no more iterations are started, Long.MAX_VALUE for none
+     * @param seed - The seed of the random choices made by the playouts
+     */
+    void reset(final LookaheadState root, final int iterations, final long deadline, final long seed)
+    {
+        state.setSeed(seed);
+
+        this.root = root;
+        this.iterations = iterations;
+        this.deadline = deadline;
+
+        // EVERY ITERATION EXPANDS AT MOST ONE NODE
+        final int capacity = 1 + (iterations + 1) * LookaheadState.ACTION_COUNT;
+
+        if(visits.length < capacity)
+        {
+            visits = new int[capacity];
+            valueSums = new double[capacity];
+            firstChildren = new int[capacity];
+        }
+
+        visits[0] = 0;
+        valueSums[0] = 0.0;
+        firstChildren[0] = NO_CHILDREN;
+        nodeCount = 1;
+    }
+
+    /**
+     * Runs the iterations of the search
+     */
+    @Override
+    public Void call()
+    {
+        for(int i = 0; i < iterations; i++)
+        {
+            if(i % TIME_CHECK_INTERVAL == 0 && System.nanoTime() > deadline)
+            {
+                break;
+            }
+
+            iterate();
+        }
+
+        return null;
+    }
+
+    /**
+     * @param action - The first action
+     *
+     * @return - The number of iterations that started with the action
+     */
+    int getRootVisits(final int action)
+    {
+        return firstChildren[0] == NO_CHILDREN ? 0 : visits[firstChildren[0] + action];
+    }
+
+    /**
+     * @param action - The first action
+     *
+     * @return - The sum of the discounted returns of the iterations that started with the action
+     */
+    double getRootValueSum(final int action)
+    {
+        return firstChildren[0] == NO_CHILDREN ? 0.0 : valueSums[firstChildren[0] + action];
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs a single iteration: select down the tree, expand a node, play out to the horizon, and back up the return
+     */
+    private void iterate()
+    {
+        state.copyFrom(root);
+
+        int node = 0;
+        int treeDepth = 0;
+
+        // 1. SELECT UNTIL A NODE THAT HAS NOT BEEN VISITED YET IS REACHED
+        while(treeDepth < HORIZON && !state.isCrashed())
+        {
+            if(firstChildren[node] == NO_CHILDREN)
+            {
+                if(node != 0 && visits[node] == 0)
+                {
+                    break;
+                }
+
+                expand(node);
+            }
+
+            final int action = select(node);
+
+            node = firstChildren[node] + action;
+            rewards[treeDepth] = state.apply(action);
+            pathNodes[treeDepth++] = node;
+
+            if(visits[node] == 0)
+            {
+                break;
+            }
+        }
+
+        // 2. PLAY OUT THE REST OF THE HORIZON WITH THE CHEAP PLAYOUT RULES
+        int depth = treeDepth;
+
+        while(depth < HORIZON && !state.isCrashed())
+        {
+            rewards[depth++] = state.apply(state.getPlayoutAction());
+        }
+
+        // 3. BACK UP THE DISCOUNTED RETURN, WHAT IS STILL LEFT TO REACH AFTER THE HORIZON COUNTS AGAINST THE PLAYOUT
+        double value = state.isCrashed() ? 0.0 : -DISTANCE_WEIGHT * state.getGoalDistance();
+
+        for(int i = depth - 1; i >= 0; i--)
+        {
+            value = rewards[i] + DISCOUNT * value;
+
+            if(i < treeDepth)
+            {
+                visits[pathNodes[i]]++;
+                valueSums[pathNodes[i]] += value;
+            }
+        }
+
+        visits[0]++;
+    }
+
+    /**
+     * Claims the block of children for a node
+     */
+    private void expand(final int node)
+    {
+        firstChildren[node] = nodeCount;
+
+        for(int i = 0; i < LookaheadState.ACTION_COUNT; i++)
+        {
+            visits[nodeCount] = 0;
+            valueSums[nodeCount] = 0.0;
+            firstChildren[nodeCount] = NO_CHILDREN;
+            nodeCount++;
+        }
+    }
+
+    /**
+     * Selects the action to follow from a node with UCB1, actions that have never been tried are tried first in a
+     * random order
+     *
+     * @return - The action
+     */
+    private int select(final int node)
+    {
+        final int first = firstChildren[node];
+        final double logVisits = Math.log(Math.max(1, visits[node]));
+        final int offset = state.nextInt(LookaheadState.ACTION_COUNT);
+
+        int bestAction = LookaheadState.ACTION_SCAN; // ALWAYS LEGAL
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for(int i = 0; i < LookaheadState.ACTION_COUNT; i++)
+        {
+            final int action = (offset + i) % LookaheadState.ACTION_COUNT;
+
+            if(!state.isLegal(action))
+            {
+                continue;
+            }
+
+            final int childVisits = visits[first + action];
+
+            if(childVisits == 0)
+            {
+                return action;
+            }
+
+            final double score = valueSums[first + action] / childVisits
+                    + EXPLORATION * Math.sqrt(logVisits / childVisits);
+
+            if(score > bestScore)
+            {
+                bestScore = score;
+                bestAction = action;
+            }
+        }
+
+        return bestAction;
+    }
+}
@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the low-risk strategy, which always uses the low risk service
+ */
+public class LowRiskMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "low-risk";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextLowRiskMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return false;
+    }
+}
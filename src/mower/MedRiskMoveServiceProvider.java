@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the medium-risk strategy, which always uses the med risk service
+ */
+public class MedRiskMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "medium-risk";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextMedRiskMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return false;
+    }
+}
@@ -4,7 +4,13 @@ import constant.Direction;
 import constant.LawnSquareContent;
 import constant.MowerMovementType;
 import constant.SimulationRiskProfile;
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
+import sim.MowerScanEvent;
+import sim.ReservationTable;
+import sim.RiskProfileChangeEvent;
 import sim.Simulation;
+import sim.SimulationParameters;
 
 import java.util.*;
 
@@ -19,106 +25,220 @@ public class Mower
     // FIELDS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private final Simulation simulation;
+    private final int id;
     private final String name;
     private final boolean isStrategic;
+    private final NextMowerMoveServiceProvider strategy;
 
-    private Direction direction;
-    private int xCoordinate;
-    private int yCoordinate;
-    private boolean isDisabled;
-    private int turnsSinceLastScan;
-    private List<LawnSquareContent> surroundingSquares;
+    // THE STATE THAT CHANGES FROM TURN TO TURN IS KEPT IN THE SLOT OF THE MOWER IN THE FLEET OF THE SIMULATION
+    private final MowerFleet fleet;
+    private final int slot;
+    private final List<LawnSquareContent> surroundingSquares;
+
+    private SimulationRiskProfile riskProfile;
+    private MowerPath plannedPath;
+    private CoveragePlan coveragePlan;
 
     // CONSTRUCTORS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    public Mower(String name, Direction direction, int xCoordinate, int yCoordinate, Simulation simulation, boolean isStrategic)
+    public Mower(int id,
+                 String name,
+                 Direction direction,
+                 int xCoordinate,
+                 int yCoordinate,
+                 Simulation simulation,
+                 boolean isStrategic,
+                 NextMowerMoveServiceProvider strategy)
     {
+        this.id = id;
         this.name = name;
-        this.direction = direction;
-        this.xCoordinate = xCoordinate;
-        this.yCoordinate = yCoordinate;
         this.simulation = simulation;
         this.isStrategic = isStrategic;
-        this.isDisabled = false;
-        this.surroundingSquares = new ArrayList<>(Collections.nCopies(8, LawnSquareContent.UNKNOWN));
-        this.turnsSinceLastScan = 0;
+        this.strategy = strategy;
+        this.fleet = simulation.getMowerFleet();
+        this.slot = fleet.add(direction, xCoordinate, yCoordinate);
+        this.surroundingSquares = fleet.getSurroundingSquares(slot);
     }
 
     // ACCESS METHODS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
 
+    /**
+     * @return - The slot of the mower in the fleet of the simulation
+     */
+    public int getSlot() {
+        return slot;
+    }
+
     public Direction getDirection() {
-        return direction;
+        return fleet.getDirection(slot);
     }
 
     public int getXCoordinate() {
-        return xCoordinate;
+        return fleet.getXCoordinate(slot);
     }
 
     public int getYCoordinate() {
-        return yCoordinate;
+        return fleet.getYCoordinate(slot);
     }
 
     public boolean isDisabled() {
-        return isDisabled;
+        return fleet.isDisabled(slot);
     }
 
     public boolean isStrategic() {
         return isStrategic;
     }
 
+    public NextMowerMoveServiceProvider getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the risk profile of the mower, which is determined from the grass left around the mower and the turns
+     * left in the simulation
+     *
+     * @return - The current risk profile
+     */
+    public SimulationRiskProfile getRiskProfile()
+    {
+        final SimulationRiskProfile newProfile = simulation.determineRiskProfile(this);
+
+        if(riskProfile != newProfile)
+        {
+            final RiskProfileChangeEvent event = new RiskProfileChangeEvent();
+
+            if(event.shouldCommit())
+            {
+                event.mowerName = name;
+                event.oldRiskProfile = riskProfile == null ? "" : riskProfile.name();
+                event.newRiskProfile = newProfile.name();
+                event.turn = simulation.getTurnsTaken() + 1;
+                event.commit();
+            }
+
+            riskProfile = newProfile;
+
+            simulation.displayRiskProfileChange(this, newProfile);
+        }
+
+        return riskProfile;
+    }
+
+    /**
+     * Gets the risk profile the mower last determined, without determining it again
+     *
+     * @return - The last risk profile, null if the strategy of the mower has never asked for one
+     */
+    public SimulationRiskProfile getLastRiskProfile() {
+        return riskProfile;
+    }
+
     public List<LawnSquareContent> getSurroundingSquares()
     {
         return surroundingSquares;
     }
 
     public int getTurnsSinceLastScan() {
-        return turnsSinceLastScan;
+        return fleet.getTurnsSinceLastScan(slot);
+    }
+
+    public LawnKnowledgeMap getKnowledgeMap() {
+        return simulation.getKnowledgeMap();
     }
 
-    // CUSTOM PUBLIC METHODS
-    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
-     * Determines the next mower move
+     * Gets the partition of the lawn into per mower regions
      *
-     * Note:
-     * Decided to keep the instances for the NextMowerMoveService local to take advantage of the lazy singletons
+     * @return - The partition, null when the simulation is not partitioning the lawn
+     */
+    public LawnPartition getLawnPartition() {
+        return simulation.getLawnPartition();
+    }
+
+    /**
+     * Gets the table the strategic mowers use to reserve the squares they are about to stand on
      *
-     * @return - The next mower move the mower will attempt to make
+     * @return - The reservation table, null when the simulation has no strategic mowers
      */
-    public MowerMove determineMove()
-    {
-        final SimulationRiskProfile riskProfile = simulation.getSimulationRiskProfile();
+    public ReservationTable getReservationTable() {
+        return simulation.getReservationTable();
+    }
 
-        MowerMove response;
+    /**
+     * @return - The source of every random choice the mower makes, shared by every mower in the simulation
+     */
+    public Random getRandom() {
+        return simulation.getRandom();
+    }
 
-        if(riskProfile == SimulationRiskProfile.LOW)
-        {
-            NextMowerMoveService lowRiskMoveService = NextLowRiskMoveServiceImpl.getInstance();
+    /**
+     * @return - The thresholds the mower decides with, shared by every mower in the simulation
+     */
+    public SimulationParameters getParameters() {
+        return simulation.getParameters();
+    }
 
-            response = lowRiskMoveService.getNextMowerMove(this);
-        }
-        else if(riskProfile == SimulationRiskProfile.MEDIUM)
-        {
-            NextMowerMoveService medRiskMoveService = NextMedRiskMoveServiceImpl.getInstance();
+    public int getCurrentTurn() {
+        return simulation.getTurnsTaken();
+    }
 
-            response = medRiskMoveService.getNextMowerMove(this);
-        }
-        else if(riskProfile == SimulationRiskProfile.HIGH)
+    /**
+     * Gets the route the mower has planned, the route is only created for mowers that use a planning strategy
+     *
+     * @return - The planned route
+     */
+    MowerPath getPlannedPath()
+    {
+        if(plannedPath == null)
         {
-            NextMowerMoveService highRiskMoveService = NextHighRiskMoveServiceImpl.getInstance();
+            plannedPath = new MowerPath();
+        }
+
+        return plannedPath;
+    }
 
-            response = highRiskMoveService.getNextMowerMove(this);
+    /**
+     * Gets the order the mower is covering the lawn in, the order is only created for mowers that use the coverage
+     * strategy
+     *
+     * @return - The coverage plan
+     */
+    CoveragePlan getCoveragePlan()
+    {
+        if(coveragePlan == null)
+        {
+            coveragePlan = new CoveragePlan();
         }
-        else{
-            // THIS SHOULD NEVER BE REACHED BECAUSE RISK PROFILE SHOULD ALWAYS BE SET
-            throw new RuntimeException("[RISK PROFILE ERROR] :: determineMove - The risk profile is invalid");
+
+        return coveragePlan;
+    }
+
+    // CUSTOM PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move with the move service of the mowers strategy, strategic mowers then check the
+     * move against the squares the other strategic mowers have reserved and reserve the square they will end up on
+     *
+     * @return - The next mower move the mower will attempt to make
+     */
+    public MowerMove determineMove()
+    {
+        MowerMove move = strategy.getMoveService().getNextMowerMove(this);
+
+        if(isStrategic && simulation.getReservationTable() != null)
+        {
+            move = reserveSquaresForMove(move);
         }
 
-        return response;
+        return move;
     }
 
     /**
@@ -136,24 +256,24 @@ public class Mower
 
                 updateSurroundingSquaresAfterMove();
 
-                turnsSinceLastScan++;
+                fleet.setTurnsSinceLastScan(slot, fleet.getTurnsSinceLastScan(slot) + 1);
             }
             else if(mowerMove.getMowerMovementType() == MowerMovementType.STEER)
             {
                 steer(mowerMove.getDirection());
 
-                turnsSinceLastScan++;
+                fleet.setTurnsSinceLastScan(slot, fleet.getTurnsSinceLastScan(slot) + 1);
             }
             else if(mowerMove.getMowerMovementType() == MowerMovementType.SCAN)
             {
                 scan();
 
-                turnsSinceLastScan = 0;
+                fleet.setTurnsSinceLastScan(slot, 0);
             }
             else{
                 pass();
 
-                turnsSinceLastScan++;
+                fleet.setTurnsSinceLastScan(slot, fleet.getTurnsSinceLastScan(slot) + 1);
             }
         }
         else{
@@ -166,24 +286,78 @@ public class Mower
      */
     public void disableMower()
     {
-        if(!isDisabled)
+        fleet.disable(slot);
+    }
+
+    // CUSTOM PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Reserves the square the mower will stand on after a move for this turn and the next, so the mowers that move
+     * after it in either turn know where it is. Planning mowers also reserve the next steps of their route for the
+     * turns after that
+     *
+     * Note:
+     * A move onto a square that another mower holds would disable both mowers, so the mower waits a turn instead
+     *
+     * @param move - The move the strategy picked
+     *
+     * @return - The move the mower will actually make
+     */
+    private MowerMove reserveSquaresForMove(final MowerMove move)
+    {
+        final ReservationTable reservationTable = simulation.getReservationTable();
+        final int turn = simulation.getTurnsTaken();
+        final int xCoordinate = fleet.getXCoordinate(slot);
+        final int yCoordinate = fleet.getYCoordinate(slot);
+
+        MowerMove response = move;
+
+        if(move.getMowerMovementType() == MowerMovementType.MOVE
+                && reservationTable.isReservedByOther(id, move.getNewXCoordinate(), move.getNewYCoordinate(), turn))
+        {
+            response = new MowerMove(name, MowerMovementType.PASS, fleet.getDirection(slot), xCoordinate,
+                    yCoordinate);
+        }
+
+        int nextX = xCoordinate;
+        int nextY = yCoordinate;
+
+        if(response.getMowerMovementType() == MowerMovementType.MOVE)
         {
-            isDisabled = true;
+            nextX = response.getNewXCoordinate();
+            nextY = response.getNewYCoordinate();
+
+            reservationTable.release(id, xCoordinate, yCoordinate, turn);
         }
 
-        xCoordinate = Integer.MIN_VALUE;
-        yCoordinate = Integer.MIN_VALUE;
+        reservationTable.reserve(id, nextX, nextY, turn);
+        reservationTable.reserve(id, nextX, nextY, turn + 1);
+
+        final LawnKnowledgeMap knowledgeMap = simulation.getKnowledgeMap();
+
+        if(plannedPath != null && knowledgeMap != null && response == move)
+        {
+            // THE STEP BEING MOVED ONTO IS ALREADY RESERVED ABOVE, RESERVE THE ONES AFTER IT
+            final int firstStep = plannedPath.getCursor() + 1;
+
+            for(int i = 0; i < ReservationTable.HORIZON - 2 && firstStep + i < plannedPath.getLength(); i++)
+            {
+                final int step = plannedPath.getStep(firstStep + i);
+
+                reservationTable.reserveIfFree(id, knowledgeMap.getxCoordinate(step),
+                        knowledgeMap.getyCoordinate(step), turn + 2 + i);
+            }
+        }
+
+        return response;
     }
 
-    // CUSTOM PRIVATE METHODS
-    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
      * Moves the mower forward 1 space in the current direction
      */
     private void move()
     {
-        xCoordinate += direction.getxIncrement();
-        yCoordinate += direction.getyIncrement();
+        fleet.move(slot);
     }
 
     /**
@@ -197,7 +371,7 @@ public class Mower
     {
         if(direction != null)
         {
-            this.direction = direction;
+            fleet.setDirection(slot, direction);
         }
         else{
             final String errorMsg = "[ERROR] - Cannot change the mower direction to null";
@@ -216,6 +390,13 @@ public class Mower
      */
     private List<LawnSquareContent> scan()
     {
+        final MowerScanEvent event = new MowerScanEvent();
+
+        event.begin();
+
+        final int xCoordinate = fleet.getXCoordinate(slot);
+        final int yCoordinate = fleet.getYCoordinate(slot);
+
         surroundingSquares.set(0, simulation.getLawnSquareContent(xCoordinate, yCoordinate + 1));
         surroundingSquares.set(1, simulation.getLawnSquareContent(xCoordinate + 1, yCoordinate + 1));
         surroundingSquares.set(2, simulation.getLawnSquareContent(xCoordinate + 1, yCoordinate));
@@ -225,11 +406,50 @@ public class Mower
         surroundingSquares.set(6, simulation.getLawnSquareContent(xCoordinate - 1, yCoordinate));
         surroundingSquares.set(7, simulation.getLawnSquareContent(xCoordinate - 1, yCoordinate + 1));
 
+        recordScanInKnowledgeMap();
+
+        event.end();
+
+        if(event.shouldCommit())
+        {
+            event.mowerName = name;
+            event.xCoordinate = xCoordinate;
+            event.yCoordinate = yCoordinate;
+            event.grassSeen = Collections.frequency(surroundingSquares, LawnSquareContent.GRASS);
+            event.turn = simulation.getTurnsTaken() + 1;
+            event.commit();
+        }
+
         simulation.displayScanResults(surroundingSquares);
 
         return surroundingSquares;
     }
 
+    /**
+     * Writes the current surrounding squares model into the shared knowledge map, if the simulation is using one
+     */
+    private void recordScanInKnowledgeMap()
+    {
+        final LawnKnowledgeMap knowledgeMap = simulation.getKnowledgeMap();
+
+        if(knowledgeMap != null)
+        {
+            final int turn = simulation.getTurnsTaken();
+            final int xCoordinate = fleet.getXCoordinate(slot);
+            final int yCoordinate = fleet.getYCoordinate(slot);
+
+            for(int i = 0; i < 8; i++)
+            {
+                final Direction dir = Direction.getDirectionByIndex(i);
+
+                knowledgeMap.recordObservation(xCoordinate + dir.getxIncrement(),
+                        yCoordinate + dir.getyIncrement(),
+                        surroundingSquares.get(dir.getIndex()),
+                        turn);
+            }
+        }
+    }
+
     /**
      * Does nothing and passes the mowers turn
      */
@@ -243,141 +463,6 @@ public class Mower
      */
     private void updateSurroundingSquaresAfterMove()
     {
-        List<LawnSquareContent> newModel = new ArrayList<>(Collections.nCopies(8, null));
-
-        if(direction == Direction.NORTH) // MOVING TO POSITION 0 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(2, surroundingSquares.get(1));
-            newModel.set(3, surroundingSquares.get(2));
-            newModel.set(5, surroundingSquares.get(6));
-            newModel.set(6, surroundingSquares.get(7));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(4, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(0, LawnSquareContent.UNKNOWN);
-            newModel.set(1, LawnSquareContent.UNKNOWN);
-            newModel.set(7, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.NORTHEAST) // MOVING TO POSITION 1 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(4, surroundingSquares.get(2));
-            newModel.set(6, surroundingSquares.get(0));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(5, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(0, LawnSquareContent.UNKNOWN);
-            newModel.set(1, LawnSquareContent.UNKNOWN);
-            newModel.set(2, LawnSquareContent.UNKNOWN);
-            newModel.set(3, LawnSquareContent.UNKNOWN);
-            newModel.set(7, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.EAST) // MOVING TO POSITION 2 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(0, surroundingSquares.get(1));
-            newModel.set(4, surroundingSquares.get(3));
-            newModel.set(5, surroundingSquares.get(4));
-            newModel.set(7, surroundingSquares.get(0));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(6, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(1, LawnSquareContent.UNKNOWN);
-            newModel.set(2, LawnSquareContent.UNKNOWN);
-            newModel.set(3, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.SOUTHEAST) // MOVING TO POSITION 3 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(0, surroundingSquares.get(2));
-            newModel.set(6, surroundingSquares.get(4));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(7, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(1, LawnSquareContent.UNKNOWN);
-            newModel.set(2, LawnSquareContent.UNKNOWN);
-            newModel.set(3, LawnSquareContent.UNKNOWN);
-            newModel.set(4, LawnSquareContent.UNKNOWN);
-            newModel.set(5, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.SOUTH) // MOVING TO POSITION 4 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(1, surroundingSquares.get(2));
-            newModel.set(2, surroundingSquares.get(3));
-            newModel.set(6, surroundingSquares.get(5));
-            newModel.set(7, surroundingSquares.get(6));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(0, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(3, LawnSquareContent.UNKNOWN);
-            newModel.set(4, LawnSquareContent.UNKNOWN);
-            newModel.set(5, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.SOUTHWEST) // MOVING TO POSITION 5 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(0, surroundingSquares.get(6));
-            newModel.set(2, surroundingSquares.get(4));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(1, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(3, LawnSquareContent.UNKNOWN);
-            newModel.set(4, LawnSquareContent.UNKNOWN);
-            newModel.set(5, LawnSquareContent.UNKNOWN);
-            newModel.set(6, LawnSquareContent.UNKNOWN);
-            newModel.set(7, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.WEST) // MOVING TO POSITION 6 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(0, surroundingSquares.get(7));
-            newModel.set(1, surroundingSquares.get(0));
-            newModel.set(3, surroundingSquares.get(4));
-            newModel.set(4, surroundingSquares.get(5));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(2, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(5, LawnSquareContent.UNKNOWN);
-            newModel.set(6, LawnSquareContent.UNKNOWN);
-            newModel.set(7, LawnSquareContent.UNKNOWN);
-        }
-        else if(direction == Direction.NORTHWEST) // MOVING TO POSITION 7 IN THE EXISTING MODEL
-        {
-            // CONVERT THE EXISTING SQUARES TO THEIR NEW POSITION IN THE MODEL
-            newModel.set(2, surroundingSquares.get(0));
-            newModel.set(4, surroundingSquares.get(6));
-
-            // SET THE VALUE OF THE SQUARE THE MOWER MOVED FROM TO EMPTY
-            newModel.set(3, LawnSquareContent.EMPTY);
-
-            // SET THE VALUES OF THE UNKNOWN SQUARES
-            newModel.set(0, LawnSquareContent.UNKNOWN);
-            newModel.set(1, LawnSquareContent.UNKNOWN);
-            newModel.set(5, LawnSquareContent.UNKNOWN);
-            newModel.set(6, LawnSquareContent.UNKNOWN);
-            newModel.set(7, LawnSquareContent.UNKNOWN);
-        }
-        else{
-            // SHOULD NEVER REACH THIS BECAUSE ALL DIRECTIONS ARE COVERED
-            throw new RuntimeException("[UPDATE MODEL ERROR] :: updateSurroundingSquaresAfterMove - Invalid Direction");
-        }
-
-        surroundingSquares = newModel;
+        fleet.shiftSurroundingSquares(slot);
     }
 }
\ No newline at end of file
@@ -0,0 +1,403 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class used to hold the state every mower changes from turn to turn in parallel arrays, one slot per mower. The turn
+ * loop walks the arrays in order instead of following a reference to every mower, and the 8 surrounding squares of a
+ * mower are packed into a single int instead of a list of references
+ *
+ * The active mowers are also linked together in slot order, so the turn loop only visits the mowers that are still
+ * active and a mower is taken out of the links in constant time when it is disabled
+ *
+ * Note:
+ * A mower keeps the slot it is given for as long as it exists, the simulation adds its mowers first so their slots
+ * match the order they take their turns in
+ */
+public class MowerFleet
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int NO_SLOT = -1;
+
+    private static final LawnSquareContent[] CONTENTS = LawnSquareContent.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // EVERY SURROUNDING SQUARE TAKES 3 BITS, STARTING WITH THE NORTHERN MOST SQUARE IN THE LOWEST BITS
+    private static final int SQUARE_BITS = 3;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int UNKNOWN_NEIGHBORHOOD = fill(LawnSquareContent.UNKNOWN);
+
+    // WHERE EVERY SURROUNDING SQUARE WAS BEFORE A MOVE IN EACH DIRECTION, THE SQUARE MOVED FROM OR A NEW SQUARE
+    private static final int MOVED_FROM = -1;
+    private static final int NOT_SEEN = -2;
+    private static final int[][] SQUARES_BEFORE_MOVE = createSquaresBeforeMove();
+
+    private int size;
+    private int[] xCoordinates;
+    private int[] yCoordinates;
+    private byte[] directions;
+    private boolean[] disabled;
+    private int[] turnsSinceLastScan;
+    private int[] neighborhoods;
+
+    // A DISABLED MOWER KEEPS THE NEXT SLOT IT HAD, SO A LOOP THAT IS STANDING ON IT WHEN IT IS DISABLED CAN GO ON
+    private int[] nextActiveSlots;
+    private int[] previousActiveSlots;
+    private int firstActiveSlot;
+    private int lastActiveSlot;
+    private int activeCount;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param capacity - The number of mowers expected, the fleet grows past it when needed
+     */
+    public MowerFleet(final int capacity)
+    {
+        final int length = Math.max(capacity, 1);
+
+        this.xCoordinates = new int[length];
+        this.yCoordinates = new int[length];
+        this.directions = new byte[length];
+        this.disabled = new boolean[length];
+        this.turnsSinceLastScan = new int[length];
+        this.neighborhoods = new int[length];
+        this.nextActiveSlots = new int[length];
+        this.previousActiveSlots = new int[length];
+        this.firstActiveSlot = NO_SLOT;
+        this.lastActiveSlot = NO_SLOT;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int size() {
+        return size;
+    }
+
+    public int getXCoordinate(final int slot) {
+        return xCoordinates[slot];
+    }
+
+    public int getYCoordinate(final int slot) {
+        return yCoordinates[slot];
+    }
+
+    public Direction getDirection(final int slot) {
+        return DIRECTIONS[directions[slot]];
+    }
+
+    public boolean isDisabled(final int slot) {
+        return disabled[slot];
+    }
+
+    public int getTurnsSinceLastScan(final int slot) {
+        return turnsSinceLastScan[slot];
+    }
+
+    /**
+     * @param slot - The slot of the mower
+     *
+     * @return - The surrounding squares of the mower, 3 bits per square holding the ordinal of its content
+     */
+    public int getNeighborhood(final int slot) {
+        return neighborhoods[slot];
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * @return - The slot of the first active mower, NO_SLOT when every mower has been disabled
+     */
+    public int getFirstActiveSlot() {
+        return firstActiveSlot;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the content of one of the surrounding squares of a packed neighborhood
+     *
+     * @param neighborhood - The packed neighborhood
+     * @param index - The direction index of the square
+     *
+     * @return - The content of the square
+     */
+    public static LawnSquareContent getSquare(final int neighborhood, final int index)
+    {
+        return CONTENTS[(neighborhood >>> (index * SQUARE_BITS)) & SQUARE_MASK];
+    }
+
+    /**
+     * Gets the active mower that comes after a mower, the mower itself may have been disabled since it was reached
+     *
+     * @param slot - The slot of the mower
+     *
+     * @return - The slot of the next active mower, NO_SLOT when there are no more
+     */
+    public int getNextActiveSlot(final int slot)
+    {
+        int response = nextActiveSlots[slot];
+
+        // ONLY MOWERS DISABLED AFTER THE MOWER ITSELF WAS DISABLED ARE SKIPPED HERE
+        while(response != NO_SLOT && disabled[response])
+        {
+            response = nextActiveSlots[response];
+        }
+
+        return response;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Adds a mower to the fleet, every surrounding square starts out unknown
+     *
+     * @return - The slot of the mower
+     */
+    int add(final Direction direction, final int xCoordinate, final int yCoordinate)
+    {
+        if(size == xCoordinates.length)
+        {
+            grow();
+        }
+
+        xCoordinates[size] = xCoordinate;
+        yCoordinates[size] = yCoordinate;
+        directions[size] = (byte) direction.getIndex();
+        neighborhoods[size] = UNKNOWN_NEIGHBORHOOD;
+        nextActiveSlots[size] = NO_SLOT;
+        previousActiveSlots[size] = lastActiveSlot;
+
+        if(lastActiveSlot == NO_SLOT)
+        {
+            firstActiveSlot = size;
+        }
+        else{
+            nextActiveSlots[lastActiveSlot] = size;
+        }
+
+        lastActiveSlot = size;
+        activeCount++;
+
+        return size++;
+    }
+
+    /**
+     * Moves a mower forward 1 square in the direction it faces
+     */
+    void move(final int slot)
+    {
+        xCoordinates[slot] += DIRECTIONS[directions[slot]].getxIncrement();
+        yCoordinates[slot] += DIRECTIONS[directions[slot]].getyIncrement();
+    }
+
+    /**
+     * Shifts the surrounding squares of a mower after it moved in the direction it faces, the square it moved from is
+     * now empty and the squares it has not seen yet are unknown
+     */
+    void shiftSurroundingSquares(final int slot)
+    {
+        final int[] squaresBeforeMove = SQUARES_BEFORE_MOVE[directions[slot]];
+        final int neighborhood = neighborhoods[slot];
+
+        int newNeighborhood = 0;
+
+        for(int i = 0; i < 8; i++)
+        {
+            final int before = squaresBeforeMove[i];
+
+            int content;
+
+            if(before == MOVED_FROM)
+            {
+                content = LawnSquareContent.EMPTY.ordinal();
+            }
+            else if(before == NOT_SEEN)
+            {
+                content = LawnSquareContent.UNKNOWN.ordinal();
+            }
+            else{
+                content = (neighborhood >>> (before * SQUARE_BITS)) & SQUARE_MASK;
+            }
+
+            newNeighborhood |= content << (i * SQUARE_BITS);
+        }
+
+        neighborhoods[slot] = newNeighborhood;
+    }
+
+    void setDirection(final int slot, final Direction direction) {
+        directions[slot] = (byte) direction.getIndex();
+    }
+
+    void setTurnsSinceLastScan(final int slot, final int turns) {
+        turnsSinceLastScan[slot] = turns;
+    }
+
+    void setSquare(final int slot, final int index, final LawnSquareContent content)
+    {
+        final int shift = index * SQUARE_BITS;
+
+        neighborhoods[slot] = (neighborhoods[slot] & ~(SQUARE_MASK << shift)) | (content.ordinal() << shift);
+    }
+
+    /**
+     * Disables a mower, takes it off the lawn, and unlinks it from the active mowers
+     */
+    void disable(final int slot)
+    {
+        if(!disabled[slot])
+        {
+            final int previous = previousActiveSlots[slot];
+            final int next = nextActiveSlots[slot];
+
+            if(previous == NO_SLOT)
+            {
+                firstActiveSlot = next;
+            }
+            else{
+                nextActiveSlots[previous] = next;
+            }
+
+            if(next == NO_SLOT)
+            {
+                lastActiveSlot = previous;
+            }
+            else{
+                previousActiveSlots[next] = previous;
+            }
+
+            activeCount--;
+        }
+
+        disabled[slot] = true;
+        xCoordinates[slot] = Integer.MIN_VALUE;
+        yCoordinates[slot] = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Gets the surrounding squares of a mower as a list that reads and writes the packed neighborhood
+     *
+     * @param slot - The slot of the mower
+     *
+     * @return - The list, it always holds 8 squares indexed by direction index
+     */
+    List<LawnSquareContent> getSurroundingSquares(final int slot)
+    {
+        return new SurroundingSquares(slot);
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void grow()
+    {
+        final int length = xCoordinates.length * 2;
+
+        xCoordinates = Arrays.copyOf(xCoordinates, length);
+        yCoordinates = Arrays.copyOf(yCoordinates, length);
+        directions = Arrays.copyOf(directions, length);
+        disabled = Arrays.copyOf(disabled, length);
+        turnsSinceLastScan = Arrays.copyOf(turnsSinceLastScan, length);
+        neighborhoods = Arrays.copyOf(neighborhoods, length);
+        nextActiveSlots = Arrays.copyOf(nextActiveSlots, length);
+        previousActiveSlots = Arrays.copyOf(previousActiveSlots, length);
+    }
+
+    private static int fill(final LawnSquareContent content)
+    {
+        int response = 0;
+
+        for(int i = 0; i < 8; i++)
+        {
+            response |= content.ordinal() << (i * SQUARE_BITS);
+        }
+
+        return response;
+    }
+
+    /**
+     * A square next to the mower after a move is the square at the same offset plus the move from where the mower
+     * was, which is either the square it moved from, one of the squares it could already see, or a new square
+     */
+    private static int[][] createSquaresBeforeMove()
+    {
+        final int[][] response = new int[8][8];
+
+        for(Direction move : DIRECTIONS)
+        {
+            for(Direction square : DIRECTIONS)
+            {
+                final int xOffset = square.getxIncrement() + move.getxIncrement();
+                final int yOffset = square.getyIncrement() + move.getyIncrement();
+
+                int before;
+
+                if(xOffset == 0 && yOffset == 0)
+                {
+                    before = MOVED_FROM;
+                }
+                else if(Math.abs(xOffset) > 1 || Math.abs(yOffset) > 1)
+                {
+                    before = NOT_SEEN;
+                }
+                else{
+                    before = Direction.getDirectionByIncrements(xOffset, yOffset).getIndex();
+                }
+
+                response[move.getIndex()][square.getIndex()] = before;
+            }
+        }
+
+        return response;
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * The surrounding squares of one mower, read from and written to the packed neighborhood of its slot
+     */
+    private class SurroundingSquares extends AbstractList<LawnSquareContent>
+    {
+        private final int slot;
+
+        private SurroundingSquares(final int slot)
+        {
+            this.slot = slot;
+        }
+
+        @Override
+        public LawnSquareContent get(final int index)
+        {
+            if(index < 0 || index >= 8)
+            {
+                throw new IndexOutOfBoundsException("[ERROR] - There is no surrounding square " + index);
+            }
+
+            return getSquare(neighborhoods[slot], index);
+        }
+
+        @Override
+        public LawnSquareContent set(final int index, final LawnSquareContent content)
+        {
+            final LawnSquareContent response = get(index);
+
+            setSquare(slot, index, content);
+
+            return response;
+        }
+
+        @Override
+        public int size()
+        {
+            return 8;
+        }
+    }
+}
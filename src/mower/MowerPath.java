@@ -0,0 +1,173 @@
+package mower;
+
+/**
+ * Class used to hold the route a mower has planned over the knowledge map. Each step of the route is a grid index
+ * of the knowledge map, the cursor points at the next step the mower needs to take
+ */
+class MowerPath
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] steps;
+    private int length;
+    private int cursor;
+    private boolean isExploring;
+    private int validatedRevision;
+    private int partitionRevision;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    MowerPath()
+    {
+        this.steps = new int[INITIAL_CAPACITY];
+        clear();
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    int getCursor() {
+        return cursor;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    boolean isExploring() {
+        return isExploring;
+    }
+
+    int getValidatedRevision() {
+        return validatedRevision;
+    }
+
+    void setValidatedRevision(int validatedRevision) {
+        this.validatedRevision = validatedRevision;
+    }
+
+    int getPartitionRevision() {
+        return partitionRevision;
+    }
+
+    void setPartitionRevision(int partitionRevision) {
+        this.partitionRevision = partitionRevision;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Clears the route so the mower has to plan a new one
+     */
+    void clear()
+    {
+        length = 0;
+        cursor = 0;
+        isExploring = false;
+        validatedRevision = -1;
+    }
+
+    /**
+     * @return - True if there are no more steps left in the route
+     */
+    boolean isComplete()
+    {
+        return cursor >= length;
+    }
+
+    /**
+     * Gets a step of the route
+     *
+     * @param idx - The position of the step in the route
+     *
+     * @return - The grid index of the step
+     */
+    int getStep(final int idx)
+    {
+        return steps[idx];
+    }
+
+    /**
+     * @return - The grid index of the next step the mower needs to take
+     */
+    int getNextStep()
+    {
+        return steps[cursor];
+    }
+
+    /**
+     * @return - The grid index of the square the route ends at
+     */
+    int getTarget()
+    {
+        return steps[length - 1];
+    }
+
+    /**
+     * Advances the cursor when the mower has reached the next step of the route
+     *
+     * @param gridIndex - The grid index the mower is currently located at
+     */
+    void advanceTo(final int gridIndex)
+    {
+        if(!isComplete() && steps[cursor] == gridIndex)
+        {
+            cursor++;
+        }
+    }
+
+    /**
+     * Replaces the route with a new one
+     *
+     * @param newSteps - The buffer holding the new steps, in order
+     * @param count - The number of steps in the buffer
+     * @param isExploring - True if the route ends at an unknown square instead of grass
+     */
+    void setSteps(final int[] newSteps, final int count, final boolean isExploring)
+    {
+        ensureCapacity(count);
+
+        System.arraycopy(newSteps, 0, steps, 0, count);
+
+        this.length = count;
+        this.cursor = 0;
+        this.isExploring = isExploring;
+    }
+
+    /**
+     * Repairs the route by replacing every step before a rejoin point with a detour. The steps from the rejoin point
+     * to the end of the route are kept as they are
+     *
+     * @param detour - The buffer holding the detour steps, the last step of the detour is the rejoin point
+     * @param detourCount - The number of steps in the detour
+     * @param rejoinIdx - The position of the rejoin point in the existing route
+     */
+    void splice(final int[] detour, final int detourCount, final int rejoinIdx)
+    {
+        final int remaining = length - rejoinIdx - 1;
+        final int newLength = detourCount + remaining;
+
+        final int[] newSteps = new int[Math.max(newLength, INITIAL_CAPACITY)];
+
+        System.arraycopy(detour, 0, newSteps, 0, detourCount);
+        System.arraycopy(steps, rejoinIdx + 1, newSteps, detourCount, remaining);
+
+        this.steps = newSteps;
+        this.length = newLength;
+        this.cursor = 0;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Grows the steps buffer if it cannot hold the number of steps
+     */
+    private void ensureCapacity(final int count)
+    {
+        if(steps.length < count)
+        {
+            steps = new int[Math.max(count, steps.length * 2)];
+        }
+    }
+}
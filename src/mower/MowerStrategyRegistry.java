@@ -0,0 +1,93 @@
+package mower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Class used to look up the strategies that are available to the mowers by their name. The strategies are
+ * discovered once through the ServiceLoader the first time the registry is used
+ */
+public final class MowerStrategyRegistry
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final String DEFAULT_STRATEGY = "risk-profile";
+
+    private static Map<String, NextMowerMoveServiceProvider> providers;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private MowerStrategyRegistry(){}
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the provider of a strategy
+     *
+     * @param strategyName - The name of the strategy, matched case insensitively
+     *
+     * @return - The provider of the strategy
+     *
+     * @throws RuntimeException - When no strategy with the name has been registered
+     */
+    public static NextMowerMoveServiceProvider getProvider(final String strategyName)
+    {
+        final NextMowerMoveServiceProvider provider =
+                strategyName == null ? null : getProviders().get(strategyName.trim().toLowerCase());
+
+        if(provider == null)
+        {
+            final String errorMsg = "[ERROR] - Unknown mower strategy '" + strategyName + "', the registered "
+                    + "strategies are " + getStrategyNames();
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        return provider;
+    }
+
+    /**
+     * Gets the names of every registered strategy, in the order they were discovered
+     *
+     * @return - The strategy names
+     */
+    public static List<String> getStrategyNames()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(getProviders().keySet()));
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lazily discovers the providers, the first provider found for a name wins
+     *
+     * @return - The providers keyed by their lower case strategy name
+     */
+    private static synchronized Map<String, NextMowerMoveServiceProvider> getProviders()
+    {
+        if(providers == null)
+        {
+            final Map<String, NextMowerMoveServiceProvider> discovered = new LinkedHashMap<>();
+
+            for(NextMowerMoveServiceProvider provider : ServiceLoader.load(NextMowerMoveServiceProvider.class))
+            {
+                final String name = provider.getStrategyName().trim().toLowerCase();
+
+                if(!discovered.containsKey(name))
+                {
+                    discovered.put(name, provider);
+                }
+            }
+
+            providers = discovered;
+        }
+
+        return providers;
+    }
+}
@@ -0,0 +1,190 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import constant.MowerMovementType;
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
+
+/**
+ * Concrete singleton implementation for determining the next mower move by systematically covering the lawn. The
+ * lawn is decomposed into boustrophedon cells around the known craters and each cell is swept back and forth, so
+ * every square is visited once instead of being revisited by random or greedy moves
+ *
+ * Note:
+ * Squares that have not been observed yet are assumed to be free, the mower scans before stepping onto one and the
+ * order is rebuilt whenever a scan reveals a new obstacle. When the lawn is partitioned each mower covers its own
+ * region first
+ */
+class NextCoverageMoveServiceImpl extends NextMowerMoveService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static NextCoverageMoveServiceImpl nextCoverageMoveService;
+
+    // CONSTRUCTOR
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private NextCoverageMoveServiceImpl(){}
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move by heading towards the next uncovered square in the coverage order
+     *
+     * @return - The mower move the mower should attempt to make
+     */
+    @Override
+    public MowerMove getNextMowerMove(final Mower mower)
+    {
+        if(!mower.isStrategic())
+        {
+            return getRandomMowerMove(mower);
+        }
+
+        final LawnKnowledgeMap map = mower.getKnowledgeMap();
+        final LawnPartition partition = mower.getLawnPartition();
+        final CoveragePlan plan = mower.getCoveragePlan();
+
+        refreshSurroundingSquaresFromKnowledgeMap(mower);
+
+        if(!plan.isCurrent(map, partition))
+        {
+            plan.rebuild(map, partition, mower.getId(), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        int nextStep = findNextStep(mower, map, plan);
+
+        // ONCE THE MOWERS OWN REGION IS COVERED IT HELPS OUT WITH THE REST OF THE LAWN
+        if(nextStep == KnowledgeMapSearch.NOT_FOUND && plan.isRegionOnly())
+        {
+            plan.rebuild(map, null, mower.getId(), mower.getXCoordinate(), mower.getYCoordinate());
+
+            nextStep = findNextStep(mower, map, plan);
+        }
+
+        MowerMove response;
+
+        if(nextStep == KnowledgeMapSearch.NOT_FOUND)
+        {
+            response = new MowerMove(mower.getName(),
+                    MowerMovementType.PASS, mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else if(map.getContent(nextStep) == LawnSquareContent.UNKNOWN)
+        {
+            response = new MowerMove(mower.getName(),
+                    MowerMovementType.SCAN, mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else
+        {
+            final Direction direction = Direction.getDirectionByIncrements(
+                    map.getxCoordinate(nextStep) - mower.getXCoordinate(),
+                    map.getyCoordinate(nextStep) - mower.getYCoordinate());
+
+            response = direction == mower.getDirection()
+                    ? getMowerMoveForMovingInCurrentDirection(mower)
+                    : new MowerMove(mower.getName(),
+                            MowerMovementType.STEER, direction, mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Finds the next step towards the next square in the coverage order, skipping every square that is already
+     * covered, blocked, or cannot be reached
+     *
+     * @return - The grid index of the next step, NOT_FOUND if the order has been completed
+     */
+    private int findNextStep(final Mower mower, final LawnKnowledgeMap map, final CoveragePlan plan)
+    {
+        final int position = map.getGridIndex(mower.getXCoordinate(), mower.getYCoordinate());
+
+        int nextStep = KnowledgeMapSearch.NOT_FOUND;
+
+        while(!plan.isComplete() && nextStep == KnowledgeMapSearch.NOT_FOUND)
+        {
+            if(isCovered(map.getContent(plan.getTarget())) || plan.getTarget() == position)
+            {
+                plan.advance();
+            }
+            else
+            {
+                nextStep = getNextStepTowards(map, position, mower.getDirection(), plan.getTarget());
+
+                if(nextStep == KnowledgeMapSearch.NOT_FOUND)
+                {
+                    plan.advance();
+                }
+            }
+        }
+
+        return nextStep;
+    }
+
+    /**
+     * Checks to see if a square no longer needs to be covered
+     *
+     * @param content - The content of the square
+     *
+     * @return - True if the square is cut, blocked, or occupied by another mower
+     */
+    private boolean isCovered(final LawnSquareContent content)
+    {
+        return content == LawnSquareContent.EMPTY
+                || content == LawnSquareContent.CRATER
+                || content == LawnSquareContent.FENCE
+                || content == LawnSquareContent.MOWER;
+    }
+
+    /**
+     * Gets the first step the mower needs to take to reach a target square
+     *
+     * @return - The grid index of the first step, NOT_FOUND if the target cannot be reached
+     */
+    private int getNextStepTowards(final LawnKnowledgeMap map,
+                                   final int position,
+                                   final Direction facing,
+                                   final int target)
+    {
+        if(Math.abs(map.getxCoordinate(position) - map.getxCoordinate(target)) <= 1
+                && Math.abs(map.getyCoordinate(position) - map.getyCoordinate(target)) <= 1)
+        {
+            return target;
+        }
+
+        final KnowledgeMapSearch search = KnowledgeMapSearch.forMap(map);
+
+        search.clearMarks();
+        search.mark(target);
+
+        final int found = search.search(map, position, facing, search::isMarked, Integer.MAX_VALUE, true);
+
+        if(found == KnowledgeMapSearch.NOT_FOUND)
+        {
+            return KnowledgeMapSearch.NOT_FOUND;
+        }
+
+        search.buildPath(found);
+
+        return search.getPathBuffer()[0];
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lazy singleton implementation, prevents the class from having to be instantiated unless it is needed
+     *
+     * @return - The instance of this class
+     */
+    static NextCoverageMoveServiceImpl getInstance()
+    {
+        if(nextCoverageMoveService == null)
+        {
+            nextCoverageMoveService = new NextCoverageMoveServiceImpl();
+        }
+
+        return nextCoverageMoveService;
+    }
+}
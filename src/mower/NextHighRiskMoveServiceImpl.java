@@ -3,6 +3,7 @@ package mower;
 import constant.Direction;
 import constant.LawnSquareContent;
 import constant.MowerMovementType;
+import constant.SimulationParameter;
 
 import java.util.List;
 
@@ -15,9 +16,6 @@ class NextHighRiskMoveServiceImpl extends NextMowerMoveService
 {
     // FIELDS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    private static final int MAX_UNKNOWN_SQUARE_COUNT = 5;
-    private static final int MAX_TURNS_SINCE_LAST_SCAN = 3;
-
     private static NextHighRiskMoveServiceImpl nextHighRiskMoveService;
 
     // CONSTRUCTOR
@@ -49,9 +47,9 @@ class NextHighRiskMoveServiceImpl extends NextMowerMoveService
             response = getRandomMowerMove(mower);
         }
         // IF THE SURROUNDING SQUARES ARE EMPTY, HAVE TOO MANY UNKNOWNS, OR MAX TURNS SINCE LAST SCAN WE WANT TO SCAN
-        else if(mower.getSurroundingSquares().isEmpty()
-                || getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) >= MAX_UNKNOWN_SQUARE_COUNT
-                || mower.getTurnsSinceLastScan() >= MAX_TURNS_SINCE_LAST_SCAN)
+        else if(isScanNeeded(mower,
+                mower.getParameters().get(SimulationParameter.HIGH_RISK_MAX_UNKNOWN_SQUARES),
+                mower.getParameters().get(SimulationParameter.HIGH_RISK_MAX_TURNS_SINCE_LAST_SCAN)))
         {
             response = new MowerMove(mower.getName(),
                     MowerMovementType.SCAN, mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
@@ -0,0 +1,270 @@
+package mower;
+
+import constant.Direction;
+import constant.MowerMovementType;
+import lawn.LawnKnowledgeMap;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concrete singleton implementation for determining the next mower move by looking ahead with Monte Carlo tree search.
+ * Instead of picking a move from a fixed set of rules, the mower plays thousands of short futures forward over a copy
+ * of the knowledge map around it and takes the first action that led to the most grass being cut
+ *
+ * Note:
+ * The search is split across one tree per core. Each tree is searched on its own from the same starting state and the
+ * statistics of the first actions are added up once every tree is done, the trees and states are kept per calling
+ * thread so simulations that run in parallel never share them
+ */
+class NextLookaheadMoveServiceImpl extends NextMowerMoveService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int DEFAULT_ITERATION_BUDGET = 4000;
+    static final long DEFAULT_TIME_BUDGET_MILLIS = 0;
+
+    private static final int MIN_ITERATIONS_PER_TREE = 500;
+    private static final int MAX_TREES = Runtime.getRuntime().availableProcessors();
+
+    private static final ThreadLocal<LookaheadState> ROOTS = ThreadLocal.withInitial(LookaheadState::new);
+    private static final ThreadLocal<LookaheadTree[]> TREES = ThreadLocal.withInitial(() -> {
+        final LookaheadTree[] trees = new LookaheadTree[MAX_TREES];
+
+        for(int i = 0; i < trees.length; i++)
+        {
+            trees[i] = new LookaheadTree();
+        }
+
+        return trees;
+    });
+
+    private static NextLookaheadMoveServiceImpl nextLookaheadMoveService;
+
+    private volatile int iterationBudget = DEFAULT_ITERATION_BUDGET;
+    private volatile long timeBudgetMillis = DEFAULT_TIME_BUDGET_MILLIS;
+    private ExecutorService treeExecutor;
+
+    // CONSTRUCTOR
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private NextLookaheadMoveServiceImpl(){}
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move by searching ahead from the mowers current position
+     *
+     * @return - The mower move the mower should attempt to make
+     */
+    @Override
+    public MowerMove getNextMowerMove(final Mower mower)
+    {
+        if(!mower.isStrategic())
+        {
+            return getRandomMowerMove(mower);
+        }
+
+        final LawnKnowledgeMap map = mower.getKnowledgeMap();
+
+        refreshSurroundingSquaresFromKnowledgeMap(mower);
+
+        final LookaheadState root = ROOTS.get();
+
+        root.load(map, mower.getXCoordinate(), mower.getYCoordinate(), mower.getDirection().getIndex());
+
+        final int action = search(root, mower.getRandom());
+
+        MowerMove response;
+
+        if(action == LookaheadState.ACTION_MOVE)
+        {
+            response = getMowerMoveForMovingInCurrentDirection(mower);
+        }
+        else if(action == LookaheadState.ACTION_SCAN)
+        {
+            // A SCAN THAT CANNOT TELL THE MOWER ANYTHING NEW IS ONLY A WAY TO WAIT FOR THE LAWN TO CHANGE
+            response = new MowerMove(mower.getName(),
+                    getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) > 0
+                            ? MowerMovementType.SCAN
+                            : MowerMovementType.PASS,
+                    mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else{
+            response = new MowerMove(mower.getName(), MowerMovementType.STEER,
+                    Direction.getDirectionByIndex(action - 1), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        return response;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Sets the budget of every decision, the search stops at whichever budget runs out first
+     *
+     * @param iterations - The max number of playouts per decision, split across the trees
+     * @param millis - The max number of milliseconds per decision, 0 for no time limit
+     *
+     * @throws RuntimeException - When the iterations are less than 1 or the millis are negative
+     */
+    void setSearchBudget(final int iterations, final long millis)
+    {
+        if(iterations < 1 || millis < 0)
+        {
+            final String errorMsg = "[ERROR] - The lookahead budget needs at least 1 iteration and a time limit that "
+                    + "is not negative";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        this.iterationBudget = iterations;
+        this.timeBudgetMillis = millis;
+    }
+
+    /**
+     * Lazy singleton implementation, prevents the class from having to be instantiated unless it is needed
+     *
+     * @return - The instance of this class
+     */
+    static synchronized NextLookaheadMoveServiceImpl getInstance()
+    {
+        if(nextLookaheadMoveService == null)
+        {
+            nextLookaheadMoveService = new NextLookaheadMoveServiceImpl();
+        }
+
+        return nextLookaheadMoveService;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Searches from the root state with as many trees as the budget is worth and picks the first action that was
+     * tried the most, which is the action the trees are the most sure of
+     *
+     * @param root - The state of the mower
+     * @param random - The source the seeds of the trees are drawn from
+     *
+     * @return - The action
+     */
+    private int search(final LookaheadState root, final Random random)
+    {
+        final int iterations = iterationBudget;
+        final long millis = timeBudgetMillis;
+        final long deadline = millis == 0 ? Long.MAX_VALUE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        final LookaheadTree[] trees = TREES.get();
+        final int treeCount = Math.max(1, Math.min(trees.length, iterations / MIN_ITERATIONS_PER_TREE));
+        final int iterationsPerTree = (iterations + treeCount - 1) / treeCount;
+
+        for(int i = 0; i < treeCount; i++)
+        {
+            trees[i].reset(root, iterationsPerTree, deadline, random.nextLong());
+        }
+
+        runTrees(trees, treeCount);
+
+        int bestAction = LookaheadState.ACTION_SCAN;
+        int bestVisits = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for(int action = 0; action < LookaheadState.ACTION_COUNT; action++)
+        {
+            int actionVisits = 0;
+            double actionValue = 0.0;
+
+            for(int i = 0; i < treeCount; i++)
+            {
+                actionVisits += trees[i].getRootVisits(action);
+                actionValue += trees[i].getRootValueSum(action);
+            }
+
+            final double meanValue = actionVisits == 0 ? Double.NEGATIVE_INFINITY : actionValue / actionVisits;
+
+            if(actionVisits > bestVisits || (actionVisits == bestVisits && meanValue > bestValue))
+            {
+                bestAction = action;
+                bestVisits = actionVisits;
+                bestValue = meanValue;
+            }
+        }
+
+        return bestAction;
+    }
+
+    /**
+     * Runs the trees in parallel, the calling thread searches the first tree itself while the others run on the
+     * executor
+     *
+     * @throws RuntimeException - When a tree fails or the calling thread is interrupted
+     */
+    private void runTrees(final LookaheadTree[] trees, final int treeCount)
+    {
+        if(treeCount == 1)
+        {
+            trees[0].call();
+
+            return;
+        }
+
+        final ExecutorService executor = getTreeExecutor();
+        final Future<?>[] futures = new Future<?>[treeCount - 1];
+
+        for(int i = 1; i < treeCount; i++)
+        {
+            futures[i - 1] = executor.submit(trees[i]);
+        }
+
+        trees[0].call();
+
+        try
+        {
+            for(Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException("[ERROR] - The lookahead search was interrupted", e);
+        }
+        catch(ExecutionException e)
+        {
+            final String errorMsg = "[ERROR] - The lookahead search failed";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e.getCause());
+        }
+    }
+
+    /**
+     * Lazily creates the executor the trees run on, the threads are daemons so they never keep the program running
+     * after the simulations are done
+     *
+     * @return - The executor
+     */
+    private synchronized ExecutorService getTreeExecutor()
+    {
+        if(treeExecutor == null)
+        {
+            treeExecutor = Executors.newFixedThreadPool(MAX_TREES - 1, runnable -> {
+                final Thread thread = new Thread(runnable, "lookahead-tree");
+
+                thread.setDaemon(true);
+
+                return thread;
+            });
+        }
+
+        return treeExecutor;
+    }
+}
@@ -3,6 +3,7 @@ package mower;
 import constant.Direction;
 import constant.LawnSquareContent;
 import constant.MowerMovementType;
+import constant.SimulationParameter;
 
 import java.util.List;
 import java.util.Random;
@@ -16,9 +17,6 @@ class NextLowRiskMoveServiceImpl extends NextMowerMoveService
 {
     // FIELDS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    private static final int MAX_UNKNOWN_SQUARE_COUNT = 3;
-    private static final int MAX_TURNS_SINCE_LAST_SCAN = 2;
-
     private static NextLowRiskMoveServiceImpl nextLowRiskMowerMoveService;
 
     // CONSTRUCTOR
@@ -50,9 +48,9 @@ class NextLowRiskMoveServiceImpl extends NextMowerMoveService
             response = getRandomMowerMove(mower);
         }
         // IF THE SURROUNDING SQUARES ARE EMPTY, HAVE TOO MANY UNKNOWNS, OR MAX TURNS SINCE LAST SCAN WE WANT TO SCAN
-        else if(mower.getSurroundingSquares().isEmpty()
-                || getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) >= MAX_UNKNOWN_SQUARE_COUNT
-                || mower.getTurnsSinceLastScan() >= MAX_TURNS_SINCE_LAST_SCAN)
+        else if(isScanNeeded(mower,
+                mower.getParameters().get(SimulationParameter.LOW_RISK_MAX_UNKNOWN_SQUARES),
+                mower.getParameters().get(SimulationParameter.LOW_RISK_MAX_TURNS_SINCE_LAST_SCAN)))
         {
             response = new MowerMove(mower.getName(),
                     MowerMovementType.SCAN, mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
@@ -122,7 +120,7 @@ class NextLowRiskMoveServiceImpl extends NextMowerMoveService
         // IF MED MOVES ARE NOT EMPTY WE ARE GOING TO MAKE A 50/50 CHOICE TO EITHER SCAN OR TAKE MED RISK MOVE
         else if(!medRiskMoves.isEmpty())
         {
-            Random random = new Random();
+            Random random = mower.getRandom();
 
             // 50/50 OPTION 1: SCAN
             if(random.nextBoolean())
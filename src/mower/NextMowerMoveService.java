@@ -3,6 +3,10 @@ package mower;
 import constant.Direction;
 import constant.LawnSquareContent;
 import constant.MowerMovementType;
+import constant.SimulationParameter;
+import lawn.LawnKnowledgeMap;
+import sim.ReservationTable;
+import sim.SimulationParameters;
 
 import java.util.*;
 
@@ -14,8 +18,28 @@ import java.util.*;
  *
  * Created by L. Arroyo on 9/28/2019
  */
-abstract class NextMowerMoveService
+public abstract class NextMowerMoveService
 {
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // ONE BIT PER DIRECTION INDEX, SEE refreshSurroundingSquaresFromKnowledgeMap
+    protected static final int ALL_SQUARES_OBSERVED = 0xFF;
+
+    private static final List<Integer> ALL_DIRECTION_INDEXES =
+            Collections.unmodifiableList(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7));
+
+    // THE SQUARES A MOWER AT EACH SURROUNDING SQUARE INDEX COULD HAVE MOVED TO, SEE getPossibleMovesByRanking
+    private static final List<List<Integer>> MED_RISK_MOVES_BY_HIGH_RISK_SQUARE = Collections.unmodifiableList(
+            Arrays.asList(
+                    Collections.unmodifiableList(Arrays.asList(1, 2, 6, 7)),
+                    Collections.unmodifiableList(Arrays.asList(0, 2)),
+                    Collections.unmodifiableList(Arrays.asList(0, 1, 3, 4)),
+                    Collections.unmodifiableList(Arrays.asList(2, 4)),
+                    Collections.unmodifiableList(Arrays.asList(2, 3, 5, 6)),
+                    Collections.unmodifiableList(Arrays.asList(4, 6)),
+                    Collections.unmodifiableList(Arrays.asList(0, 4, 5, 7)),
+                    Collections.unmodifiableList(Arrays.asList(0, 6))));
+
     // ABSTRACT METHODS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
@@ -25,9 +49,9 @@ abstract class NextMowerMoveService
      *
      * @return - A mower move
      */
-    abstract MowerMove getNextMowerMove(final Mower mower);
+    public abstract MowerMove getNextMowerMove(final Mower mower);
 
-    // DEFAULT PACKAGE ONLY METHODS
+    // PROTECTED METHODS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
      * Gets a random mower move .... why? I have no idea ... kinda defeats the purpose of implementing an algorithm
@@ -35,7 +59,7 @@ abstract class NextMowerMoveService
      *
      * @return - A random mower move
      */
-    MowerMove getRandomMowerMove(final Mower mower)
+    protected MowerMove getRandomMowerMove(final Mower mower)
     {
         MowerMove response;
 
@@ -44,29 +68,33 @@ abstract class NextMowerMoveService
         final int currXCoor = mower.getXCoordinate();
         final int currYCoor = mower.getYCoordinate();
 
-        final Random random = new Random();
+        final Random random = mower.getRandom();
+        final SimulationParameters parameters = mower.getParameters();
 
         final int moveType = random.nextInt(100);
+        final int passCutoff = parameters.get(SimulationParameter.RANDOM_PASS_PERCENT);
+        final int moveCutoff = passCutoff + parameters.get(SimulationParameter.RANDOM_MOVE_PERCENT);
+        final int scanCutoff = moveCutoff + parameters.get(SimulationParameter.RANDOM_SCAN_PERCENT);
 
         // PASS
-        if(moveType <= 10)
+        if(moveType < passCutoff)
         {
             response = new MowerMove(name, MowerMovementType.PASS, currDirection, currXCoor, currYCoor);
         }
         // MOVE
-        else if(moveType <= 45)
+        else if(moveType < moveCutoff)
         {
             response = getMowerMoveForMovingInCurrentDirection(mower);
         }
         // SCAN
-        else if(moveType <= 65)
+        else if(moveType < scanCutoff)
         {
             response = new MowerMove(name, MowerMovementType.SCAN, currDirection, currXCoor, currYCoor);
         }
         // STEER
         else if(moveType < 100)
         {
-            response = getRandomMowerSteerMove(new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4, 5 , 6, 7)), mower);
+            response = getRandomMowerSteerMove(ALL_DIRECTION_INDEXES, mower);
         }
         else{
             // CODE SHOULD NEVER REACH HERE
@@ -105,7 +133,7 @@ abstract class NextMowerMoveService
      *
      * @return - 4 lists of moves: forbidden, high risk, medium risk, and preferred (in that order)
      */
-    List<List<Integer>> getPossibleMovesByRanking(final List<LawnSquareContent> surroundingSquares)
+    protected List<List<Integer>> getPossibleMovesByRanking(final List<LawnSquareContent> surroundingSquares)
     {
         List<Integer> forbiddenMoves = new ArrayList<>();
         List<Integer> highRiskMoves  = new ArrayList<>();
@@ -156,7 +184,121 @@ abstract class NextMowerMoveService
             }
         }
 
-        return new ArrayList<>(Arrays.asList(forbiddenMoves, highRiskMoves, medRiskMoves, preferredMoves));
+        return Arrays.asList(forbiddenMoves, highRiskMoves, medRiskMoves, preferredMoves);
+    }
+
+    /**
+     * Determines if the mower needs to scan before it can make a move, which is when the surrounding squares are
+     * empty, have too many unknowns, or the mowers last scan is too old
+     *
+     * Note:
+     * When the simulation is using shared knowledge the surrounding squares model is refreshed from the knowledge
+     * map first. Squares reserved by other strategic mowers are then marked as mowers so the rankings steer clear of
+     * them. Only after that is the model checked, if every surrounding square is known then a scan would not tell the
+     * mower anything new
+     *
+     * @param mower - The mower to check
+     * @param maxUnknownSquareCount - The number of unknown squares that forces a scan
+     * @param maxTurnsSinceLastScan - The number of turns after which the last scan can no longer be trusted
+     *
+     * @return - True if the mower should scan, false otherwise
+     */
+    protected boolean isScanNeeded(final Mower mower, final int maxUnknownSquareCount, final int maxTurnsSinceLastScan)
+    {
+        final int observedSquares = refreshSurroundingSquaresFromKnowledgeMap(mower);
+
+        overlayReservations(mower, observedSquares);
+
+        // THE DECISION IS MADE FROM THE MODEL AS THE OVERLAY LEFT IT, NOT FROM THE KNOWLEDGE MAP BEFORE THE OVERLAY
+        if(observedSquares == ALL_SQUARES_OBSERVED
+                && getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) == 0)
+        {
+            return false;
+        }
+
+        return mower.getSurroundingSquares().isEmpty()
+                || getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) >= maxUnknownSquareCount
+                || mower.getTurnsSinceLastScan() >= maxTurnsSinceLastScan;
+    }
+
+    /**
+     * Overwrites the surrounding squares model with every observation from the shared knowledge map. The simulation
+     * writes every mower move and collision into the map, so an observed square is always current and is never
+     * older than what the mower already has in its own model
+     *
+     * @param mower - The mower to refresh the model for
+     *
+     * @return - The surrounding squares the knowledge map has observed, one bit per direction index, so
+     *           ALL_SQUARES_OBSERVED when every square has been observed and 0 when the simulation is not using
+     *           shared knowledge
+     */
+    protected int refreshSurroundingSquaresFromKnowledgeMap(final Mower mower)
+    {
+        final LawnKnowledgeMap knowledgeMap = mower.getKnowledgeMap();
+
+        if(knowledgeMap == null || mower.getSurroundingSquares().isEmpty())
+        {
+            return 0;
+        }
+
+        final List<LawnSquareContent> surroundingSquares = mower.getSurroundingSquares();
+
+        int observedSquares = 0;
+
+        for(int i = 0; i < 8; i++)
+        {
+            final Direction direction = Direction.getDirectionByIndex(i);
+            final LawnSquareContent content = knowledgeMap.getContent(mower.getXCoordinate() + direction.getxIncrement(),
+                    mower.getYCoordinate() + direction.getyIncrement());
+
+            if(content != LawnSquareContent.UNKNOWN)
+            {
+                surroundingSquares.set(direction.getIndex(), content);
+
+                observedSquares |= 1 << direction.getIndex();
+            }
+        }
+
+        return observedSquares;
+    }
+
+    /**
+     * Marks every surrounding square that another strategic mower has reserved for this turn as a MOWER, the same as
+     * if a scan had just found the mower there. A MOWER that only the own older scan of the mower has seen goes back
+     * to UNKNOWN, a MOWER the knowledge map has just observed is current and is kept
+     *
+     * @param mower - The mower to update the model for
+     * @param observedSquares - The squares just refreshed from the knowledge map, one bit per direction index
+     */
+    protected void overlayReservations(final Mower mower, final int observedSquares)
+    {
+        final ReservationTable reservationTable = mower.getReservationTable();
+
+        if(reservationTable == null || !mower.isStrategic() || mower.getSurroundingSquares().isEmpty())
+        {
+            return;
+        }
+
+        final int turn = mower.getCurrentTurn();
+
+        for(int i = 0; i < 8; i++)
+        {
+            final Direction direction = Direction.getDirectionByIndex(i);
+
+            if(reservationTable.isReservedByOther(mower.getId(),
+                    mower.getXCoordinate() + direction.getxIncrement(),
+                    mower.getYCoordinate() + direction.getyIncrement(),
+                    turn))
+            {
+                mower.getSurroundingSquares().set(direction.getIndex(), LawnSquareContent.MOWER);
+            }
+            // A MOWER FROM AN OLDER SCAN HAS MOST LIKELY MOVED ON, BUT IT COULD BE ONE THAT DOES NOT RESERVE SQUARES
+            else if(mower.getSurroundingSquares().get(direction.getIndex()) == LawnSquareContent.MOWER
+                    && (observedSquares & (1 << direction.getIndex())) == 0)
+            {
+                mower.getSurroundingSquares().set(direction.getIndex(), LawnSquareContent.UNKNOWN);
+            }
+        }
     }
 
     /**
@@ -167,7 +309,7 @@ abstract class NextMowerMoveService
      *
      * @return - The number of unknown squares in the surrounding square list
      */
-    int getSurroundingSquareUnknownCount(final List<LawnSquareContent> surroundingSquares)
+    protected int getSurroundingSquareUnknownCount(final List<LawnSquareContent> surroundingSquares)
     {
         if(surroundingSquares == null || surroundingSquares.isEmpty())
         {
@@ -176,9 +318,9 @@ abstract class NextMowerMoveService
 
         int count = 0;
 
-        for(LawnSquareContent content : surroundingSquares)
+        for(int i = 0; i < surroundingSquares.size(); i++)
         {
-            if(content == LawnSquareContent.UNKNOWN)
+            if(surroundingSquares.get(i) == LawnSquareContent.UNKNOWN)
             {
                 count++;
             }
@@ -194,7 +336,7 @@ abstract class NextMowerMoveService
      *
      * @return - The mower move
      */
-    MowerMove getMowerMoveForMovingInCurrentDirection(final Mower mower)
+    protected MowerMove getMowerMoveForMovingInCurrentDirection(final Mower mower)
     {
         int newXCoor = mower.getXCoordinate() + mower.getDirection().getxIncrement();
         int newYCoor = mower.getYCoordinate() + mower.getDirection().getyIncrement();
@@ -216,9 +358,9 @@ abstract class NextMowerMoveService
      *
      * @return - A STEER mower move in a random direction
      */
-    MowerMove getRandomMowerSteerMove(final List<Integer> availableIndexList, final Mower mower)
+    protected MowerMove getRandomMowerSteerMove(final List<Integer> availableIndexList, final Mower mower)
     {
-        Random random = new Random();
+        Random random = mower.getRandom();
 
         boolean foundNewDirection = false;
         Direction newDirection = null;
@@ -248,9 +390,9 @@ abstract class NextMowerMoveService
      *
      * @return - A sublist of the indexes list that contains the content type
      */
-    List<Integer> getSubListForContentType(final List<Integer> indexes,
-                                           final List<LawnSquareContent> surroundingSquares,
-                                           final LawnSquareContent contentToken)
+    protected List<Integer> getSubListForContentType(final List<Integer> indexes,
+                                                     final List<LawnSquareContent> surroundingSquares,
+                                                     final LawnSquareContent contentToken)
     {
         List<Integer> response = new ArrayList<>();
 
@@ -275,7 +417,7 @@ abstract class NextMowerMoveService
      *
      * @return - The move or steer move
      */
-    MowerMove getMoveOrSteerMoveForSublist(final List<Integer> sublist, final Mower mower)
+    protected MowerMove getMoveOrSteerMoveForSublist(final List<Integer> sublist, final Mower mower)
     {
         MowerMove response;
 
@@ -304,46 +446,18 @@ abstract class NextMowerMoveService
      *
      * @param surroundingSquareIndex - The index of the surrounding square that contains a mower
      *
-     * @return - A set of indexes for surrounding squares that are considered a med risk move based on the mower
+     * @return - The indexes of the surrounding squares that are considered a med risk move based on the mower, in
+     *           ascending order
      */
-    private Set<Integer> determineMedRiskMovesForHighRiskSquare(final int surroundingSquareIndex)
+    private List<Integer> determineMedRiskMovesForHighRiskSquare(final int surroundingSquareIndex)
     {
-        if(surroundingSquareIndex == 0)
-        {
-            return new HashSet<>(Arrays.asList(1, 2, 6, 7));
-        }
-        else if(surroundingSquareIndex == 1)
-        {
-            return new HashSet<>(Arrays.asList(0, 2));
-        }
-        else if(surroundingSquareIndex == 2)
-        {
-            return new HashSet<>(Arrays.asList(0, 1, 3, 4));
-        }
-        else if(surroundingSquareIndex == 3)
-        {
-            return new HashSet<>(Arrays.asList(2, 4));
-        }
-        else if(surroundingSquareIndex == 4)
+        if(surroundingSquareIndex < 0 || surroundingSquareIndex >= MED_RISK_MOVES_BY_HIGH_RISK_SQUARE.size())
         {
-            return new HashSet<>(Arrays.asList(2, 3, 5, 6));
-        }
-        else if(surroundingSquareIndex == 5)
-        {
-            return new HashSet<>(Arrays.asList(4, 6));
-        }
-        else if(surroundingSquareIndex == 6)
-        {
-            return new HashSet<>(Arrays.asList(0, 4, 5, 7));
-        }
-        else if(surroundingSquareIndex == 7)
-        {
-            return new HashSet<>(Arrays.asList(0, 6));
-        }
-        else{
             // THIS SHOULD NOT BE REACHED EVER BECAUSE THE INDEX SHOULD ALWAYS BE BETWEEN 0-7
             throw new RuntimeException("[UNEXPECTED INDEX ERROR] :: determineMedRiskMovesForHighRiskSquare, idx="
                     + surroundingSquareIndex);
         }
+
+        return MED_RISK_MOVES_BY_HIGH_RISK_SQUARE.get(surroundingSquareIndex);
     }
 }
@@ -0,0 +1,32 @@
+package mower;
+
+/**
+ * Service provider interface used to plug strategies into the simulation. Implementations are discovered through
+ * the java ServiceLoader, so a new strategy can be dropped in by putting its provider on the classpath and listing
+ * it in META-INF/services/mower.NextMowerMoveServiceProvider without having to change the mower or the simulation
+ */
+public interface NextMowerMoveServiceProvider
+{
+    /**
+     * Gets the name the strategy is selected by, names are matched case insensitively
+     *
+     * @return - The name of the strategy
+     */
+    String getStrategyName();
+
+    /**
+     * Gets the move service that determines the moves for the strategy. The service is shared by every mower that
+     * uses the strategy, so any state it needs for a mower has to be kept on the mower
+     *
+     * @return - The move service
+     */
+    NextMowerMoveService getMoveService();
+
+    /**
+     * Checks to see if the strategy plans over the knowledge map, the simulation always builds a knowledge map when
+     * one of its mowers uses a strategy that requires it
+     *
+     * @return - True if the strategy requires the knowledge map, false otherwise
+     */
+    boolean isKnowledgeMapRequired();
+}
@@ -0,0 +1,308 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import constant.MowerMovementType;
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
+
+/**
+ * Concrete singleton implementation for determining the next mower move by planning a route over the knowledge map
+ * to the nearest known grass. When no grass is known the route leads to the nearest unknown square instead, so the
+ * mower explores the lawn rather than wandering randomly
+ *
+ * Note:
+ * Routes are kept on the mower and are only re-validated when the knowledge map changes. When a scan reveals that a
+ * step of the route is blocked the route is repaired locally by searching for a detour back onto the remaining steps,
+ * a full re-plan only happens when the detour cannot be found or the target is no longer worth reaching
+ */
+class NextPathPlanningMoveServiceImpl extends NextMowerMoveService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int MAX_REPAIR_EXPANSIONS = 256;
+
+    private static final KnowledgeMapSearch.GoalTest GRASS_GOAL =
+            (map, gridIndex) -> map.getContent(gridIndex) == LawnSquareContent.GRASS;
+
+    private static NextPathPlanningMoveServiceImpl nextPathPlanningMoveService;
+
+    // CONSTRUCTOR
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private NextPathPlanningMoveServiceImpl(){}
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move by following the planned route
+     *
+     * @return - The mower move the mower should attempt to make
+     */
+    @Override
+    public MowerMove getNextMowerMove(final Mower mower)
+    {
+        if(!mower.isStrategic())
+        {
+            return getRandomMowerMove(mower);
+        }
+
+        final LawnKnowledgeMap map = mower.getKnowledgeMap();
+
+        refreshSurroundingSquaresFromKnowledgeMap(mower);
+
+        final int position = map.getGridIndex(mower.getXCoordinate(), mower.getYCoordinate());
+        final MowerPath path = mower.getPlannedPath();
+
+        updatePath(map, mower.getLawnPartition(), mower.getId(), position, mower.getDirection(), path);
+
+        MowerMove response;
+
+        if(path.isComplete())
+        {
+            // NOTHING WORTH REACHING IS KNOWN, SCAN IF THERE IS ANYTHING LEFT TO LEARN AROUND THE MOWER
+            response = getSurroundingSquareUnknownCount(mower.getSurroundingSquares()) > 0
+                    ? new MowerMove(mower.getName(), MowerMovementType.SCAN, mower.getDirection(),
+                            mower.getXCoordinate(), mower.getYCoordinate())
+                    : new MowerMove(mower.getName(), MowerMovementType.PASS, mower.getDirection(),
+                            mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else
+        {
+            response = getMoveTowardsStep(mower, map, path.getNextStep());
+        }
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Brings the route up to date with the mowers position and the knowledge map, repairing or re-planning the
+     * route when it is no longer valid
+     *
+     * @param map - The knowledge map
+     * @param partition - The partition of the lawn into per mower regions, null if the lawn is not partitioned
+     * @param ownerId - The id of the mower
+     * @param position - The grid index the mower is located at
+     * @param facing - The direction the mower is facing
+     * @param path - The mowers route
+     */
+    private void updatePath(final LawnKnowledgeMap map,
+                            final LawnPartition partition,
+                            final int ownerId,
+                            final int position,
+                            final Direction facing,
+                            final MowerPath path)
+    {
+        path.advanceTo(position);
+
+        final int partitionRevision = partition == null ? 0 : partition.getRevision();
+
+        if(path.isComplete()
+                || !isAdjacent(map, position, path.getNextStep())
+                || !isTargetStillValid(map, path)
+                || path.getPartitionRevision() != partitionRevision)
+        {
+            planPath(map, partition, ownerId, position, facing, path);
+
+            path.setPartitionRevision(partitionRevision);
+        }
+        else if(path.getValidatedRevision() != map.getRevision())
+        {
+            final int blockedIdx = findFirstBlockedStep(map, path);
+
+            if(blockedIdx >= 0 && !repairPath(map, position, facing, path, blockedIdx))
+            {
+                planPath(map, partition, ownerId, position, facing, path);
+            }
+        }
+
+        path.setValidatedRevision(map.getRevision());
+    }
+
+    /**
+     * Plans a brand new route to the nearest known grass, or the nearest unknown square if no grass can be reached.
+     * Ties are broken in favour of the direction the mower is already facing to avoid spending turns on steering
+     *
+     * Note:
+     * When the lawn is partitioned the mower first looks for grass or unknown squares in its own region, it only
+     * heads into the region of another mower once there is nothing left to do in its own
+     */
+    private void planPath(final LawnKnowledgeMap map,
+                          final LawnPartition partition,
+                          final int ownerId,
+                          final int position,
+                          final Direction facing,
+                          final MowerPath path)
+    {
+        final KnowledgeMapSearch search = KnowledgeMapSearch.forMap(map);
+
+        int target = KnowledgeMapSearch.NOT_FOUND;
+
+        if(partition != null)
+        {
+            final KnowledgeMapSearch.GoalTest ownRegionGoal = (searchMap, gridIndex) ->
+                    isWorthReaching(searchMap.getContent(gridIndex))
+                            && ownerId == partition.getOwner(searchMap.getxCoordinate(gridIndex),
+                                                             searchMap.getyCoordinate(gridIndex));
+
+            target = search.search(map, position, facing, ownRegionGoal, Integer.MAX_VALUE, false);
+        }
+
+        if(target == KnowledgeMapSearch.NOT_FOUND)
+        {
+            target = search.search(map, position, facing, GRASS_GOAL, Integer.MAX_VALUE, false);
+
+            if(target == KnowledgeMapSearch.NOT_FOUND)
+            {
+                target = search.getNearestUnknown();
+            }
+        }
+
+        final boolean isExploring = target != KnowledgeMapSearch.NOT_FOUND
+                && map.getContent(target) == LawnSquareContent.UNKNOWN;
+
+        if(target == KnowledgeMapSearch.NOT_FOUND)
+        {
+            path.clear();
+        }
+        else
+        {
+            path.setSteps(search.getPathBuffer(), search.buildPath(target), isExploring);
+        }
+    }
+
+    /**
+     * Repairs the route around a blocked step by searching for a detour that rejoins any of the steps after it
+     *
+     * @return - True if the route was repaired, false if no detour could be found
+     */
+    private boolean repairPath(final LawnKnowledgeMap map,
+                               final int position,
+                               final Direction facing,
+                               final MowerPath path,
+                               final int blockedIdx)
+    {
+        final KnowledgeMapSearch search = KnowledgeMapSearch.forMap(map);
+
+        search.clearMarks();
+
+        for(int i = blockedIdx + 1; i < path.getLength(); i++)
+        {
+            search.mark(path.getStep(i));
+        }
+
+        final int rejoin = search.search(map, position, facing, search::isMarked, MAX_REPAIR_EXPANSIONS, false);
+
+        if(rejoin == KnowledgeMapSearch.NOT_FOUND)
+        {
+            return false;
+        }
+
+        int rejoinIdx = blockedIdx + 1;
+
+        while(path.getStep(rejoinIdx) != rejoin)
+        {
+            rejoinIdx++;
+        }
+
+        path.splice(search.getPathBuffer(), search.buildPath(rejoin), rejoinIdx);
+
+        return true;
+    }
+
+    /**
+     * Finds the first step of the route that is no longer safe to move onto
+     *
+     * @return - The position of the blocked step in the route, -1 if no step is blocked
+     */
+    private int findFirstBlockedStep(final LawnKnowledgeMap map, final MowerPath path)
+    {
+        for(int i = path.getCursor(); i < path.getLength(); i++)
+        {
+            final LawnSquareContent content = map.getContent(path.getStep(i));
+
+            // AN EXPLORING ROUTE ALWAYS ENDS ON AN UNKNOWN SQUARE
+            if(!KnowledgeMapSearch.isPassable(content) && content != LawnSquareContent.UNKNOWN)
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks to see if the target of the route is still worth reaching. A grass target is no longer worth reaching
+     * once it is cut, and an exploring target is no longer worth reaching once it has been observed
+     */
+    private boolean isTargetStillValid(final LawnKnowledgeMap map, final MowerPath path)
+    {
+        return map.getContent(path.getTarget())
+                == (path.isExploring() ? LawnSquareContent.UNKNOWN : LawnSquareContent.GRASS);
+    }
+
+    /**
+     * @return - True if the content is grass or has not been observed yet
+     */
+    private boolean isWorthReaching(final LawnSquareContent content)
+    {
+        return content == LawnSquareContent.GRASS || content == LawnSquareContent.UNKNOWN;
+    }
+
+    /**
+     * Checks to see if two grid indexes are next to each other
+     */
+    private boolean isAdjacent(final LawnKnowledgeMap map, final int from, final int to)
+    {
+        return Math.abs(map.getxCoordinate(from) - map.getxCoordinate(to)) <= 1
+                && Math.abs(map.getyCoordinate(from) - map.getyCoordinate(to)) <= 1;
+    }
+
+    /**
+     * Creates the move that takes the mower onto the next step, scanning first if the step is unknown and steering
+     * first if the mower is not facing the step
+     */
+    private MowerMove getMoveTowardsStep(final Mower mower, final LawnKnowledgeMap map, final int step)
+    {
+        final Direction direction = Direction.getDirectionByIncrements(
+                map.getxCoordinate(step) - mower.getXCoordinate(),
+                map.getyCoordinate(step) - mower.getYCoordinate());
+
+        MowerMove response;
+
+        if(map.getContent(step) == LawnSquareContent.UNKNOWN)
+        {
+            response = new MowerMove(mower.getName(),
+                    MowerMovementType.SCAN, mower.getDirection(), mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else if(direction != mower.getDirection())
+        {
+            response = new MowerMove(mower.getName(),
+                    MowerMovementType.STEER, direction, mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else
+        {
+            response = getMowerMoveForMovingInCurrentDirection(mower);
+        }
+
+        return response;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lazy singleton implementation, prevents the class from having to be instantiated unless it is needed
+     *
+     * @return - The instance of this class
+     */
+    static NextPathPlanningMoveServiceImpl getInstance()
+    {
+        if(nextPathPlanningMoveService == null)
+        {
+            nextPathPlanningMoveService = new NextPathPlanningMoveServiceImpl();
+        }
+
+        return nextPathPlanningMoveService;
+    }
+}
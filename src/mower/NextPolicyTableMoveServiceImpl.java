@@ -0,0 +1,169 @@
+package mower;
+
+import constant.Direction;
+import constant.MowerMovementType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concrete singleton implementation for determining the next mower move with a single lookup in the policy table.
+ * Every decision the risk services make with their rankings and sublists was already made ahead of time by the
+ * PolicyTableSolver, so all that is left is to work out which state the mower is in
+ *
+ * Note:
+ * The table is read from the classpath next to this class. If it is missing, or was written for a different state
+ * layout, it is solved on the spot the first time the strategy is used, which takes a few seconds
+ */
+class NextPolicyTableMoveServiceImpl extends NextMowerMoveService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static NextPolicyTableMoveServiceImpl nextPolicyTableMoveService;
+
+    private final PolicyTable policyTable;
+
+    // CONSTRUCTOR
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private NextPolicyTableMoveServiceImpl()
+    {
+        this.policyTable = loadPolicyTable();
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move by looking up the state of the mower in the policy table
+     *
+     * @return - The mower move the mower should attempt to make
+     */
+    @Override
+    public MowerMove getNextMowerMove(final Mower mower)
+    {
+        if(!mower.isStrategic())
+        {
+            return getRandomMowerMove(mower);
+        }
+
+        overlayReservations(mower, refreshSurroundingSquaresFromKnowledgeMap(mower));
+
+        final int action = policyTable.getAction(PolicyTable.getStateIndex(mower.getRiskProfile(),
+                mower.getDirection(), mower.getTurnsSinceLastScan(), mower.getSurroundingSquares()));
+
+        MowerMove response;
+
+        if(action == PolicyTable.ACTION_MOVE)
+        {
+            response = getMowerMoveForMovingInCurrentDirection(mower);
+        }
+        else if(action == PolicyTable.ACTION_SCAN)
+        {
+            response = new MowerMove(mower.getName(), MowerMovementType.SCAN, mower.getDirection(),
+                    mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else if(action == PolicyTable.ACTION_WANDER)
+        {
+            response = getWanderMove(mower);
+        }
+        else if(action == PolicyTable.ACTION_PASS)
+        {
+            response = new MowerMove(mower.getName(), MowerMovementType.PASS, mower.getDirection(),
+                    mower.getXCoordinate(), mower.getYCoordinate());
+        }
+        else{
+            response = new MowerMove(mower.getName(), MowerMovementType.STEER,
+                    Direction.getDirectionByIndex((mower.getDirection().getIndex() + action) % 8),
+                    mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        return response;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lazy singleton implementation, prevents the class from having to be instantiated unless it is needed
+     *
+     * @return - The instance of this class
+     */
+    static synchronized NextPolicyTableMoveServiceImpl getInstance()
+    {
+        if(nextPolicyTableMoveService == null)
+        {
+            nextPolicyTableMoveService = new NextPolicyTableMoveServiceImpl();
+        }
+
+        return nextPolicyTableMoveService;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Picks one of the grass or empty surrounding squares at random and moves onto it if the mower is facing it, or
+     * steers towards it otherwise
+     *
+     * @param mower - The mower
+     *
+     * @return - The move or steer move
+     */
+    private MowerMove getWanderMove(final Mower mower)
+    {
+        final List<Integer> openSquares = new ArrayList<>();
+
+        for(int i = 0; i < mower.getSurroundingSquares().size(); i++)
+        {
+            final int contentClass = PolicyTable.getContentClass(mower.getSurroundingSquares().get(i));
+
+            if(contentClass == PolicyTable.CLASS_GRASS || contentClass == PolicyTable.CLASS_EMPTY)
+            {
+                openSquares.add(i);
+            }
+        }
+
+        if(openSquares.isEmpty())
+        {
+            return new MowerMove(mower.getName(), MowerMovementType.SCAN, mower.getDirection(),
+                    mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        final int index = openSquares.get(mower.getRandom().nextInt(openSquares.size()));
+
+        MowerMove response;
+
+        if(index == mower.getDirection().getIndex())
+        {
+            response = getMowerMoveForMovingInCurrentDirection(mower);
+        }
+        else{
+            response = new MowerMove(mower.getName(), MowerMovementType.STEER, Direction.getDirectionByIndex(index),
+                    mower.getXCoordinate(), mower.getYCoordinate());
+        }
+
+        return response;
+    }
+
+    /**
+     * Reads the policy table from the classpath, or solves it when it can not be read
+     *
+     * @return - The policy table
+     */
+    private static PolicyTable loadPolicyTable()
+    {
+        try(InputStream in = NextPolicyTableMoveServiceImpl.class.getResourceAsStream(PolicyTable.RESOURCE_NAME))
+        {
+            if(in != null)
+            {
+                return PolicyTable.read(in);
+            }
+        }
+        catch(IOException e)
+        {
+            // A TABLE THAT CAN NOT BE READ IS SOLVED AGAIN BELOW
+        }
+
+        return new PolicyTableSolver(PolicyTableSolver.DEFAULT_GRASS_PERCENT,
+                PolicyTableSolver.DEFAULT_BLOCKED_PERCENT).solve();
+    }
+}
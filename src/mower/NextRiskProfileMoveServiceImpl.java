@@ -0,0 +1,84 @@
+package mower;
+
+import constant.SimulationRiskProfile;
+
+/**
+ * Concrete singleton implementation for determining the next mower move with the service that matches the current
+ * risk profile of the mower, this is the default strategy of the simulation
+ */
+class NextRiskProfileMoveServiceImpl extends NextMowerMoveService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static NextRiskProfileMoveServiceImpl nextRiskProfileMoveService;
+
+    // CONSTRUCTOR
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private NextRiskProfileMoveServiceImpl(){}
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Determines the next mower move with the low, med, or high risk service, a mower that is not strategic moves at
+     * random without determining a risk profile
+     *
+     * Note:
+     * Decided to keep the instances for the NextMowerMoveService local to take advantage of the lazy singletons
+     *
+     * @return - The mower move the mower should attempt to make
+     */
+    @Override
+    public MowerMove getNextMowerMove(final Mower mower)
+    {
+        if(!mower.isStrategic())
+        {
+            return getRandomMowerMove(mower);
+        }
+
+        final SimulationRiskProfile riskProfile = mower.getRiskProfile();
+
+        MowerMove response;
+
+        if(riskProfile == SimulationRiskProfile.LOW)
+        {
+            NextMowerMoveService lowRiskMoveService = NextLowRiskMoveServiceImpl.getInstance();
+
+            response = lowRiskMoveService.getNextMowerMove(mower);
+        }
+        else if(riskProfile == SimulationRiskProfile.MEDIUM)
+        {
+            NextMowerMoveService medRiskMoveService = NextMedRiskMoveServiceImpl.getInstance();
+
+            response = medRiskMoveService.getNextMowerMove(mower);
+        }
+        else if(riskProfile == SimulationRiskProfile.HIGH)
+        {
+            NextMowerMoveService highRiskMoveService = NextHighRiskMoveServiceImpl.getInstance();
+
+            response = highRiskMoveService.getNextMowerMove(mower);
+        }
+        else{
+            // THIS SHOULD NEVER BE REACHED BECAUSE RISK PROFILE SHOULD ALWAYS BE SET
+            throw new RuntimeException("[RISK PROFILE ERROR] :: getNextMowerMove - The risk profile is invalid");
+        }
+
+        return response;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Lazy singleton implementation, prevents the class from having to be instantiated unless it is needed
+     *
+     * @return - The instance of this class
+     */
+    static NextRiskProfileMoveServiceImpl getInstance()
+    {
+        if(nextRiskProfileMoveService == null)
+        {
+            nextRiskProfileMoveService = new NextRiskProfileMoveServiceImpl();
+        }
+
+        return nextRiskProfileMoveService;
+    }
+}
@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the path-planning strategy, which plans a route over the knowledge map to the nearest grass
+ */
+public class PathPlanningMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "path-planning";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextPathPlanningMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return true;
+    }
+}
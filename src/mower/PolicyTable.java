@@ -0,0 +1,197 @@
+package mower;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import constant.SimulationRiskProfile;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Class used to hold the best action for every state a strategic mower can be in, solved ahead of time by the
+ * PolicyTableSolver. A state is made of the 8 surrounding squares seen from the way the mower is facing, whether the
+ * mower faces along a diagonal, how long ago the mower scanned, and the risk profile of the mower
+ *
+ * Note:
+ * Every surrounding square is reduced to one of 4 classes so a neighbourhood fits in 16 bits, and every action fits in
+ * 4 bits so two states share a byte. The table is kept gzipped, which takes it from 768 kB down to a few dozen kB
+ * since neighbouring states mostly share the same action
+ */
+class PolicyTable
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int CLASS_GRASS = 0;
+    static final int CLASS_EMPTY = 1;
+    static final int CLASS_BLOCKED = 2;         // FENCES, CRATERS, AND MOWERS
+    static final int CLASS_UNKNOWN = 3;
+
+    static final int ACTION_MOVE = 0;           // ACTIONS 1 - 7 STEER RELATIVE TO THE WAY THE MOWER IS FACING
+    static final int ACTION_SCAN = 8;
+    static final int ACTION_PASS = 9;
+    static final int ACTION_COUNT = 10;
+    static final int ACTION_WANDER = 10;        // MOVE OR STEER TOWARDS ANY GRASS OR EMPTY SQUARE, NEVER SOLVED FOR
+
+    static final int NEIGHBOURHOOD_COUNT = 1 << 16;
+    static final int PARITY_COUNT = 2;
+    static final int SCAN_AGE_COUNT = 3;        // SCANNED THIS TURN, LAST TURN, OR LONGER AGO
+    static final int RISK_COUNT = SimulationRiskProfile.values().length;
+    static final int STATE_COUNT = NEIGHBOURHOOD_COUNT * SCAN_AGE_COUNT * PARITY_COUNT * RISK_COUNT;
+
+    static final String RESOURCE_NAME = "policy-table.bin.gz";
+
+    private static final int MAGIC = 0x4D505431; // "MPT1"
+
+    private final byte[] actions;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    PolicyTable()
+    {
+        this.actions = new byte[STATE_COUNT / 2];
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param state - The index of the state
+     *
+     * @return - The best action for the state
+     */
+    int getAction(final int state)
+    {
+        return (actions[state >> 1] >> ((state & 1) << 2)) & 0xF;
+    }
+
+    /**
+     * @param state - The index of the state
+     * @param action - The best action for the state
+     */
+    void setAction(final int state, final int action)
+    {
+        final int shift = (state & 1) << 2;
+
+        actions[state >> 1] = (byte) ((actions[state >> 1] & ~(0xF << shift)) | (action << shift));
+    }
+
+    /**
+     * Writes the table in its gzipped binary format
+     *
+     * @param out - The stream to write to, it is not closed
+     *
+     * @throws IOException - When the stream can not be written to
+     */
+    void write(final OutputStream out) throws IOException
+    {
+        final GZIPOutputStream gzip = new GZIPOutputStream(out);
+        final DataOutputStream data = new DataOutputStream(gzip);
+
+        data.writeInt(MAGIC);
+        data.writeInt(STATE_COUNT);
+        data.write(actions);
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Reads a table written by write
+     *
+     * @param in - The stream to read from, it is not closed
+     *
+     * @return - The table
+     *
+     * @throws IOException - When the stream can not be read or does not hold a table with the current layout
+     */
+    static PolicyTable read(final InputStream in) throws IOException
+    {
+        final DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+
+        if(data.readInt() != MAGIC || data.readInt() != STATE_COUNT)
+        {
+            throw new IOException("[ERROR] - The policy table does not match the current state layout");
+        }
+
+        final PolicyTable response = new PolicyTable();
+
+        data.readFully(response.actions);
+
+        return response;
+    }
+
+    /**
+     * Gets the index of the state a mower is in
+     *
+     * @param riskProfile - The risk profile of the mower
+     * @param direction - The direction the mower is facing
+     * @param turnsSinceLastScan - The number of turns since the mower last scanned
+     * @param surroundingSquares - The surrounding squares model of the mower, indexed by direction index
+     *
+     * @return - The index of the state
+     */
+    static int getStateIndex(final SimulationRiskProfile riskProfile,
+                             final Direction direction,
+                             final int turnsSinceLastScan,
+                             final List<LawnSquareContent> surroundingSquares)
+    {
+        int neighbourhood = 0;
+
+        for(int i = 0; i < 8; i++)
+        {
+            final LawnSquareContent content = surroundingSquares.isEmpty()
+                    ? LawnSquareContent.UNKNOWN
+                    : surroundingSquares.get((direction.getIndex() + i) % 8);
+
+            neighbourhood |= getContentClass(content) << (2 * i);
+        }
+
+        return getStateIndex(riskProfile.ordinal(), direction.getIndex() & 1,
+                Math.min(turnsSinceLastScan, SCAN_AGE_COUNT - 1), neighbourhood);
+    }
+
+    /**
+     * @param risk - The ordinal of the risk profile
+     * @param parity - 1 if the mower faces along a diagonal, 0 otherwise
+     * @param scanAge - The scan age bucket
+     * @param neighbourhood - The classes of the surrounding squares, 2 bits per square starting with the one in front
+     *
+     * @return - The index of the state
+     */
+    static int getStateIndex(final int risk, final int parity, final int scanAge, final int neighbourhood)
+    {
+        return ((risk * PARITY_COUNT + parity) * SCAN_AGE_COUNT + scanAge) * NEIGHBOURHOOD_COUNT + neighbourhood;
+    }
+
+    /**
+     * @return - The class of a surrounding square
+     */
+    static int getContentClass(final LawnSquareContent content)
+    {
+        int response;
+
+        if(content == LawnSquareContent.GRASS)
+        {
+            response = CLASS_GRASS;
+        }
+        else if(content == LawnSquareContent.EMPTY)
+        {
+            response = CLASS_EMPTY;
+        }
+        else if(content == LawnSquareContent.FENCE
+                || content == LawnSquareContent.CRATER
+                || content == LawnSquareContent.MOWER)
+        {
+            response = CLASS_BLOCKED;
+        }
+        else{
+            response = CLASS_UNKNOWN;
+        }
+
+        return response;
+    }
+}
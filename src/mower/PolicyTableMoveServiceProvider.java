@@ -0,0 +1,22 @@
+package mower;
+
+/**
+ * Provider for the policy-table strategy, which looks every move up in a table of actions solved ahead of time
+ */
+public class PolicyTableMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "policy-table";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextPolicyTableMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return false;
+    }
+}
@@ -0,0 +1,492 @@
+package mower;
+
+import constant.Direction;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Tool that solves the policy table with value iteration over a model of what a mower can see around itself. The model
+ * only knows the 8 surrounding squares, so every square that comes into view after a move is unknown until the next
+ * scan, and an unknown square turns out to be grass, empty, or blocked with fixed probabilities
+ *
+ * Usage:
+ * PolicyTableSolver [--grass=<percent>] [--blocked=<percent>] [<output file>]
+ *
+ * Note:
+ * Cutting a square of grass is worth 1 and future grass is discounted by DISCOUNT per turn. A crash ends the mower with
+ * a penalty that depends on the risk profile, and squares seen in an older scan may have been taken by another mower
+ * since, which makes moving on old information a little riskier every turn
+ */
+public class PolicyTableSolver
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int DEFAULT_GRASS_PERCENT = 55;
+    static final int DEFAULT_BLOCKED_PERCENT = 15;
+
+    private static final String GRASS_OPTION = "--grass=";
+    private static final String BLOCKED_OPTION = "--blocked=";
+    private static final String DEFAULT_OUTPUT = "src/mower/" + PolicyTable.RESOURCE_NAME;
+
+    private static final double DISCOUNT = 0.9;
+    private static final double STALE_RISK_PER_TURN = 0.02;
+    private static final double TOLERANCE = 1e-5;
+    private static final double TIE_TOLERANCE = 1e-3;
+    private static final int MAX_SWEEPS = 1000;
+
+    // THE CRASH PENALTY OF EVERY RISK PROFILE, BY ORDINAL: NO_RISK, LOW, MEDIUM, HIGH
+    private static final double[] CRASH_PENALTIES = {20.0, 10.0, 4.0, 1.0};
+
+    private static final int MOVED_FROM = -1;   // THE SQUARE THE MOWER JUST LEFT, WHICH IS ALWAYS EMPTY
+    private static final int OUT_OF_VIEW = -2;  // A SQUARE THAT WAS NOT A SURROUNDING SQUARE BEFORE THE MOVE
+
+    private final double grassProbability;
+    private final double emptyProbability;
+    private final double blockedProbability;
+
+    // FOR EVERY PARITY AND SURROUNDING SQUARE AFTER A MOVE, THE SURROUNDING SQUARE IT WAS BEFORE THE MOVE
+    private final int[][] moveSources;
+    // THE NEIGHBOURHOODS WITH UNKNOWN SQUARES, ORDERED BY THE NUMBER OF UNKNOWN SQUARES
+    private final int[] revealOrder;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param grassPercent - The chance that an unknown square is grass
+     * @param blockedPercent - The chance that an unknown square is a fence or a crater
+     *
+     * @throws RuntimeException - When the chances are negative or add up to more than 100
+     */
+    public PolicyTableSolver(final int grassPercent, final int blockedPercent)
+    {
+        if(grassPercent < 0 || blockedPercent < 0 || grassPercent + blockedPercent > 100)
+        {
+            final String errorMsg = "[ERROR] - The grass and blocked percentages must not be negative and can not add "
+                    + "up to more than 100";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        this.grassProbability = grassPercent / 100.0;
+        this.blockedProbability = blockedPercent / 100.0;
+        this.emptyProbability = 1.0 - grassProbability - blockedProbability;
+        this.moveSources = new int[][] {getMoveSources(Direction.NORTH), getMoveSources(Direction.NORTHEAST)};
+        this.revealOrder = getRevealOrder();
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        int grassPercent = DEFAULT_GRASS_PERCENT;
+        int blockedPercent = DEFAULT_BLOCKED_PERCENT;
+        String output = DEFAULT_OUTPUT;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(GRASS_OPTION))
+                {
+                    grassPercent = Integer.parseInt(arg.substring(GRASS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(BLOCKED_OPTION))
+                {
+                    blockedPercent = Integer.parseInt(arg.substring(BLOCKED_OPTION.length()).trim());
+                }
+                else{
+                    output = arg.trim();
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        final long startTime = System.nanoTime();
+        final PolicyTable table = new PolicyTableSolver(grassPercent, blockedPercent).solve();
+        final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        try(OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(output))))
+        {
+            table.write(out);
+        }
+        catch(IOException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to write the policy table to " + output, e);
+        }
+
+        System.out.println("Solved " + PolicyTable.STATE_COUNT + " states in " + elapsedMillis + " ms, written to "
+                + output);
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Solves the best action of every state, every risk profile is solved on its own since the profile of a mower
+     * never changes inside the model
+     *
+     * @return - The table
+     */
+    PolicyTable solve()
+    {
+        final PolicyTable response = new PolicyTable();
+
+        for(int risk = 0; risk < PolicyTable.RISK_COUNT; risk++)
+        {
+            final double[][][] values = solveValues(CRASH_PENALTIES[risk]);
+            final double[][] revealed = new double[PolicyTable.PARITY_COUNT][PolicyTable.NEIGHBOURHOOD_COUNT];
+
+            for(int parity = 0; parity < PolicyTable.PARITY_COUNT; parity++)
+            {
+                computeRevealedValues(values[parity][0], revealed[parity]);
+            }
+
+            for(int parity = 0; parity < PolicyTable.PARITY_COUNT; parity++)
+            {
+                for(int age = 0; age < PolicyTable.SCAN_AGE_COUNT; age++)
+                {
+                    for(int neighbourhood = 0; neighbourhood < PolicyTable.NEIGHBOURHOOD_COUNT; neighbourhood++)
+                    {
+                        response.setAction(PolicyTable.getStateIndex(risk, parity, age, neighbourhood),
+                                getBestAction(values, revealed, CRASH_PENALTIES[risk], parity, age, neighbourhood));
+                    }
+                }
+            }
+        }
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs value iteration until no value changes by more than TOLERANCE, the values are updated in place so every
+     * sweep already sees the values of the states updated before it
+     *
+     * @param crashPenalty - The penalty of a crash
+     *
+     * @return - The value of every state, by parity, scan age, and neighbourhood
+     */
+    private double[][][] solveValues(final double crashPenalty)
+    {
+        final double[][][] values =
+                new double[PolicyTable.PARITY_COUNT][PolicyTable.SCAN_AGE_COUNT][PolicyTable.NEIGHBOURHOOD_COUNT];
+        final double[][] revealed = new double[PolicyTable.PARITY_COUNT][PolicyTable.NEIGHBOURHOOD_COUNT];
+
+        for(int sweep = 0; sweep < MAX_SWEEPS; sweep++)
+        {
+            double maxChange = 0.0;
+
+            for(int parity = 0; parity < PolicyTable.PARITY_COUNT; parity++)
+            {
+                computeRevealedValues(values[parity][0], revealed[parity]);
+            }
+
+            for(int parity = 0; parity < PolicyTable.PARITY_COUNT; parity++)
+            {
+                for(int age = PolicyTable.SCAN_AGE_COUNT - 1; age >= 0; age--)
+                {
+                    for(int neighbourhood = 0; neighbourhood < PolicyTable.NEIGHBOURHOOD_COUNT; neighbourhood++)
+                    {
+                        double value = Double.NEGATIVE_INFINITY;
+
+                        for(int action = 0; action < PolicyTable.ACTION_COUNT; action++)
+                        {
+                            value = Math.max(value, getActionValue(values, revealed, crashPenalty, parity, age,
+                                    neighbourhood, action));
+                        }
+
+                        maxChange = Math.max(maxChange, Math.abs(value - values[parity][age][neighbourhood]));
+                        values[parity][age][neighbourhood] = value;
+                    }
+                }
+            }
+
+            if(maxChange < TOLERANCE)
+            {
+                break;
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Gets the action with the highest value. When moving or steering towards more than one square is as good as the
+     * best action the state is marked to wander instead, otherwise a mower in a stretch of cut lawn would follow the
+     * same loop forever
+     *
+     * @return - The action
+     */
+    private int getBestAction(final double[][][] values,
+                              final double[][] revealed,
+                              final double crashPenalty,
+                              final int parity,
+                              final int age,
+                              final int neighbourhood)
+    {
+        int response = PolicyTable.ACTION_PASS;
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for(int action = 0; action < PolicyTable.ACTION_COUNT; action++)
+        {
+            final double value = getActionValue(values, revealed, crashPenalty, parity, age, neighbourhood, action);
+
+            if(value > bestValue + TOLERANCE)
+            {
+                bestValue = value;
+                response = action;
+            }
+        }
+
+        if(response < PolicyTable.ACTION_SCAN && !hasGrass(neighbourhood))
+        {
+            int ties = 0;
+
+            for(int action = 0; action < PolicyTable.ACTION_SCAN; action++)
+            {
+                if(getActionValue(values, revealed, crashPenalty, parity, age, neighbourhood, action)
+                        >= bestValue - TIE_TOLERANCE)
+                {
+                    ties++;
+                }
+            }
+
+            if(ties > 1)
+            {
+                response = PolicyTable.ACTION_WANDER;
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * @return - True if one of the surrounding squares is grass, false otherwise
+     */
+    private static boolean hasGrass(final int neighbourhood)
+    {
+        for(int shift = 0; shift < 16; shift += 2)
+        {
+            if(((neighbourhood >> shift) & 3) == PolicyTable.CLASS_GRASS)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the expected value of taking an action in a state
+     *
+     * @return - The expected value
+     */
+    private double getActionValue(final double[][][] values,
+                                  final double[][] revealed,
+                                  final double crashPenalty,
+                                  final int parity,
+                                  final int age,
+                                  final int neighbourhood,
+                                  final int action)
+    {
+        final int nextAge = Math.min(age + 1, PolicyTable.SCAN_AGE_COUNT - 1);
+
+        double response;
+
+        if(action == PolicyTable.ACTION_MOVE)
+        {
+            final int front = neighbourhood & 3;
+            final double next = DISCOUNT * values[parity][nextAge][getNeighbourhoodAfterMove(parity, neighbourhood)];
+
+            if(front == PolicyTable.CLASS_BLOCKED)
+            {
+                response = -crashPenalty;
+            }
+            else if(front == PolicyTable.CLASS_UNKNOWN)
+            {
+                response = blockedProbability * -crashPenalty
+                        + grassProbability * (1.0 + next)
+                        + emptyProbability * next;
+            }
+            else{
+                final double staleRisk = STALE_RISK_PER_TURN * age;
+                final double reward = front == PolicyTable.CLASS_GRASS ? 1.0 : 0.0;
+
+                response = staleRisk * -crashPenalty + (1.0 - staleRisk) * (reward + next);
+            }
+        }
+        else if(action == PolicyTable.ACTION_SCAN)
+        {
+            response = DISCOUNT * revealed[parity][neighbourhood];
+        }
+        else if(action == PolicyTable.ACTION_PASS)
+        {
+            response = DISCOUNT * values[parity][nextAge][neighbourhood];
+        }
+        else{
+            response = DISCOUNT * values[parity ^ (action & 1)][nextAge][rotate(neighbourhood, action)];
+        }
+
+        return response;
+    }
+
+    /**
+     * Computes the expected value of every neighbourhood once a scan has revealed its unknown squares. A neighbourhood
+     * with unknown squares is the mix of the neighbourhoods its first unknown square can turn into, which all have one
+     * unknown square less and so have already been computed
+     *
+     * @param scannedValues - The values of the states that scanned this turn
+     * @param revealed - The array the expected values are written into
+     */
+    private void computeRevealedValues(final double[] scannedValues, final double[] revealed)
+    {
+        for(int neighbourhood = 0; neighbourhood < PolicyTable.NEIGHBOURHOOD_COUNT; neighbourhood++)
+        {
+            revealed[neighbourhood] = scannedValues[neighbourhood];
+        }
+
+        for(int neighbourhood : revealOrder)
+        {
+            int shift = 0;
+
+            while(((neighbourhood >> shift) & 3) != PolicyTable.CLASS_UNKNOWN)
+            {
+                shift += 2;
+            }
+
+            final int cleared = neighbourhood & ~(3 << shift);
+
+            revealed[neighbourhood] = grassProbability * revealed[cleared | (PolicyTable.CLASS_GRASS << shift)]
+                    + emptyProbability * revealed[cleared | (PolicyTable.CLASS_EMPTY << shift)]
+                    + blockedProbability * revealed[cleared | (PolicyTable.CLASS_BLOCKED << shift)];
+        }
+    }
+
+    /**
+     * Gets the neighbourhood a mower sees after moving forward, the way the mower is facing does not change
+     *
+     * @return - The new neighbourhood
+     */
+    private int getNeighbourhoodAfterMove(final int parity, final int neighbourhood)
+    {
+        int response = 0;
+
+        for(int i = 0; i < 8; i++)
+        {
+            final int source = moveSources[parity][i];
+
+            int squareClass;
+
+            if(source == MOVED_FROM)
+            {
+                squareClass = PolicyTable.CLASS_EMPTY;
+            }
+            else if(source == OUT_OF_VIEW)
+            {
+                squareClass = PolicyTable.CLASS_UNKNOWN;
+            }
+            else{
+                squareClass = (neighbourhood >> (2 * source)) & 3;
+            }
+
+            response |= squareClass << (2 * i);
+        }
+
+        return response;
+    }
+
+    /**
+     * Gets the neighbourhood a mower sees after steering, the square that ends up in front is the one that was at
+     * the steering offset
+     *
+     * @param neighbourhood - The neighbourhood before steering
+     * @param offset - The number of 45 degree turns clockwise
+     *
+     * @return - The new neighbourhood
+     */
+    private static int rotate(final int neighbourhood, final int offset)
+    {
+        final int bits = 2 * offset;
+
+        return ((neighbourhood >>> bits) | (neighbourhood << (16 - bits))) & 0xFFFF;
+    }
+
+    /**
+     * Works out where every surrounding square after a move was before the move, for a mower facing a direction
+     *
+     * @param facing - The direction the mower is facing, NORTH for a straight move and NORTHEAST for a diagonal one
+     *
+     * @return - The surrounding square before the move, MOVED_FROM, or OUT_OF_VIEW, by surrounding square after
+     */
+    private static int[] getMoveSources(final Direction facing)
+    {
+        final int[] response = new int[8];
+
+        for(int i = 0; i < 8; i++)
+        {
+            final Direction direction = Direction.getDirectionByIndex((facing.getIndex() + i) % 8);
+            final int x = facing.getxIncrement() + direction.getxIncrement();
+            final int y = facing.getyIncrement() + direction.getyIncrement();
+
+            response[i] = OUT_OF_VIEW;
+
+            if(x == 0 && y == 0)
+            {
+                response[i] = MOVED_FROM;
+            }
+            else if(Math.abs(x) <= 1 && Math.abs(y) <= 1)
+            {
+                response[i] = (Direction.getDirectionByIncrements(x, y).getIndex() - facing.getIndex() + 8) % 8;
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * @return - The neighbourhoods with at least one unknown square, ordered by the number of unknown squares
+     */
+    private static int[] getRevealOrder()
+    {
+        final int[] unknownCounts = new int[PolicyTable.NEIGHBOURHOOD_COUNT];
+        final int[] countsPerUnknownCount = new int[9];
+
+        for(int neighbourhood = 0; neighbourhood < PolicyTable.NEIGHBOURHOOD_COUNT; neighbourhood++)
+        {
+            for(int shift = 0; shift < 16; shift += 2)
+            {
+                if(((neighbourhood >> shift) & 3) == PolicyTable.CLASS_UNKNOWN)
+                {
+                    unknownCounts[neighbourhood]++;
+                }
+            }
+
+            countsPerUnknownCount[unknownCounts[neighbourhood]]++;
+        }
+
+        final int[] response = new int[PolicyTable.NEIGHBOURHOOD_COUNT - countsPerUnknownCount[0]];
+        int next = 0;
+
+        for(int unknownCount = 1; unknownCount <= 8; unknownCount++)
+        {
+            for(int neighbourhood = 0; neighbourhood < PolicyTable.NEIGHBOURHOOD_COUNT; neighbourhood++)
+            {
+                if(unknownCounts[neighbourhood] == unknownCount)
+                {
+                    response[next++] = neighbourhood;
+                }
+            }
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,23 @@
+package mower;
+
+/**
+ * Provider for the risk-profile strategy, which picks the low, med, or high risk service from the risk profile every
+ * mower determines for itself
+ */
+public class RiskProfileMoveServiceProvider implements NextMowerMoveServiceProvider
+{
+    @Override
+    public String getStrategyName() {
+        return "risk-profile";
+    }
+
+    @Override
+    public NextMowerMoveService getMoveService() {
+        return NextRiskProfileMoveServiceImpl.getInstance();
+    }
+
+    @Override
+    public boolean isKnowledgeMapRequired() {
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package sim;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import lawn.Lawn;
+import mower.MowerFleet;
+
+import java.util.Arrays;
+
+/**
+ * Class used to prove that the grass that is left can never be cut, so a simulation can end instead of spending the
+ * rest of its turns on mowers that have nowhere left to go
+ *
+ * Note:
+ * A mower that runs into a crater is disabled but also clears the crater, which lets the mowers after it through. So
+ * a crater is not a wall, it costs a mower to cross. The search counts the craters on the cheapest way from any
+ * active mower to every square, and a square of grass behind fewer craters than there are active mowers could still
+ * be reached. Every active mower is counted towards every crossing, so the search can only overestimate what is
+ * reachable and a proof is never wrong
+ *
+ * The search stops at the first square of grass that could be reached, which is almost always close to a mower, so
+ * a check is cheap unless the grass really is out of reach. The simulation only checks after turns without any grass
+ * cut, and backs off further every time the grass turns out to be reachable
+ */
+class GrassReachability
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int FIRST_CHECK_TURNS = 8;
+
+    private final Lawn lawn;
+    private final int xLength;
+    private final int yLength;
+
+    // THE SQUARES A CHECK HAS SEEN ARE STAMPED WITH ITS NUMBER, SO NOTHING HAS TO BE CLEARED BETWEEN CHECKS
+    private final int[] visitStamps;
+    private int stamp;
+
+    private int[] currentLevel;
+    private int[] nextLevel;
+
+    private int turnsWithoutGrassCut;
+    private int turnsUntilCheck;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param lawn - The lawn, its squares are read as the simulation changes them
+     */
+    GrassReachability(final Lawn lawn)
+    {
+        this.lawn = lawn;
+        this.xLength = lawn.getxLength();
+        this.yLength = lawn.getyLength();
+        this.visitStamps = new int[xLength * yLength];
+        this.currentLevel = new int[16];
+        this.nextLevel = new int[16];
+        this.turnsUntilCheck = FIRST_CHECK_TURNS;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Records the end of a turn and decides if the grass should be checked
+     *
+     * @param grassCut - The grass cut in the turn
+     *
+     * @return - True if the grass should be checked
+     */
+    boolean isCheckDue(final int grassCut)
+    {
+        if(grassCut > 0)
+        {
+            turnsWithoutGrassCut = 0;
+            turnsUntilCheck = FIRST_CHECK_TURNS;
+
+            return false;
+        }
+
+        return ++turnsWithoutGrassCut >= turnsUntilCheck;
+    }
+
+    /**
+     * Checks if any of the grass that is left could still be reached by an active mower
+     *
+     * @param fleet - The state of every mower of the simulation
+     * @param activeMowers - The number of active mowers
+     *
+     * @return - False only when it is certain that no grass can ever be cut again
+     */
+    boolean isGrassReachable(final MowerFleet fleet, final int activeMowers)
+    {
+        final boolean response = search(fleet, activeMowers);
+
+        if(response)
+        {
+            // BACK OFF, THE MOWERS ARE MOST LIKELY ON THEIR WAY TO THE GRASS
+            turnsUntilCheck = turnsWithoutGrassCut * 2;
+        }
+
+        return response;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Searches outwards from every active mower one crater at a time, every level holds the squares that are
+     * behind that many craters
+     *
+     * @return - True as soon as a square of grass is found behind fewer craters than there are active mowers
+     */
+    private boolean search(final MowerFleet fleet, final int activeMowers)
+    {
+        stamp++;
+
+        int currentSize = 0;
+
+        for(int slot = fleet.getFirstActiveSlot(); slot != MowerFleet.NO_SLOT; slot = fleet.getNextActiveSlot(slot))
+        {
+            final int square = fleet.getXCoordinate(slot) + fleet.getYCoordinate(slot) * xLength;
+
+            if(visitStamps[square] != stamp)
+            {
+                visitStamps[square] = stamp;
+                currentLevel = append(currentLevel, currentSize++, square);
+            }
+        }
+
+        // EVERY CRATER CROSSED COSTS A MOWER, AND ONE MOWER HAS TO BE LEFT TO CUT THE GRASS
+        for(int craters = 0; craters < activeMowers && currentSize > 0; craters++)
+        {
+            int nextSize = 0;
+
+            for(int i = 0; i < currentSize; i++)
+            {
+                final int square = currentLevel[i];
+                final int x = square % xLength;
+                final int y = square / xLength;
+
+                for(Direction direction : DIRECTIONS)
+                {
+                    final int neighborX = x + direction.getxIncrement();
+                    final int neighborY = y + direction.getyIncrement();
+
+                    if(neighborX < 0 || neighborX >= xLength || neighborY < 0 || neighborY >= yLength)
+                    {
+                        continue;
+                    }
+
+                    final int neighbor = neighborX + neighborY * xLength;
+
+                    if(visitStamps[neighbor] == stamp)
+                    {
+                        continue;
+                    }
+
+                    visitStamps[neighbor] = stamp;
+
+                    final LawnSquareContent content =
+                            lawn.getLawnSquareByCoordinates(neighborX, neighborY).getLawnSquareContent();
+
+                    if(content == LawnSquareContent.GRASS)
+                    {
+                        return true;
+                    }
+
+                    // THE SQUARES OF THIS LEVEL ARE SEARCHED BEFORE ANY OF THE LEVEL BEHIND THE NEXT CRATER
+                    if(content == LawnSquareContent.CRATER)
+                    {
+                        nextLevel = append(nextLevel, nextSize++, neighbor);
+                    }
+                    else{
+                        currentLevel = append(currentLevel, currentSize++, neighbor);
+                    }
+                }
+            }
+
+            final int[] searched = currentLevel;
+
+            currentLevel = nextLevel;
+            nextLevel = searched;
+            currentSize = nextSize;
+        }
+
+        return false;
+    }
+
+    private static int[] append(final int[] list, final int size, final int value)
+    {
+        final int[] response = size == list.length ? Arrays.copyOf(list, size * 2) : list;
+
+        response[size] = value;
+
+        return response;
+    }
+}
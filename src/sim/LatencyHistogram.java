@@ -0,0 +1,148 @@
+package sim;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class used to record how long something took without keeping the samples. Every sample lands in the bucket of its
+ * highest set bit, so bucket i holds the samples from 2^(i-1) up to 2^i - 1 nanoseconds and 64 buckets cover any
+ * duration
+ *
+ * Note:
+ * The buckets are striped counters, so any number of threads can record into the same histogram without contending
+ * on a single value, and a snapshot can be taken while they do
+ */
+public class LatencyHistogram
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    LatencyHistogram()
+    {
+        this.buckets = new LongAdder[BUCKET_COUNT];
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+
+        for(int i = 0; i < BUCKET_COUNT; i++)
+        {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Records a sample
+     *
+     * @param nanos - The duration of the sample, a negative duration is recorded as 0
+     */
+    void record(final long nanos)
+    {
+        final long sample = Math.max(0, nanos);
+
+        buckets[Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(sample))].increment();
+        totalNanos.add(sample);
+        maxNanos.accumulate(sample);
+    }
+
+    /**
+     * @return - A copy of the histogram as it is right now
+     */
+    Snapshot getSnapshot()
+    {
+        final long[] counts = new long[BUCKET_COUNT];
+
+        for(int i = 0; i < BUCKET_COUNT; i++)
+        {
+            counts[i] = buckets[i].sum();
+        }
+
+        return new Snapshot(counts, totalNanos.sum(), maxNanos.get());
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * The counts of a histogram at one point in time
+     */
+    public static class Snapshot
+    {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Snapshot(final long[] counts, final long totalNanos, final long maxNanos)
+        {
+            long sum = 0;
+
+            for(long bucketCount : counts)
+            {
+                sum += bucketCount;
+            }
+
+            this.counts = counts;
+            this.count = sum;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * @return - The mean duration, 0 when nothing was recorded
+         */
+        public double getMeanNanos()
+        {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Gets a percentile of the durations, which is only as exact as the bucket it falls in so the upper bound of
+         * the bucket is returned, capped at the longest duration recorded
+         *
+         * @param percentile - The percentile, between 0 and 100
+         *
+         * @return - The upper bound of the percentile, 0 when nothing was recorded
+         */
+        public long getPercentileNanos(final double percentile)
+        {
+            final long rank = (long) Math.ceil(count * percentile / 100.0);
+
+            long seen = 0;
+
+            for(int i = 0; i < counts.length; i++)
+            {
+                seen += counts[i];
+
+                if(seen >= rank && seen > 0)
+                {
+                    return i == 0 ? 0 : Math.min(maxNanos, (1L << i) - 1);
+                }
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("count=%d mean=%.0fns p50<=%dns p90<=%dns p99<=%dns max=%dns",
+                    count, getMeanNanos(), getPercentileNanos(50), getPercentileNanos(90), getPercentileNanos(99),
+                    maxNanos);
+        }
+    }
+}
@@ -0,0 +1,562 @@
+package sim;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import mower.Mower;
+import mower.MowerStrategyRegistry;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Class used to draw frames of a stepped simulation, as text or as images, so a strategy can be watched instead of
+ * read from the move log. The renderer keeps its own copy of the lawn and only redraws the squares a step reports as
+ * changed, so following a long run costs the number of changes per frame and not the size of the lawn
+ *
+ * Usage:
+ * LawnFrameRenderer <simulation file> [--strategy=<name>] [--seed=<seed>] [--every=<turns>] [--delay=<ms>]
+ *                   [--viewport=<x>,<y>,<width>,<height>] [--png=<directory>] [--scale=<pixels per square>]
+ *
+ * Note:
+ * Without --png the frames are drawn in the terminal, the first frame is drawn whole and every frame after it only
+ * moves the cursor to the squares that changed. A viewport limits the frames to part of the lawn, changes outside of
+ * it are kept track of but never drawn
+ *
+ * The text glyphs are . grass, a blank for cut grass, o crater, # fence, and ? unknown. A mower is drawn by its
+ * heading, ^ > v < for north, east, south, and west and the numbers of a numeric keypad, 9 3 1 7, for the diagonals
+ */
+public class LawnFrameRenderer
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String STRATEGY_OPTION = "--strategy=";
+    private static final String SEED_OPTION = "--seed=";
+    private static final String EVERY_OPTION = "--every=";
+    private static final String DELAY_OPTION = "--delay=";
+    private static final String VIEWPORT_OPTION = "--viewport=";
+    private static final String PNG_OPTION = "--png=";
+    private static final String SCALE_OPTION = "--scale=";
+
+    private static final String ANSI_ESCAPE = "\u001B[";
+
+    // BY THE ORDINAL OF THE CONTENT AND THE INDEX OF THE DIRECTION
+    private static final char[] CONTENT_GLYPHS = {' ', '.', 'o', '#', 'M', '?'};
+    private static final char[] MOWER_GLYPHS = {'^', '9', '>', '3', 'v', '1', '<', '7'};
+    private static final int[] CONTENT_COLORS = {0xC9DFA6, 0x3B8C3A, 0x4A3222, 0x7F7F7F, 0xD03030, 0x000000};
+    private static final int MOWER_COLOR = 0xD03030;
+    private static final int HEADING_COLOR = 0xFFFFFF;
+
+    private final int lawnWidth;
+    private final int viewX;
+    private final int viewY;
+    private final int viewWidth;
+    private final int viewHeight;
+    private final int scale;
+
+    private final byte[] contents;
+    private final Map<Integer, Direction> headingsBySquare;
+    private final Map<Integer, Integer> squaresByMower;
+    private final char[] glyphs;
+    private final BitSet isDirty;
+
+    private int[] dirtySquares;
+    private int dirtySquareCount;
+    private boolean hasDrawnText;
+    private BufferedImage image;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Renders the whole lawn at 1 pixel per square
+     *
+     * @param simulation - The simulation, it has to have been stepped at least once, a step of 0 turns will do
+     */
+    public LawnFrameRenderer(final Simulation simulation)
+    {
+        this(simulation, 0, 0, simulation.getLawnWidth(), simulation.getLawnHeight(), 1);
+    }
+
+    /**
+     * @param simulation - The simulation, it has to have been stepped at least once, a step of 0 turns will do
+     * @param viewX - The x coordinate of the bottom left square of the viewport
+     * @param viewY - The y coordinate of the bottom left square of the viewport
+     * @param viewWidth - The width of the viewport in squares
+     * @param viewHeight - The height of the viewport in squares
+     * @param scale - The width and height of a square in the images, in pixels
+     *
+     * @throws RuntimeException - When the simulation has not been set up, or the viewport is not on the lawn
+     */
+    public LawnFrameRenderer(final Simulation simulation,
+                             final int viewX,
+                             final int viewY,
+                             final int viewWidth,
+                             final int viewHeight,
+                             final int scale)
+    {
+        final LawnSquareContent[] lawnContents = simulation.getLawnSquareContents();
+
+        if(lawnContents == null)
+        {
+            final String errorMsg = "[ERROR] - A simulation has to be stepped before it can be rendered";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        final int lawnHeight = simulation.getLawnHeight();
+
+        if(viewX < 0 || viewY < 0 || viewWidth < 1 || viewHeight < 1 || scale < 1
+                || viewX + viewWidth > simulation.getLawnWidth() || viewY + viewHeight > lawnHeight)
+        {
+            final String errorMsg = "[ERROR] - The viewport " + viewWidth + "x" + viewHeight + " at (" + viewX + ","
+                    + viewY + ") is not on the " + simulation.getLawnWidth() + "x" + lawnHeight + " lawn";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        this.lawnWidth = simulation.getLawnWidth();
+        this.viewX = viewX;
+        this.viewY = viewY;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.scale = scale;
+        this.contents = new byte[lawnContents.length];
+        this.headingsBySquare = new HashMap<>();
+        this.squaresByMower = new HashMap<>();
+        this.glyphs = new char[viewWidth * viewHeight];
+        this.isDirty = new BitSet();
+        this.dirtySquares = new int[64];
+
+        for(int i = 0; i < lawnContents.length; i++)
+        {
+            contents[i] = (byte) lawnContents[i].ordinal();
+        }
+
+        for(Mower mower : simulation.getMowers())
+        {
+            if(!mower.isDisabled())
+            {
+                placeMower(mower.getId(), mower.getXCoordinate(), mower.getYCoordinate(), mower.getDirection());
+            }
+        }
+
+        for(int y = viewY; y < viewY + viewHeight; y++)
+        {
+            for(int x = viewX; x < viewX + viewWidth; x++)
+            {
+                drawGlyph(x + y * lawnWidth);
+            }
+        }
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        File simFile = null;
+        String strategy = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        long seed = System.nanoTime();
+        int every = 1;
+        long delayMillis = 0;
+        int[] viewport = null;
+        File pngDirectory = null;
+        int scale = 4;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(STRATEGY_OPTION))
+                {
+                    strategy = arg.substring(STRATEGY_OPTION.length()).trim();
+                }
+                else if(arg.startsWith(SEED_OPTION))
+                {
+                    seed = Long.parseLong(arg.substring(SEED_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(EVERY_OPTION))
+                {
+                    every = Integer.parseInt(arg.substring(EVERY_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(DELAY_OPTION))
+                {
+                    delayMillis = Long.parseLong(arg.substring(DELAY_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(VIEWPORT_OPTION))
+                {
+                    viewport = Arrays.stream(arg.substring(VIEWPORT_OPTION.length()).split(","))
+                            .mapToInt(value -> Integer.parseInt(value.trim()))
+                            .toArray();
+                }
+                else if(arg.startsWith(PNG_OPTION))
+                {
+                    pngDirectory = new File(arg.substring(PNG_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(SCALE_OPTION))
+                {
+                    scale = Integer.parseInt(arg.substring(SCALE_OPTION.length()).trim());
+                }
+                else if(arg.startsWith("--"))
+                {
+                    throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg);
+                }
+                else{
+                    simFile = new File(arg.trim());
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(simFile == null || every < 1 || (viewport != null && viewport.length != 4))
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - A simulation file, at least 1 turn per frame, and a "
+                    + "viewport of x,y,width,height are required");
+        }
+
+        if(pngDirectory != null && !pngDirectory.isDirectory() && !pngDirectory.mkdirs())
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Unable to create " + pngDirectory);
+        }
+
+        final Simulation simulation = new Simulation(simFile, false, false, strategy, new Random(seed), null);
+
+        SimulationStep step = simulation.step(0);
+
+        final LawnFrameRenderer renderer = viewport == null
+                ? new LawnFrameRenderer(simulation, 0, 0, simulation.getLawnWidth(), simulation.getLawnHeight(), scale)
+                : new LawnFrameRenderer(simulation, viewport[0], viewport[1], viewport[2], viewport[3], scale);
+        final PrintStream out = System.out;
+
+        int frames = 0;
+        long renderNanos = 0;
+
+        while(true)
+        {
+            final long startTime = System.nanoTime();
+
+            renderer.apply(step);
+
+            if(pngDirectory == null)
+            {
+                renderer.drawChanges(out);
+
+                out.print(ANSI_ESCAPE + (renderer.viewHeight + 1) + ";1H" + ANSI_ESCAPE + "K" + step + "\n");
+                out.flush();
+            }
+            else{
+                renderer.writePng(new File(pngDirectory, String.format("frame-%06d.png", frames)));
+            }
+
+            renderNanos += System.nanoTime() - startTime;
+            frames++;
+
+            if(step.isFinished())
+            {
+                break;
+            }
+
+            if(delayMillis > 0)
+            {
+                try
+                {
+                    Thread.sleep(delayMillis);
+                }
+                catch(InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+
+                    break;
+                }
+            }
+
+            step = simulation.step(every);
+        }
+
+        System.err.println(String.format("%d frames, %.3f ms per frame, %d of %d grass cut in %d turns", frames,
+                renderNanos / 1e6 / frames, simulation.getTotalGrassCut(), simulation.getStartingGrassToCut(),
+                simulation.getTurnsTaken()));
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Applies the changes of a step to the frame, only the squares the step changed are redrawn
+     *
+     * @param step - The step, every step of the simulation has to be applied in order
+     */
+    public void apply(final SimulationStep step)
+    {
+        for(SimulationStep.SquareChange change : step.getSquareChanges())
+        {
+            final int square = change.getXCoordinate() + change.getYCoordinate() * lawnWidth;
+
+            contents[square] = (byte) change.getContent().ordinal();
+
+            redraw(square);
+        }
+
+        // EVERY MOWER IS LIFTED BEFORE ANY IS PUT DOWN, A MOWER CAN MOVE ONTO A SQUARE ANOTHER ONE LEFT IN THE STEP
+        for(SimulationStep.MowerChange change : step.getMowerChanges())
+        {
+            final Integer previousSquare = squaresByMower.remove(change.getId());
+
+            if(previousSquare != null)
+            {
+                headingsBySquare.remove(previousSquare);
+
+                redraw(previousSquare);
+            }
+        }
+
+        for(SimulationStep.MowerChange change : step.getMowerChanges())
+        {
+            if(!change.isDisabled())
+            {
+                redraw(placeMower(change.getId(), change.getXCoordinate(), change.getYCoordinate(),
+                        change.getDirection()));
+            }
+        }
+    }
+
+    /**
+     * @return - The viewport as text, the top line is the row with the highest y coordinate
+     */
+    public String renderText()
+    {
+        final StringBuilder sb = new StringBuilder(glyphs.length + viewHeight);
+
+        for(int row = 0; row < viewHeight; row++)
+        {
+            sb.append(glyphs, row * viewWidth, viewWidth).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Draws the frame in a terminal, the first call clears the screen and draws the whole viewport, every call after
+     * that only moves the cursor to the squares that changed since the call before it
+     *
+     * @param out - The terminal
+     */
+    public void drawChanges(final PrintStream out)
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        if(!hasDrawnText)
+        {
+            hasDrawnText = true;
+
+            sb.append(ANSI_ESCAPE).append("2J").append(ANSI_ESCAPE).append("H").append(renderText());
+        }
+        else{
+            for(int i = 0; i < dirtySquareCount; i++)
+            {
+                final int square = dirtySquares[i];
+                final int x = square % lawnWidth;
+                final int y = square / lawnWidth;
+
+                if(isInViewport(x, y))
+                {
+                    final int row = viewY + viewHeight - 1 - y;
+                    final int column = x - viewX;
+
+                    sb.append(ANSI_ESCAPE).append(row + 1).append(';').append(column + 1).append('H')
+                            .append(glyphs[row * viewWidth + column]);
+                }
+            }
+        }
+
+        clearDirtySquares();
+
+        out.print(sb);
+    }
+
+    /**
+     * Gets the viewport as an image, the first call paints the whole viewport and the image is kept up to date one
+     * square at a time after that
+     *
+     * @return - The image, it is reused by every call so copy it to keep a frame
+     */
+    public BufferedImage renderImage()
+    {
+        if(image == null)
+        {
+            image = new BufferedImage(viewWidth * scale, viewHeight * scale, BufferedImage.TYPE_INT_RGB);
+
+            for(int y = viewY; y < viewY + viewHeight; y++)
+            {
+                for(int x = viewX; x < viewX + viewWidth; x++)
+                {
+                    paintSquare(x + y * lawnWidth);
+                }
+            }
+        }
+
+        return image;
+    }
+
+    /**
+     * Writes the viewport as a PNG
+     *
+     * @param file - The file to write
+     *
+     * @throws RuntimeException - When the file can not be written
+     */
+    public void writePng(final File file)
+    {
+        try
+        {
+            ImageIO.write(renderImage(), "png", file);
+        }
+        catch(IOException e)
+        {
+            final String errorMsg = "[ERROR] - Unable to write the frame " + file;
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e);
+        }
+    }
+
+    /**
+     * @return - The number of squares that changed since the terminal was last drawn
+     */
+    public int getDirtySquareCount() {
+        return dirtySquareCount;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Puts a mower on a square
+     *
+     * @return - The square
+     */
+    private int placeMower(final int mowerId, final int x, final int y, final Direction direction)
+    {
+        final int square = x + y * lawnWidth;
+
+        squaresByMower.put(mowerId, square);
+        headingsBySquare.put(square, direction);
+
+        return square;
+    }
+
+    /**
+     * Redraws a square in the text and the image, and marks it for the next terminal frame
+     *
+     * @param square - The index of the square
+     */
+    private void redraw(final int square)
+    {
+        if(!isDirty.get(square))
+        {
+            isDirty.set(square);
+
+            if(dirtySquareCount == dirtySquares.length)
+            {
+                dirtySquares = Arrays.copyOf(dirtySquares, dirtySquareCount * 2);
+            }
+
+            dirtySquares[dirtySquareCount++] = square;
+        }
+
+        drawGlyph(square);
+
+        if(image != null)
+        {
+            paintSquare(square);
+        }
+    }
+
+    private void clearDirtySquares()
+    {
+        for(int i = 0; i < dirtySquareCount; i++)
+        {
+            isDirty.clear(dirtySquares[i]);
+        }
+
+        dirtySquareCount = 0;
+    }
+
+    private void drawGlyph(final int square)
+    {
+        final int x = square % lawnWidth;
+        final int y = square / lawnWidth;
+
+        if(isInViewport(x, y))
+        {
+            final Direction heading = headingsBySquare.get(square);
+
+            glyphs[(viewY + viewHeight - 1 - y) * viewWidth + x - viewX] = heading == null
+                    ? CONTENT_GLYPHS[contents[square]]
+                    : MOWER_GLYPHS[heading.getIndex()];
+        }
+    }
+
+    /**
+     * Paints a square into the image, a mower is painted with a mark on the side it is heading towards when the
+     * squares are large enough to show it
+     *
+     * @param square - The index of the square
+     */
+    private void paintSquare(final int square)
+    {
+        final int x = square % lawnWidth;
+        final int y = square / lawnWidth;
+
+        if(!isInViewport(x, y))
+        {
+            return;
+        }
+
+        final Direction heading = headingsBySquare.get(square);
+        final int left = (x - viewX) * scale;
+        final int top = (viewY + viewHeight - 1 - y) * scale;
+
+        fill(left, top, scale, heading == null ? CONTENT_COLORS[contents[square]] : MOWER_COLOR);
+
+        if(heading != null && scale >= 3)
+        {
+            final int markSize = Math.max(1, scale / 4);
+            final int center = (scale - markSize) / 2;
+            final int reach = (scale - markSize) / 2;
+
+            fill(left + center + heading.getxIncrement() * reach,
+                    top + center - heading.getyIncrement() * reach,
+                    markSize,
+                    HEADING_COLOR);
+        }
+    }
+
+    private void fill(final int left, final int top, final int size, final int color)
+    {
+        for(int i = 0; i < size; i++)
+        {
+            for(int j = 0; j < size; j++)
+            {
+                image.setRGB(left + i, top + j, color);
+            }
+        }
+    }
+
+    private boolean isInViewport(final int x, final int y)
+    {
+        return x >= viewX && x < viewX + viewWidth && y >= viewY && y < viewY + viewHeight;
+    }
+}
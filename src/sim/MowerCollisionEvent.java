@@ -0,0 +1,31 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a mower moving onto a square it can not stand on
+ */
+@Name("mower.simulation.Collision")
+@Label("Mower Collision")
+@Category({"Mower Simulation"})
+@StackTrace(false)
+public class MowerCollisionEvent extends jdk.jfr.Event
+{
+    @Label("Mower")
+    String mowerName;
+
+    @Label("Cause")
+    String cause;
+
+    @Label("X Coordinate")
+    int xCoordinate;
+
+    @Label("Y Coordinate")
+    int yCoordinate;
+
+    @Label("Turn")
+    int turn;
+}
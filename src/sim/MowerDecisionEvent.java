@@ -0,0 +1,36 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event that spans a mower deciding on its next move, the duration is the decision latency of the
+ * strategy of the mower
+ */
+@Name("mower.simulation.Decision")
+@Label("Mower Decision")
+@Category({"Mower Simulation"})
+@Description("A mower deciding on its next move")
+@StackTrace(false)
+public class MowerDecisionEvent extends jdk.jfr.Event
+{
+    @Label("Mower")
+    String mowerName;
+
+    @Label("Strategy")
+    @Description("The strategy of the mower, random for mowers that are not strategic")
+    String strategyName;
+
+    @Label("Risk Profile")
+    @Description("The risk profile the mower decided with, empty if the strategy does not use one")
+    String riskProfile;
+
+    @Label("Move Type")
+    String moveType;
+
+    @Label("Turn")
+    int turn;
+}
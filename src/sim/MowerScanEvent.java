@@ -0,0 +1,31 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event that spans a mower scanning its surrounding squares
+ */
+@Name("mower.simulation.Scan")
+@Label("Mower Scan")
+@Category({"Mower Simulation"})
+@StackTrace(false)
+public class MowerScanEvent extends jdk.jfr.Event
+{
+    @Label("Mower")
+    public String mowerName;
+
+    @Label("X Coordinate")
+    public int xCoordinate;
+
+    @Label("Y Coordinate")
+    public int yCoordinate;
+
+    @Label("Grass Seen")
+    public int grassSeen;
+
+    @Label("Turn")
+    public int turn;
+}
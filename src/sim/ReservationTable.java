@@ -0,0 +1,157 @@
+package sim;
+
+import java.util.Arrays;
+
+/**
+ * Class used to let the strategic mowers tell each other where they are going to be. Every strategic mower reserves
+ * the square it will stand on after its move, and planning mowers also reserve the next steps of their route, so the
+ * other mowers can steer clear of those squares without having to scan for them
+ *
+ * Note:
+ * The table keeps a ring of HORIZON turns. Every reservation is stamped with the turn it is for, so a reservation
+ * from an older turn that is still in the ring is simply ignored instead of having to be cleared
+ */
+public class ReservationTable
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int HORIZON = 4;
+    public static final int NO_OWNER = -1;
+
+    private final int xLength;
+    private final int yLength;
+    private final int[][] owners;
+    private final int[][] stamps;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public ReservationTable(final int xLength, final int yLength)
+    {
+        this.xLength = xLength;
+        this.yLength = yLength;
+        this.owners = new int[HORIZON][xLength * yLength];
+        this.stamps = new int[HORIZON][xLength * yLength];
+
+        // NO TURN IS EVER NEGATIVE, SO EVERY SQUARE STARTS WITHOUT A RESERVATION
+        for(int[] layer : stamps)
+        {
+            Arrays.fill(layer, -1);
+        }
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Reserves a square that the mower is going to stand on for a turn, this takes the square over from a mower that
+     * only expected to pass through it
+     *
+     * @param mowerId - The id of the mower
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param turn - The turn the square is reserved for, must be within HORIZON turns of the current turn
+     */
+    public void reserve(final int mowerId, final int x, final int y, final int turn)
+    {
+        final int idx = getIndex(x, y);
+
+        if(idx >= 0)
+        {
+            stamps[turn % HORIZON][idx] = turn;
+            owners[turn % HORIZON][idx] = mowerId;
+        }
+    }
+
+    /**
+     * Reserves a square that the mower expects to pass through for a turn, a square that is already held by another
+     * mower for that turn is left alone
+     *
+     * @param mowerId - The id of the mower
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param turn - The turn the square is reserved for, must be within HORIZON turns of the current turn
+     *
+     * @return - True if the mower holds the square for the turn, false otherwise
+     */
+    public boolean reserveIfFree(final int mowerId, final int x, final int y, final int turn)
+    {
+        if(isReservedByOther(mowerId, x, y, turn) || getIndex(x, y) < 0)
+        {
+            return false;
+        }
+
+        reserve(mowerId, x, y, turn);
+
+        return true;
+    }
+
+    /**
+     * Releases the reservation of a square for a turn, if the mower is the one holding it
+     *
+     * @param mowerId - The id of the mower
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param turn - The turn to release
+     */
+    public void release(final int mowerId, final int x, final int y, final int turn)
+    {
+        final int idx = getIndex(x, y);
+
+        if(idx >= 0 && stamps[turn % HORIZON][idx] == turn && owners[turn % HORIZON][idx] == mowerId)
+        {
+            stamps[turn % HORIZON][idx] = -1;
+        }
+    }
+
+    /**
+     * Gets the mower holding a square for a turn
+     *
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param turn - The turn
+     *
+     * @return - The id of the mower, NO_OWNER if the square is not reserved for the turn
+     */
+    public int getOwner(final int x, final int y, final int turn)
+    {
+        final int idx = getIndex(x, y);
+
+        if(idx < 0 || stamps[turn % HORIZON][idx] != turn)
+        {
+            return NO_OWNER;
+        }
+
+        return owners[turn % HORIZON][idx];
+    }
+
+    /**
+     * Checks to see if a square is held by a different mower for a turn
+     *
+     * @param mowerId - The id of the mower asking
+     * @param x - The x coordinate of the square
+     * @param y - The y coordinate of the square
+     * @param turn - The turn
+     *
+     * @return - True if another mower holds the square, false otherwise
+     */
+    public boolean isReservedByOther(final int mowerId, final int x, final int y, final int turn)
+    {
+        final int owner = getOwner(x, y, turn);
+
+        return owner != NO_OWNER && owner != mowerId;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - The index of the square, or -1 when the square is not on the lawn
+     */
+    private int getIndex(final int x, final int y)
+    {
+        if(x < 0 || y < 0 || x >= xLength || y >= yLength)
+        {
+            return -1;
+        }
+
+        return y * xLength + x;
+    }
+}
@@ -0,0 +1,28 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a mower switching to a different risk profile
+ */
+@Name("mower.simulation.RiskProfileChange")
+@Label("Risk Profile Change")
+@Category({"Mower Simulation"})
+@StackTrace(false)
+public class RiskProfileChangeEvent extends jdk.jfr.Event
+{
+    @Label("Mower")
+    public String mowerName;
+
+    @Label("Old Risk Profile")
+    public String oldRiskProfile;
+
+    @Label("New Risk Profile")
+    public String newRiskProfile;
+
+    @Label("Turn")
+    public int turn;
+}
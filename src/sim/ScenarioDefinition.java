@@ -0,0 +1,444 @@
+package sim;
+
+import constant.Direction;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class used to hold everything a simulation starts from: the size of the lawn, the mowers, the craters, and the
+ * turn limit. A scenario can be read from a simulation file or built in memory, so a simulation can be embedded in
+ * a larger program without writing a file first. The class is immutable, so one scenario can be run by any number of
+ * simulations at the same time
+ */
+public final class ScenarioDefinition
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String IN_MEMORY_NAME = "in-memory";
+
+    private final String name;
+    private final int width;
+    private final int height;
+    private final List<MowerDefinition> mowers;
+    private final int[] craterCoordinates;
+    private final int maxTurns;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private ScenarioDefinition(final Builder builder)
+    {
+        this.name = builder.name;
+        this.width = builder.width;
+        this.height = builder.height;
+        this.mowers = Collections.unmodifiableList(new ArrayList<>(builder.mowers));
+        this.craterCoordinates = Arrays.copyOf(builder.craterCoordinates, builder.craterCoordinateCount);
+        this.maxTurns = builder.maxTurns;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Starts building a scenario in memory
+     *
+     * @param width - The width of the lawn
+     * @param height - The height of the lawn
+     *
+     * @return - The builder
+     */
+    public static Builder builder(final int width, final int height)
+    {
+        return new Builder(width, height);
+    }
+
+    /**
+     * Reads a scenario from a simulation file
+     *
+     * @param simFile - The simulation file
+     *
+     * @return - The scenario, named after the file
+     *
+     * @throws IOException - When the file can not be read
+     * @throws RuntimeException - When the file does not describe a valid scenario
+     */
+    public static ScenarioDefinition read(final File simFile) throws IOException
+    {
+        try(Reader reader = new FileReader(simFile))
+        {
+            return read(simFile.getName(), reader);
+        }
+    }
+
+    /**
+     * Reads a scenario written in the format of a simulation file
+     *
+     * @param name - The name the scenario is reported under
+     * @param source - The text of the scenario, it is read to the end but not closed
+     *
+     * @return - The scenario
+     *
+     * @throws IOException - When the text can not be read
+     * @throws RuntimeException - When the text does not describe a valid scenario
+     */
+    public static ScenarioDefinition read(final String name, final Reader source) throws IOException
+    {
+        // 1. CONVERT THE TEXT INTO A COLLECTION OF LINES
+        final List<String> lines = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(source);
+
+        String line = reader.readLine();
+
+        while(line != null)
+        {
+            if(!line.trim().isEmpty())
+            {
+                lines.add(line);
+            }
+
+            line = reader.readLine();
+        }
+
+        // 2. PROCESS THE BASIC LAWN DIMENSIONS
+        final int width = Integer.parseInt(lines.get(0).trim());
+        final int height = Integer.parseInt(lines.get(1).trim());
+        final Builder builder = new Builder(width, height).setName(name);
+
+        // 3. PROCESS THE MOWER INFO
+        final int mowerCount = Integer.parseInt(lines.get(2).trim());
+
+        int idx = 3;
+
+        for(int i = 0; i < mowerCount; i++)
+        {
+            final String [] mowerInfo = lines.get(idx++).trim().split(",");
+
+            // THE STRATEGY COLUMN IS OPTIONAL, MOWERS WITHOUT ONE USE THE STRATEGY OF THE RUN
+            builder.addMower(Integer.parseInt(mowerInfo[0].trim()),
+                    Integer.parseInt(mowerInfo[1].trim()),
+                    parseDirection(mowerInfo[2]),
+                    Integer.parseInt(mowerInfo[3].trim()) == 1,
+                    mowerInfo.length > 4 ? mowerInfo[4].trim() : null);
+        }
+
+        // 4. PROCESS THE OBSTACLE INFO
+        final int obstacleCount = Integer.parseInt(lines.get(idx++).trim());
+
+        for(int i = 0; i < obstacleCount; i++)
+        {
+            final String [] obstacleInfo = lines.get(idx++).trim().split(",");
+
+            builder.addCrater(Integer.parseInt(obstacleInfo[0].trim()), Integer.parseInt(obstacleInfo[1].trim()));
+        }
+
+        // 5. PROCESS THE MAX TURNS INFO
+        return builder.setMaxTurns(Integer.parseInt(lines.get(idx).trim())).build();
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - The name of the simulation file, or the name given to a scenario built in memory
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return - The mowers in the order they take their turns
+     */
+    public List<MowerDefinition> getMowers() {
+        return mowers;
+    }
+
+    public int getCraterCount() {
+        return craterCoordinates.length / 2;
+    }
+
+    public int getCraterXCoordinate(final int index) {
+        return craterCoordinates[index * 2];
+    }
+
+    public int getCraterYCoordinate(final int index) {
+        return craterCoordinates[index * 2 + 1];
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param value - The direction as written in the simulation file
+     *
+     * @return - The direction, the case of the name does not matter
+     *
+     * @throws RuntimeException - When the value is not a direction
+     */
+    private static Direction parseDirection(final String value)
+    {
+        for(Direction direction : Direction.values())
+        {
+            if(direction.name().equalsIgnoreCase(value.trim()))
+            {
+                return direction;
+            }
+        }
+
+        throw new RuntimeException("[ERROR] - Unknown mower direction " + value.trim());
+    }
+
+    @Override
+    public String toString()
+    {
+        return name + ": " + width + "x" + height + " lawn, " + mowers.size() + " mowers, " + getCraterCount()
+                + " craters, " + maxTurns + " turns";
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A mower as it stands when the simulation starts
+     */
+    public static final class MowerDefinition
+    {
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final Direction direction;
+        private final boolean isStrategic;
+        private final String strategyName;
+
+        private MowerDefinition(final int xCoordinate,
+                                final int yCoordinate,
+                                final Direction direction,
+                                final boolean isStrategic,
+                                final String strategyName)
+        {
+            this.xCoordinate = xCoordinate;
+            this.yCoordinate = yCoordinate;
+            this.direction = direction;
+            this.isStrategic = isStrategic;
+            this.strategyName = strategyName;
+        }
+
+        public int getXCoordinate() {
+            return xCoordinate;
+        }
+
+        public int getYCoordinate() {
+            return yCoordinate;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public boolean isStrategic() {
+            return isStrategic;
+        }
+
+        /**
+         * @return - The strategy of the mower, null when the mower uses the strategy of the run
+         */
+        public String getStrategyName() {
+            return strategyName;
+        }
+    }
+
+    /**
+     * Builds a scenario in memory, every square of the lawn starts out as grass
+     */
+    public static final class Builder
+    {
+        private final int width;
+        private final int height;
+        private final List<MowerDefinition> mowers = new ArrayList<>();
+        // THE CRATERS ARE KEPT AS PAIRS OF PLAIN INTS, A LARGE LAWN CAN HAVE MILLIONS OF THEM
+        private int[] craterCoordinates = new int[16];
+        private int craterCoordinateCount;
+        private String name = IN_MEMORY_NAME;
+        private int maxTurns;
+
+        private Builder(final int width, final int height)
+        {
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * @param name - The name the scenario is reported under
+         *
+         * @return - The builder
+         */
+        public Builder setName(final String name)
+        {
+            this.name = name;
+
+            return this;
+        }
+
+        /**
+         * Adds a mower that uses the strategy of the run
+         *
+         * @param xCoordinate - The x coordinate the mower starts on
+         * @param yCoordinate - The y coordinate the mower starts on
+         * @param direction - The direction the mower starts facing
+         * @param isStrategic - True for a strategic mower, false for a random one
+         *
+         * @return - The builder
+         */
+        public Builder addMower(final int xCoordinate,
+                                final int yCoordinate,
+                                final Direction direction,
+                                final boolean isStrategic)
+        {
+            return addMower(xCoordinate, yCoordinate, direction, isStrategic, null);
+        }
+
+        /**
+         * Adds a mower
+         *
+         * @param xCoordinate - The x coordinate the mower starts on
+         * @param yCoordinate - The y coordinate the mower starts on
+         * @param direction - The direction the mower starts facing
+         * @param isStrategic - True for a strategic mower, false for a random one
+         * @param strategyName - The strategy of the mower, null to use the strategy of the run
+         *
+         * @return - The builder
+         */
+        public Builder addMower(final int xCoordinate,
+                                final int yCoordinate,
+                                final Direction direction,
+                                final boolean isStrategic,
+                                final String strategyName)
+        {
+            mowers.add(new MowerDefinition(xCoordinate, yCoordinate, direction, isStrategic, strategyName));
+
+            return this;
+        }
+
+        /**
+         * Adds a crater
+         *
+         * @param xCoordinate - The x coordinate of the crater
+         * @param yCoordinate - The y coordinate of the crater
+         *
+         * @return - The builder
+         */
+        public Builder addCrater(final int xCoordinate, final int yCoordinate)
+        {
+            if(craterCoordinateCount == craterCoordinates.length)
+            {
+                craterCoordinates = Arrays.copyOf(craterCoordinates, craterCoordinateCount * 2);
+            }
+
+            craterCoordinates[craterCoordinateCount++] = xCoordinate;
+            craterCoordinates[craterCoordinateCount++] = yCoordinate;
+
+            return this;
+        }
+
+        /**
+         * @param maxTurns - The turn limit of the simulation
+         *
+         * @return - The builder
+         */
+        public Builder setMaxTurns(final int maxTurns)
+        {
+            this.maxTurns = maxTurns;
+
+            return this;
+        }
+
+        /**
+         * @return - The scenario
+         *
+         * @throws RuntimeException - When the lawn is empty, a mower or crater is off the lawn, two mowers start on the
+         *                            same square, or a mower starts on a crater
+         */
+        public ScenarioDefinition build()
+        {
+            if(width < 1 || height < 1)
+            {
+                throw invalid("The lawn must be at least 1x1 but was " + width + "x" + height);
+            }
+
+            if(maxTurns < 0)
+            {
+                throw invalid("The turn limit can not be negative but was " + maxTurns);
+            }
+
+            // THE START SQUARE OF EVERY MOWER IS CUT AT SETUP, SO IT CAN ONLY HOLD ONE MOWER AND NO CRATER
+            final Set<Long> startSquares = new HashSet<>();
+
+            for(MowerDefinition mower : mowers)
+            {
+                if(mower.getDirection() == null || !isOnLawn(mower.getXCoordinate(), mower.getYCoordinate()))
+                {
+                    throw invalid("A mower must face a direction and start on the lawn but was at ("
+                            + mower.getXCoordinate() + "," + mower.getYCoordinate() + ") facing "
+                            + mower.getDirection());
+                }
+
+                if(!startSquares.add(toSquare(mower.getXCoordinate(), mower.getYCoordinate())))
+                {
+                    throw invalid("Two mowers can not start on the same square but both started at ("
+                            + mower.getXCoordinate() + "," + mower.getYCoordinate() + ")");
+                }
+            }
+
+            for(int i = 0; i < craterCoordinateCount; i += 2)
+            {
+                if(!isOnLawn(craterCoordinates[i], craterCoordinates[i + 1]))
+                {
+                    throw invalid("A crater must be on the lawn but was at (" + craterCoordinates[i] + ","
+                            + craterCoordinates[i + 1] + ")");
+                }
+
+                if(startSquares.contains(toSquare(craterCoordinates[i], craterCoordinates[i + 1])))
+                {
+                    throw invalid("A mower can not start on a crater but one started at (" + craterCoordinates[i]
+                            + "," + craterCoordinates[i + 1] + ")");
+                }
+            }
+
+            return new ScenarioDefinition(this);
+        }
+
+        private boolean isOnLawn(final int xCoordinate, final int yCoordinate)
+        {
+            return xCoordinate >= 0 && xCoordinate < width && yCoordinate >= 0 && yCoordinate < height;
+        }
+
+        private long toSquare(final int xCoordinate, final int yCoordinate)
+        {
+            return xCoordinate + (long) yCoordinate * width;
+        }
+
+        private RuntimeException invalid(final String message)
+        {
+            final String errorMsg = "[ERROR] - Invalid scenario " + name + " | " + message;
+
+            System.out.println(errorMsg);
+
+            return new RuntimeException(errorMsg);
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package sim;
 
+import constant.CollisionCause;
 import constant.Direction;
 import constant.LawnSquareContent;
 import constant.MowerMovementType;
+import constant.SimulationParameter;
 import constant.SimulationRiskProfile;
+import constant.SimulationTerminationReason;
+import lawn.Coordinate;
 import lawn.Lawn;
+import lawn.LawnComponents;
+import lawn.LawnGrassDensity;
+import lawn.LawnKnowledgeMap;
+import lawn.LawnPartition;
 import lawn.LawnSquare;
 import mower.Mower;
+import mower.MowerFleet;
 import mower.MowerMove;
+import mower.MowerStrategyRegistry;
+import mower.NextMowerMoveServiceProvider;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Simulation class to handle the simulation
@@ -27,323 +40,1093 @@ public class Simulation
     // FIELDS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private final File simFile;
+    private final ScenarioDefinition scenario;
+    private final String scenarioName;
     private final boolean displayPretty;
+    private final boolean useSharedKnowledge;
+    private final String strategyName;
+    private final Random random;
+    private final SimulationParameters parameters;
+    private final PrintStream output;
+    private final boolean hasReadout;
+    private final MowerFleet mowerFleet;
 
     private int maxTurns;
     private int turnsTaken;
+    private long setupNanos;
 
     private int lawnArea;
     private int startingGrassToCut;
+    private int reachableGrassToCut;
     private int totalGrassCut;
+    private int setupGrassCut;
 
     private int activeMowers;
 
     private Lawn lawn;
+    private LawnKnowledgeMap knowledgeMap;
+    private LawnPartition lawnPartition;
+    private LawnGrassDensity grassDensity;
+    private LawnComponents lawnComponents;
+    private ReservationTable reservationTable;
+    private GrassReachability grassReachability;
+    private boolean isGrassUnreachable;
     private List<Mower> mowers;
-
-    private SimulationRiskProfile simulationRiskProfile;
+    private SimulationMetrics metrics;
+    private SimulationTelemetry telemetry;
+    private long runId;
+    private long runStartTime;
+    private volatile SimulationProgress progress;
+    private SimulationStepRecorder stepRecorder;
+    private boolean isStarted;
+    private boolean isEnded;
 
     // CONSTRUCTORS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     public Simulation(final File simFile, final boolean displayPretty)
+    {
+        this(simFile, displayPretty, false);
+    }
+
+    public Simulation(final File simFile, final boolean displayPretty, final boolean useSharedKnowledge)
+    {
+        this(simFile, displayPretty, useSharedKnowledge, MowerStrategyRegistry.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * @param simFile - The simulation file
+     * @param displayPretty - True to display the less cryptic readout, false to display the class format
+     * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+     * @param strategyName - The name of the strategy used by every mower that does not name its own strategy in
+     *                       the simulation file
+     */
+    public Simulation(final File simFile,
+                      final boolean displayPretty,
+                      final boolean useSharedKnowledge,
+                      final String strategyName)
+    {
+        this(simFile, displayPretty, useSharedKnowledge, strategyName, new Random(), System.out);
+    }
+
+    /**
+     * @param simFile - The simulation file
+     * @param displayPretty - True to display the less cryptic readout, false to display the class format
+     * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+     * @param strategyName - The name of the strategy used by every mower that does not name its own strategy in
+     *                       the simulation file
+     * @param random - The source of every random choice the mowers make, seed it to make a run repeatable
+     * @param output - The stream the readout is written to, null to run without any readout
+     */
+    public Simulation(final File simFile,
+                      final boolean displayPretty,
+                      final boolean useSharedKnowledge,
+                      final String strategyName,
+                      final Random random,
+                      final PrintStream output)
+    {
+        this(simFile, displayPretty, useSharedKnowledge, strategyName, random, output, SimulationParameters.DEFAULTS);
+    }
+
+    /**
+     * @param simFile - The simulation file
+     * @param displayPretty - True to display the less cryptic readout, false to display the class format
+     * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+     * @param strategyName - The name of the strategy used by every mower that does not name its own strategy in
+     *                       the simulation file
+     * @param random - The source of every random choice the mowers make, seed it to make a run repeatable
+     * @param output - The stream the readout is written to, null to run without any readout
+     * @param parameters - The thresholds the mowers and the simulation decide with
+     */
+    public Simulation(final File simFile,
+                      final boolean displayPretty,
+                      final boolean useSharedKnowledge,
+                      final String strategyName,
+                      final Random random,
+                      final PrintStream output,
+                      final SimulationParameters parameters)
+    {
+        this(simFile, null, simFile.getName(), displayPretty, useSharedKnowledge, strategyName, random, output,
+                parameters);
+    }
+
+    /**
+     * @param scenario - The scenario, built in memory or read from a simulation file
+     * @param displayPretty - True to display the less cryptic readout, false to display the class format
+     * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+     * @param strategyName - The name of the strategy used by every mower that does not name its own strategy in
+     *                       the scenario
+     * @param random - The source of every random choice the mowers make, seed it to make a run repeatable
+     * @param output - The stream the readout is written to, null to run without any readout
+     * @param parameters - The thresholds the mowers and the simulation decide with
+     */
+    public Simulation(final ScenarioDefinition scenario,
+                      final boolean displayPretty,
+                      final boolean useSharedKnowledge,
+                      final String strategyName,
+                      final Random random,
+                      final PrintStream output,
+                      final SimulationParameters parameters)
+    {
+        this(null, scenario, scenario.getName(), displayPretty, useSharedKnowledge, strategyName, random, output,
+                parameters);
+    }
+
+    private Simulation(final File simFile,
+                       final ScenarioDefinition scenario,
+                       final String scenarioName,
+                       final boolean displayPretty,
+                       final boolean useSharedKnowledge,
+                       final String strategyName,
+                       final Random random,
+                       final PrintStream output,
+                       final SimulationParameters parameters)
     {
         this.simFile = simFile;
+        this.scenario = scenario;
+        this.scenarioName = scenarioName;
         this.turnsTaken = 0;
         this.totalGrassCut = 0;
         this.mowers = new ArrayList<>();
+        this.mowerFleet = new MowerFleet(scenario == null ? 0 : scenario.getMowers().size());
         this.displayPretty = displayPretty;
+        this.useSharedKnowledge = useSharedKnowledge;
+        this.strategyName = strategyName;
+        this.random = random;
+        this.output = output == null ? new PrintStream(new DiscardingOutputStream()) : output;
+        this.hasReadout = output != null;
+        this.parameters = parameters;
     }
 
     // PUBLIC METHODS
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
      * Kicks off the simulation
+     *
+     * @throws RuntimeException - When the simulation has already been started or stepped
      */
     public void start()
     {
-        parseFile();
+        if(isStarted)
+        {
+            final String errorMsg = "[ERROR] - The simulation " + scenarioName + " has already been started";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        telemetry = SimulationTelemetry.getInstance();
+
+        if(telemetry == null)
+        {
+            runTurns();
+        }
+        else{
+            runId = telemetry.runStarted(this);
+            runStartTime = System.nanoTime();
+
+            // A RUN THAT FAILS STILL HAS TO LEAVE THE ACTIVE RUNS
+            try
+            {
+                runTurns();
+            }
+            finally
+            {
+                finishTelemetry();
+            }
+        }
+    }
+
+    /**
+     * Advances the simulation by one turn
+     *
+     * @return - What changed in the turn
+     */
+    public SimulationStep tick()
+    {
+        return step(1);
+    }
+
+    /**
+     * Advances the simulation by a number of turns and reports only what changed, so a program following the
+     * simulation does not have to read the whole lawn after every turn. The first step sets the simulation up, a
+     * step of 0 turns does only that, so the starting lawn can be read before any mower has moved
+     *
+     * Note:
+     * A simulation is either stepped or started, not both. Nothing is recorded for a simulation that is only
+     * started, so start pays nothing for the steps
+     *
+     * @param turns - The most turns to take, fewer are taken when the simulation ends first
+     *
+     * @return - What changed in the turns
+     *
+     * @throws RuntimeException - When the number of turns is negative, or the simulation was started or has ended
+     */
+    public SimulationStep step(final int turns)
+    {
+        if(turns < 0)
+        {
+            final String errorMsg = "[ERROR] - A simulation can not step back " + (-turns) + " turns";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        // ONLY A SIMULATION THAT STEP SET UP HAS A RECORDER, A STARTED ONE WAS RUN TO THE END WITHOUT ONE
+        if((isStarted && stepRecorder == null) || isEnded)
+        {
+            final String errorMsg = "[ERROR] - The simulation " + scenarioName + " has already been "
+                    + (stepRecorder == null ? "started" : "ended") + " and can not be stepped";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        final boolean isFirstStep = !isStarted;
+
+        if(isFirstStep)
+        {
+            telemetry = SimulationTelemetry.getInstance();
+
+            if(telemetry != null)
+            {
+                runId = telemetry.runStarted(this);
+                runStartTime = System.nanoTime();
+            }
+
+            stepRecorder = new SimulationStepRecorder();
+        }
+
+        try
+        {
+            if(isFirstStep)
+            {
+                begin();
+            }
+
+            stepRecorder.begin(turnsTaken, totalGrassCut, activeMowers);
+
+            for(int i = 0; i < turns && !isOver(); i++)
+            {
+                takeTurn();
+            }
+        }
+        catch(RuntimeException e)
+        {
+            // A STEP THAT FAILS STILL HAS TO LEAVE THE ACTIVE RUNS, THERE ARE NO RESULTS TO DISPLAY
+            if(!isEnded)
+            {
+                isEnded = true;
+
+                finishTelemetry();
+            }
+
+            throw e;
+        }
+
+        if(isOver())
+        {
+            end();
+        }
+
+        return stepRecorder.finish(turnsTaken, totalGrassCut, activeMowers, isOver());
+    }
+
+    /**
+     * Starts building a simulation of a scenario, the simulation runs without any readout unless it is given a
+     * stream to write it to
+     *
+     * @param scenario - The scenario, built in memory or read from a simulation file
+     *
+     * @return - The builder
+     */
+    public static Builder builder(final ScenarioDefinition scenario)
+    {
+        return new Builder(scenario);
+    }
+
+    /**
+     * Kicks off the simulation and collects its results once the last turn has been taken, a simulation can only be
+     * run once
+     *
+     * @return - The results of the simulation
+     */
+    public SimulationResult run()
+    {
+        final long startTime = System.nanoTime();
+
+        start();
+
+        final long elapsedNanos = System.nanoTime() - startTime;
+
+        return new SimulationResult(scenarioName,
+                strategyName,
+                lawnArea,
+                startingGrassToCut,
+                reachableGrassToCut,
+                totalGrassCut,
+                turnsTaken,
+                maxTurns,
+                activeMowers,
+                getTerminationReason(),
+                mowers,
+                setupNanos,
+                elapsedNanos);
+    }
+
+    /**
+     * Gets the progress of the simulation as of the end of the last turn, this can be called from any thread
+     *
+     * @return - The progress, null when telemetry is not enabled or the simulation file has not been parsed yet
+     */
+    public SimulationProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Starts counting the moves, collisions, and decision latencies of the turn loop, a simulation that never calls
+     * this does not pay anything for the metrics
+     *
+     * @return - The metrics, a snapshot can be taken from them at any time, even while the simulation is running
+     */
+    public SimulationMetrics enableMetrics()
+    {
+        if(metrics == null)
+        {
+            metrics = new SimulationMetrics();
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Gets the content of a particular lawn square based on the x and y coordinates
+     *
+     * @param xCoor - The x coordinate
+     * @param yCoor - The y coordinate
+     *
+     * @return - The lawn square content if it exists, if not then a content type of fence will be returned
+     */
+    public LawnSquareContent getLawnSquareContent(final int xCoor, final int yCoor)
+    {
+        final LawnSquare lawnSquare = lawn.getLawnSquareByCoordinates(xCoor, yCoor);
+
+        return lawnSquare == null ? LawnSquareContent.FENCE : lawnSquare.getLawnSquareContent();
+    }
+
+    /**
+     * Gets the content of every lawn square in a single pass over the lawn, which is far cheaper than asking for the
+     * squares one at a time
+     *
+     * @return - The contents indexed by x + y * width, null before the simulation has been set up
+     */
+    public LawnSquareContent[] getLawnSquareContents()
+    {
+        if(lawn == null)
+        {
+            return null;
+        }
+
+        final LawnSquareContent[] response = new LawnSquareContent[lawnArea];
+
+        for(LawnSquare lawnSquare : lawn.getLawnSquares())
+        {
+            response[lawnSquare.getxCoordinate() + lawnSquare.getyCoordinate() * lawn.getxLength()] =
+                    lawnSquare.getLawnSquareContent();
+        }
+
+        return response;
+    }
+
+    /**
+     * Checks to see if a mower move is valid
+     *
+     * Note:
+     * This method just checks to see if the move is valid for reference, the move is going to be made regardless
+     * and this method will force the simulation state to be updated
+     *
+     * @param move - The mower move that is being attempted
+     *
+     * @return - True if the move is valid, false otherwise
+     */
+    public boolean isValidMove(final MowerMove move)
+    {
+        boolean response = true;
+
+        // STEER, SCAN , AND PASS WILL ALWAYS BE VALID MOVES BECAUSE THEY DON'T ACTUALLY CHANGE THE MOWERS POSITION
+        if(move.getMowerMovementType() == MowerMovementType.MOVE)
+        {
+            LawnSquare square = lawn.getLawnSquareByCoordinates(move.getNewXCoordinate(), move.getNewYCoordinate());
+
+            if(square == null
+                    || square.getLawnSquareContent() == null
+                    || square.getLawnSquareContent() == LawnSquareContent.FENCE
+                    || square.getLawnSquareContent() == LawnSquareContent.CRATER
+                    || square.getLawnSquareContent() == LawnSquareContent.MOWER)
+            {
+                response = false;
+            }
+        }
+
+        updateSimState(move);
+
+        return response;
+    }
+
+    /**
+     * Displays the scan results for the mower
+     */
+    public void displayScanResults(List<LawnSquareContent> surroundingSquares)
+    {
+        // THE READOUT IS BUILT EVERY SCAN, SO IT IS SKIPPED WHEN NOBODY WILL SEE IT
+        if(!hasReadout)
+        {
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        for(int i =0; i < surroundingSquares.size(); i++)
+        {
+            if(i > 0)
+            {
+                sb.append(',');
+            }
+
+            sb.append(surroundingSquares.get(i).name().toLowerCase());
+        }
+
+        output.println(sb.toString());
+    }
+
+    /**
+     * Determines the risk profile for a mower, this profile is used to determine how reckless the mower is allowed
+     * to be. The profile compares the turns that are left against the grass the mower is expected to cut, which is
+     * its share of the remaining grass scaled by how much grass is left around it compared to the lawn as a whole
+     *
+     * Note:
+     * Every input is kept up to date as the simulation runs, so this only takes a handful of reads per call
+     *
+     * @param mower - The mower to determine the profile for
+     *
+     * @return - The risk profile of the mower
+     */
+    public SimulationRiskProfile determineRiskProfile(final Mower mower)
+    {
+        final int nearbyGrass = grassDensity.getNearbyGrass(mower.getXCoordinate(), mower.getYCoordinate());
+
+        // NOTHING LEFT TO CUT AROUND THE MOWER, SO THERE IS NOTHING TO GAIN FROM TAKING RISKS
+        if(nearbyGrass == 0 || activeMowers == 0)
+        {
+            return SimulationRiskProfile.LOW;
+        }
+
+        final long remainingTurns = maxTurns - turnsTaken;
+        final long nearbyArea = grassDensity.getNearbyArea(mower.getXCoordinate(), mower.getYCoordinate());
+
+        final long riskFactor = remainingTurns * nearbyArea * activeMowers / ((long) nearbyGrass * lawnArea);
+
+        SimulationRiskProfile response;
+
+        if(riskFactor >= parameters.get(SimulationParameter.LOW_RISK_FACTOR))
+        {
+            response = SimulationRiskProfile.LOW;
+        }
+        else if(riskFactor >= parameters.get(SimulationParameter.MEDIUM_RISK_FACTOR))
+        {
+            response = SimulationRiskProfile.MEDIUM;
+        }
+        else{
+            response = SimulationRiskProfile.HIGH;
+        }
+
+        return response;
+    }
+
+    /**
+     * Displays the change of the risk profile of a mower
+     *
+     * @param mower - The mower whose profile changed
+     * @param riskProfile - The new profile
+     */
+    public void displayRiskProfileChange(final Mower mower, final SimulationRiskProfile riskProfile)
+    {
+        if(displayPretty)
+        {
+            output.println("\nSetting the Risk Profile of " + mower.getName() + " to " + riskProfile + "\n");
+        }
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the partition of the lawn into per mower regions
+     *
+     * @return - The partition, null when the simulation has less than 2 strategic mowers that use a strategy
+     *           which plans over the knowledge map
+     */
+    public LawnPartition getLawnPartition() {
+        return lawnPartition;
+    }
+
+    /**
+     * Gets the table the strategic mowers use to reserve the squares they are about to stand on
+     *
+     * @return - The reservation table, null when the simulation has no strategic mowers
+     */
+    public ReservationTable getReservationTable() {
+        return reservationTable;
+    }
+
+    public int getTurnsTaken() {
+        return turnsTaken;
+    }
+
+    /**
+     * Gets the time start spent parsing the simulation file and setting up the lawn and mowers before the first turn
+     *
+     * @return - The setup time in nanoseconds, 0 before the simulation has been started
+     */
+    public long getSetupNanos() {
+        return setupNanos;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public int getStartingGrassToCut() {
+        return startingGrassToCut;
+    }
+
+    public int getTotalGrassCut() {
+        return totalGrassCut;
+    }
+
+    /**
+     * @return - The grass cut under the mowers where they start, which is cut during setup before the first turn and
+     *           is the same for every strategy
+     */
+    public int getSetupGrassCut() {
+        return setupGrassCut;
+    }
+
+    /**
+     * @return - The grass a mower can get to from where it starts without running into a crater, the most that can
+     *           be cut without giving up a mower to clear the way
+     */
+    public int getReachableGrassToCut() {
+        return reachableGrassToCut;
+    }
+
+    /**
+     * @return - The turn to turn state of every mower, indexed by the slot of the mower which for the mowers of the
+     *           simulation is the order they take their turns in
+     */
+    public MowerFleet getMowerFleet() {
+        return mowerFleet;
+    }
+
+    /**
+     * @return - The areas of the lawn as it started out, null before the simulation has been set up
+     */
+    public LawnComponents getLawnComponents() {
+        return lawnComponents;
+    }
+
+    public int getActiveMowers() {
+        return activeMowers;
+    }
+
+    /**
+     * Gets why the simulation stopped taking turns, when more than one reason holds the first of lawn cut, no active
+     * mowers, and turn limit is given
+     *
+     * @return - The reason, null while the simulation has not ended
+     */
+    public SimulationTerminationReason getTerminationReason()
+    {
+        if(!isStarted || !isOver())
+        {
+            return null;
+        }
+        else if(totalGrassCut >= startingGrassToCut)
+        {
+            return SimulationTerminationReason.LAWN_CUT;
+        }
+        else if(activeMowers <= 0)
+        {
+            return SimulationTerminationReason.NO_ACTIVE_MOWERS;
+        }
+        else if(turnsTaken >= maxTurns)
+        {
+            return SimulationTerminationReason.TURN_LIMIT;
+        }
+
+        return SimulationTerminationReason.GRASS_UNREACHABLE;
+    }
+
+    public int getMowerCount() {
+        return mowers.size();
+    }
+
+    /**
+     * @return - Every mower in the order they take their turns, the list can not be changed
+     */
+    public List<Mower> getMowers() {
+        return Collections.unmodifiableList(mowers);
+    }
+
+    public int getLawnWidth() {
+        return lawn == null ? 0 : lawn.getxLength();
+    }
+
+    public int getLawnHeight() {
+        return lawn == null ? 0 : lawn.getyLength();
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    public SimulationParameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the turn loop metrics of the simulation
+     *
+     * @return - The metrics, null when they have not been enabled
+     */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the fleet wide knowledge map that every scan result is written into
+     *
+     * @return - The knowledge map, null when the simulation is not using shared knowledge and the mower strategy
+     *           does not require one
+     */
+    public LawnKnowledgeMap getKnowledgeMap() {
+        return knowledgeMap;
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Sets up the simulation and takes turns until the simulation ends
+     */
+    private void runTurns()
+    {
+        begin();
+
+        while(!isOver())
+        {
+            takeTurn();
+        }
+
+        displayFinalResults();
+    }
+
+    /**
+     * Sets up the simulation and displays the starting information
+     */
+    private void begin()
+    {
+        isStarted = true;
+
+        final long setupStartTime = System.nanoTime();
+
+        setUp();
+
+        setupNanos = System.nanoTime() - setupStartTime;
+        setupGrassCut = totalGrassCut;
+
+        if(telemetry != null)
+        {
+            publishProgress(false);
+        }
 
         displayStartingSimInfo();
         displayHorizontalRule(false);
+    }
 
-        while(turnsTaken < maxTurns
-                && totalGrassCut < startingGrassToCut
-                && activeMowers > 0)
+    /**
+     * @return - True once the turns have run out, the grass has all been cut, every mower has been disabled, or the
+     *           grass that is left is out of reach of every mower that is left
+     */
+    private boolean isOver()
+    {
+        return turnsTaken >= maxTurns || totalGrassCut >= startingGrassToCut || activeMowers <= 0 || isGrassUnreachable;
+    }
+
+    /**
+     * Gives every active mower its move for the turn
+     */
+    private void takeTurn()
+    {
+        if(displayPretty)
         {
-            if(displayPretty)
+            output.println("Turn " + (turnsTaken + 1) + ":" + "\n");
+
+        }
+
+        final SimulationTurnEvent turnEvent = new SimulationTurnEvent();
+        final int grassCutBeforeTurn = totalGrassCut;
+
+        turnEvent.begin();
+
+        // ONLY THE ACTIVE MOWERS ARE VISITED, A MOWER DISABLED DURING THE TURN IS UNLINKED BEFORE THE LOOP REACHES IT
+        for(int slot = mowerFleet.getFirstActiveSlot();
+            slot != MowerFleet.NO_SLOT && totalGrassCut < startingGrassToCut;
+            slot = mowerFleet.getNextActiveSlot(slot))
+        {
+            final Mower mower = mowers.get(slot);
+            final MowerDecisionEvent decisionEvent = new MowerDecisionEvent();
+
+            decisionEvent.begin();
+
+            MowerMove move;
+
+            if(metrics == null)
             {
-                System.out.println("Turn " + (turnsTaken + 1) + ":" + "\n");
+                move = mower.determineMove();
+            }
+            else{
+                move = determineMeasuredMove(mower);
+            }
+
+            decisionEvent.end();
 
+            if(decisionEvent.shouldCommit())
+            {
+                commitDecisionEvent(decisionEvent, mower, move);
             }
 
-            for(Mower mower : mowers)
+            displayMowerMove(move);
+
+            final int mowersBeforeMove = activeMowers;
+
+            if(stepRecorder != null)
             {
-                if(!mower.isDisabled())
-                {
-                    MowerMove move = mower.determineMove();
+                stepRecorder.recordMower(mower);
+            }
 
-                    displayMowerMove(move);
+            mower.makeMove(move);
 
-                    mower.makeMove(move);
-                }
+            if(activeMowers < mowersBeforeMove)
+            {
+                rebalanceLawnPartition();
+            }
+        }
 
-                if(totalGrassCut == startingGrassToCut || activeMowers == 0)
-                {
-                    break;
-                }
+        turnEvent.end();
+
+        if(turnEvent.shouldCommit())
+        {
+            turnEvent.turn = turnsTaken + 1;
+            turnEvent.activeMowers = activeMowers;
+            turnEvent.totalGrassCut = totalGrassCut;
+            turnEvent.commit();
+        }
+
+        turnsTaken++;
+
+        // ONLY TURNS WITHOUT ANY GRASS CUT CAN BE A SIGN THAT THE GRASS THAT IS LEFT IS OUT OF REACH
+        if(grassReachability.isCheckDue(totalGrassCut - grassCutBeforeTurn)
+                && totalGrassCut < startingGrassToCut && activeMowers > 0)
+        {
+            isGrassUnreachable = !grassReachability.isGrassReachable(mowerFleet, activeMowers);
+        }
 
-                determineSimulationRiskProfile();
-            }
+        if(metrics != null)
+        {
+            metrics.recordTurn();
+        }
 
-            turnsTaken++;
+        if(telemetry != null)
+        {
+            publishProgress(false);
 
-            displayHorizontalRule(true);
+            telemetry.turnTaken();
         }
 
-        displayFinalResults();
+        displayHorizontalRule(true);
     }
 
     /**
-     * Gets the content of a particular lawn square based on the x and y coordinates
-     *
-     * @param xCoor - The x coordinate
-     * @param yCoor - The y coordinate
-     *
-     * @return - The lawn square content if it exists, if not then a content type of fence will be returned
+     * Displays the final results of a stepped simulation and takes it out of the telemetry, only the first call does
+     * anything
      */
-    public LawnSquareContent getLawnSquareContent(final int xCoor, final int yCoor)
+    private void end()
     {
-        final LawnSquare lawnSquare = lawn.getLawnSquareByCoordinates(xCoor, yCoor);
+        if(!isEnded)
+        {
+            isEnded = true;
 
-        return lawnSquare == null ? LawnSquareContent.FENCE : lawnSquare.getLawnSquareContent();
+            displayFinalResults();
+
+            finishTelemetry();
+        }
     }
 
     /**
-     * Checks to see if a mower move is valid
-     *
-     * Note:
-     * This method just checks to see if the move is valid for reference, the move is going to be made regardless
-     * and this method will force the simulation state to be updated
-     *
-     * @param move - The mower move that is being attempted
-     *
-     * @return - True if the move is valid, false otherwise
+     * Publishes the final progress and takes the simulation out of the active runs when telemetry is enabled
      */
-    public boolean isValidMove(final MowerMove move)
+    private void finishTelemetry()
     {
-        boolean response = true;
-
-        // STEER, SCAN , AND PASS WILL ALWAYS BE VALID MOVES BECAUSE THEY DON'T ACTUALLY CHANGE THE MOWERS POSITION
-        if(move.getMowerMovementType() == MowerMovementType.MOVE)
+        if(telemetry != null)
         {
-            LawnSquare square = lawn.getLawnSquareByCoordinates(move.getNewXCoordinate(), move.getNewYCoordinate());
+            publishProgress(true);
 
-            if(square == null
-                    || square.getLawnSquareContent() == null
-                    || square.getLawnSquareContent() == LawnSquareContent.FENCE
-                    || square.getLawnSquareContent() == LawnSquareContent.CRATER
-                    || square.getLawnSquareContent() == LawnSquareContent.MOWER)
-            {
-                response = false;
-            }
+            telemetry.runFinished(runId, totalGrassCut);
         }
-
-        updateSimState(move);
-
-        return response;
     }
 
     /**
-     * Displays the scan results for the mower
+     * Publishes the progress of the simulation for the telemetry readers on other threads
+     *
+     * @param isFinished - True when the simulation has ended
      */
-    public void displayScanResults(List<LawnSquareContent> surroundingSquares)
+    private void publishProgress(final boolean isFinished)
     {
-        StringBuilder sb = new StringBuilder();
+        final int[] riskProfileCounts = new int[SimulationRiskProfile.values().length];
 
-        for(int i =0; i < surroundingSquares.size(); i++)
+        for(Mower mower : mowers)
         {
-            if(i < surroundingSquares.size() -1)
+            if(!mower.isDisabled() && mower.isStrategic() && mower.getLastRiskProfile() != null)
             {
-                sb.append(surroundingSquares.get(i).name().toLowerCase().trim() + ",");
-            }
-            else{
-                sb.append(surroundingSquares.get(i).name().toLowerCase().trim());
+                riskProfileCounts[mower.getLastRiskProfile().ordinal()]++;
             }
         }
 
-        System.out.println(sb.toString());
-    }
-
-    // ACCESS METHODS
-    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    public SimulationRiskProfile getSimulationRiskProfile() {
-        return simulationRiskProfile;
+        progress = new SimulationProgress(runId,
+                scenarioName,
+                strategyName,
+                turnsTaken,
+                maxTurns,
+                totalGrassCut,
+                startingGrassToCut,
+                activeMowers,
+                mowers.size(),
+                riskProfileCounts,
+                System.nanoTime() - runStartTime,
+                isFinished);
     }
 
-    // PRIVATE METHODS
-    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /**
-     * Parses the simulation file and creates the initial setup for the simulation
+     * Reads the scenario from the simulation file
+     *
+     * @return - The scenario
      */
-    private void parseFile()
+    private ScenarioDefinition parseFile()
     {
-        BufferedReader reader;
-
         try
         {
-            // 1. CONVERT THE FILE INTO A COLLECTION OF LINES
-            final List<String> lines = new ArrayList<>();
+            return ScenarioDefinition.read(simFile);
+        }
+        catch(FileNotFoundException e)
+        {
+            String errorMsg = "[ERROR] - Cannot parse the sim file because it could not be located";
 
-            reader = new BufferedReader(new FileReader(simFile));
+            System.out.println(errorMsg);
 
-            String line = reader.readLine();
+            throw new RuntimeException(errorMsg);
+        }
+        catch(Exception e)
+        {
+            String errorMsg = "[ERROR] - An unknown error occurred while trying to parse sim file | " + e.getMessage();
 
-            while(line != null)
-            {
-                if(!line.trim().isEmpty())
-                {
-                    lines.add(line);
-                }
+            System.out.println(errorMsg);
 
-                line = reader.readLine();
-            }
+            throw new RuntimeException(e);
+        }
+    }
 
-            reader.close();
+    /**
+     * Creates the initial setup for the simulation from its scenario, the scenario is read from the simulation file
+     * when the simulation was not given one
+     */
+    private void setUp()
+    {
+        final ScenarioDefinition definition = scenario == null ? parseFile() : scenario;
 
-            // 2. PROCESS THE BASIC LAWN DIMENSIONS
-            final int x = Integer.parseInt(lines.get(0).trim());
-            final int y = Integer.parseInt(lines.get(1).trim());
+        // 1. PROCESS THE BASIC LAWN DIMENSIONS
+        final int x = definition.getWidth();
+        final int y = definition.getHeight();
 
-            lawn = new Lawn(x, y);
+        lawn = new Lawn(x, y);
 
-            lawnArea = x * y;
+        lawnArea = x * y;
 
-            for(int i = 0; i < x; i++)
+        for(int i = 0; i < x; i++)
+        {
+            for(int j = 0; j < y; j++)
             {
-                for(int j = 0; j < y; j++)
-                {
-                    lawn.addLawnSquare(new LawnSquare(i, j, LawnSquareContent.GRASS)); // DEFAULT TO GRASS
-                }
+                lawn.addLawnSquare(new LawnSquare(i, j, LawnSquareContent.GRASS)); // DEFAULT TO GRASS
             }
+        }
 
-            // 3. PROCESS THE MOWER INFO
-            activeMowers = Integer.parseInt(lines.get(2).trim()); // ASSUMES ALL MOWERS LISTED START ACTIVE
-
-            int idx = 3;
-
-            for(int i = 0; i < activeMowers; i++)
-            {
-                String [] mowerInfo = lines.get(idx++).trim().split(",");
+        // 2. PROCESS THE MOWER INFO
+        activeMowers = definition.getMowers().size(); // ASSUMES ALL MOWERS LISTED START ACTIVE
 
-                for(Direction direction : Direction.values())
-                {
-                    if(direction.name().equalsIgnoreCase(mowerInfo[2]))
-                    {
-                        String mowerName = displayPretty ? "MOWER " + (i+1): "m" + (i);
-                        int mowerX = Integer.parseInt(mowerInfo[0].trim());
-                        int mowerY = Integer.parseInt(mowerInfo[1].trim());
-                        boolean isStrategic = Integer.parseInt(mowerInfo[3].trim()) == 1;
+        for(int i = 0; i < activeMowers; i++)
+        {
+            final ScenarioDefinition.MowerDefinition mowerInfo = definition.getMowers().get(i);
+            final String mowerName = displayPretty ? "MOWER " + (i+1): "m" + (i);
 
-                        mowers.add(new Mower(mowerName, direction, mowerX, mowerY, this, isStrategic));
-                    }
-                }
-            }
+            // MOWERS WITHOUT A STRATEGY OF THEIR OWN USE THE STRATEGY OF THE RUN
+            final NextMowerMoveServiceProvider strategy = MowerStrategyRegistry.getProvider(
+                    mowerInfo.getStrategyName() != null ? mowerInfo.getStrategyName() : strategyName);
 
-            // 4. PROCESS THE OBSTACLE INFO
-            final int obstacleCount = Integer.parseInt(lines.get(idx++).trim());
+            mowers.add(new Mower(i, mowerName, mowerInfo.getDirection(), mowerInfo.getXCoordinate(),
+                    mowerInfo.getYCoordinate(), this, mowerInfo.isStrategic(), strategy));
+        }
 
-            for(int i = 0; i < obstacleCount; i++)
-            {
-                String [] obstacleInfo = lines.get(idx++).trim().split(",");
+        if(useSharedKnowledge || isKnowledgeMapRequired())
+        {
+            knowledgeMap = new LawnKnowledgeMap(x, y);
+        }
 
-                int obstacleX = Integer.parseInt(obstacleInfo[0].trim());
-                int obstacleY = Integer.parseInt(obstacleInfo[1].trim());
+        initReservationTable();
 
-                lawn.getLawnSquareByCoordinates(obstacleX, obstacleY)
-                        .setLawnSquareContent(LawnSquareContent.CRATER); // ASSUMES ONLY CRATERS CAN BE OBSTACLES
-            }
+        // 3. PROCESS THE OBSTACLE INFO
+        for(int i = 0; i < definition.getCraterCount(); i++)
+        {
+            lawn.getLawnSquareByCoordinates(definition.getCraterXCoordinate(i), definition.getCraterYCoordinate(i))
+                    .setLawnSquareContent(LawnSquareContent.CRATER); // ASSUMES ONLY CRATERS CAN BE OBSTACLES
+        }
 
-            // 5. PROCESS THE MAX TURNS INFO
-            maxTurns = Integer.parseInt(lines.get(idx).trim());
+        // 4. PROCESS THE MAX TURNS INFO
+        maxTurns = definition.getMaxTurns();
 
-            // 6. DETERMINE THE STARTING GRASS TO CUT TOTAL BEFORE MOWING INITIAL GRASS
-            for(LawnSquare lawnSquare : lawn.getLawnSquares())
+        // 5. DETERMINE THE STARTING GRASS TO CUT TOTAL BEFORE MOWING INITIAL GRASS
+        for(LawnSquare lawnSquare : lawn.getLawnSquares())
+        {
+            if(lawnSquare.getLawnSquareContent() == LawnSquareContent.GRASS)
             {
-                if(lawnSquare.getLawnSquareContent() == LawnSquareContent.GRASS)
-                {
-                    startingGrassToCut++;
-                }
+                startingGrassToCut++;
             }
+        }
 
-            // 7. MOW THE GRASS WHERE THE MOWERS INITIALLY BEGIN
-            for(Mower mower : mowers)
-            {
-                LawnSquare square = lawn.getLawnSquareByCoordinates(mower.getXCoordinate(), mower.getYCoordinate());
-
-                square.setLawnSquareContent(LawnSquareContent.EMPTY);
+        grassDensity = new LawnGrassDensity(lawn);
+        grassReachability = new GrassReachability(lawn);
 
-                totalGrassCut++;
-            }
+        // 6. LABEL THE AREAS THE MOWERS CAN MOVE AROUND IN WITHOUT RUNNING INTO A CRATER
+        lawnComponents = new LawnComponents(lawn);
 
-            // 8. SET THE INITIAL SIMULATION RISK PROFILE
-            determineSimulationRiskProfile();
+        for(Mower mower : mowers)
+        {
+            lawnComponents.addMower(mower.getXCoordinate(), mower.getYCoordinate());
         }
-        catch(FileNotFoundException e)
+
+        reachableGrassToCut = lawnComponents.getReachableGrass();
+
+        // 7. MOW THE GRASS WHERE THE MOWERS INITIALLY BEGIN
+        for(Mower mower : mowers)
         {
-            String errorMsg = "[ERROR] - Cannot parse the sim file because it could not be located";
+            LawnSquare square = lawn.getLawnSquareByCoordinates(mower.getXCoordinate(), mower.getYCoordinate());
 
-            System.out.println(errorMsg);
+            updateLawnSquareContent(square, LawnSquareContent.EMPTY);
 
-            throw new RuntimeException(errorMsg);
+            totalGrassCut++;
         }
-        catch(Exception e)
-        {
-            String errorMsg = "[ERROR] - An unknown error occurred while trying to parse sim file | " + e.getMessage();
 
-            System.out.println(errorMsg);
+        // 8. SPLIT THE LAWN BETWEEN THE STRATEGIC MOWERS WHEN THE STRATEGY PLANS OVER THE KNOWLEDGE MAP
+        initLawnPartition();
+    }
 
-            throw new RuntimeException(e);
+    /**
+     * Creates the reservation table when there are strategic mowers to share it, every strategic mower starts out
+     * holding the square it begins on
+     */
+    private void initReservationTable()
+    {
+        for(Mower mower : mowers)
+        {
+            if(mower.isStrategic())
+            {
+                if(reservationTable == null)
+                {
+                    reservationTable = new ReservationTable(lawn.getxLength(), lawn.getyLength());
+                }
+
+                reservationTable.reserve(mower.getId(), mower.getXCoordinate(), mower.getYCoordinate(), 0);
+            }
         }
     }
 
     /**
-     * Determines the risk profile for the simulation, this profile is used to determine how
-     * reckless the simulation will allow the mowers to be
+     * Checks to see if any of the mowers use a strategy that plans over the knowledge map
      *
-     * @return - The simulation risk profile
+     * @return - True if the simulation needs a knowledge map, false otherwise
+     */
+    private boolean isKnowledgeMapRequired()
+    {
+        for(Mower mower : mowers)
+        {
+            if(mower.getStrategy().isKnowledgeMapRequired())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates the partition of the lawn into per mower regions. The partition is only used when there are at least
+     * 2 strategic mowers that plan over the knowledge map, because those are the mowers that would otherwise all
+     * chase the same grass
      */
-    private void determineSimulationRiskProfile()
+    private void initLawnPartition()
     {
-        final int remainingMoves = (maxTurns - turnsTaken) * activeMowers;
+        int planningMowers = 0;
 
-        final int remainingGrass = startingGrassToCut - totalGrassCut;
+        for(Mower mower : mowers)
+        {
+            if(mower.isStrategic() && mower.getStrategy().isKnowledgeMapRequired())
+            {
+                planningMowers++;
+            }
+        }
 
-        final int riskFactor = remainingMoves / remainingGrass;
+        if(planningMowers > 1)
+        {
+            lawnPartition = new LawnPartition(lawn.getxLength(), lawn.getyLength());
 
-        if (riskFactor >= 5) {
-            updateSimulationRiskProfile(SimulationRiskProfile.LOW);
-        } else if (riskFactor >= 3) {
-            updateSimulationRiskProfile(SimulationRiskProfile.MEDIUM);
-        } else {
-            updateSimulationRiskProfile(SimulationRiskProfile.HIGH);
+            rebalanceLawnPartition();
         }
     }
 
     /**
-     * Updates the simulation risk profile if it is different than the current profile
-     *
-     * @param newProfile - The profile to update to
+     * Rebuilds the partition from the strategic mowers that are still active, this hands the region of a disabled
+     * mower over to the mowers that are left
      */
-    private void updateSimulationRiskProfile(final SimulationRiskProfile newProfile)
+    private void rebalanceLawnPartition()
     {
-        if(simulationRiskProfile != newProfile)
+        if(lawnPartition != null)
         {
-            simulationRiskProfile = newProfile;
+            final List<Integer> ownerIds = new ArrayList<>();
+            final List<Coordinate> positions = new ArrayList<>();
 
-            if(displayPretty)
+            for(int slot = mowerFleet.getFirstActiveSlot();
+                slot != MowerFleet.NO_SLOT;
+                slot = mowerFleet.getNextActiveSlot(slot))
             {
-                System.out.println("\nSetting the Sim Risk Profile to " + newProfile + "\n");
+                final Mower mower = mowers.get(slot);
+
+                if(mower.isStrategic() && mower.getStrategy().isKnowledgeMapRequired())
+                {
+                    ownerIds.add(mower.getId());
+                    positions.add(new Coordinate(mower.getXCoordinate(), mower.getYCoordinate()));
+                }
             }
+
+            lawnPartition.rebuild(knowledgeMap, ownerIds, positions);
         }
     }
 
@@ -365,48 +1148,57 @@ public class Simulation
             LawnSquare oldSquare =
                     lawn.getLawnSquareByCoordinates(move.getCurrentXCoordinate(), move.getCurrentYCoordinate());
 
-            oldSquare.setLawnSquareContent(LawnSquareContent.EMPTY);
+            updateLawnSquareContent(oldSquare, LawnSquareContent.EMPTY);
 
             if(newSquare == null || newSquare.getLawnSquareContent() == null)
             {
                 // THE MOWER WILL HANDLE DE-ACTIVATING THE ACTUAL MOWER
                 if(displayPretty)
                 {
-                    System.out.println(move.getMowerName() + " was involved in a collision with a fence at ("
+                    output.println(move.getMowerName() + " was involved in a collision with a fence at ("
                             + move.getNewXCoordinate() + "," + move.getNewYCoordinate() + ")");
                 }
                 else{
-                    System.out.println("crash");
+                    output.println("crash");
                 }
 
+                recordCollision(move, CollisionCause.FENCE);
+
                 activeMowers--;
             }
             else if(newSquare.getLawnSquareContent() == LawnSquareContent.EMPTY)
             {
-                newSquare.setLawnSquareContent(LawnSquareContent.MOWER);
+                updateLawnSquareContent(newSquare, LawnSquareContent.MOWER);
 
-                System.out.println("ok");
+                output.println("ok");
             }
             else if(newSquare.getLawnSquareContent() == LawnSquareContent.GRASS)
             {
-                newSquare.setLawnSquareContent(LawnSquareContent.MOWER);
+                updateLawnSquareContent(newSquare, LawnSquareContent.MOWER);
 
                 totalGrassCut++;
 
-                System.out.println("ok");
+                if(metrics != null)
+                {
+                    metrics.recordGrassCut();
+                }
+
+                output.println("ok");
             }
             else if(newSquare.getLawnSquareContent() == LawnSquareContent.FENCE)
             {
                 // THE MOWER WILL HANDLE DE-ACTIVATING THE ACTUAL MOWER
                 if(displayPretty)
                 {
-                    System.out.println(move.getMowerName() + " was involved in a collision with a fence at ("
+                    output.println(move.getMowerName() + " was involved in a collision with a fence at ("
                             + move.getNewXCoordinate() + "," + move.getNewYCoordinate() + ")");
                 }
                 else{
-                    System.out.println("crash");
+                    output.println("crash");
                 }
 
+                recordCollision(move, CollisionCause.FENCE);
+
                 activeMowers--;
             }
             else if(newSquare.getLawnSquareContent() == LawnSquareContent.CRATER)
@@ -414,31 +1206,43 @@ public class Simulation
                 // THE MOWER WILL HANDLE DE-ACTIVATING THE ACTUAL MOWER
                 if(displayPretty)
                 {
-                    System.out.println(move.getMowerName() + " was involved in a collision with a crater at ("
+                    output.println(move.getMowerName() + " was involved in a collision with a crater at ("
                             + move.getNewXCoordinate() + "," + move.getNewYCoordinate() + ")");
                 }
                 else{
-                    System.out.println("crash");
+                    output.println("crash");
                 }
 
-                newSquare.setLawnSquareContent(LawnSquareContent.EMPTY);
+                updateLawnSquareContent(newSquare, LawnSquareContent.EMPTY);
+
+                recordCollision(move, CollisionCause.CRATER);
 
                 activeMowers--;
             }
             else if(newSquare.getLawnSquareContent() == LawnSquareContent.MOWER)
             {
-                for(Mower mower : mowers)
+                // BOTH MOWERS ARE STILL ACTIVE, SO ONLY THE ACTIVE MOWERS HAVE TO BE CHECKED
+                for(int slot = mowerFleet.getFirstActiveSlot();
+                    slot != MowerFleet.NO_SLOT;
+                    slot = mowerFleet.getNextActiveSlot(slot))
                 {
-                    if((mower.getXCoordinate() == move.getNewXCoordinate()
-                            && mower.getYCoordinate() == move.getNewYCoordinate())
+                    final Mower mower = mowers.get(slot);
+
+                    if((mowerFleet.getXCoordinate(slot) == move.getNewXCoordinate()
+                            && mowerFleet.getYCoordinate(slot) == move.getNewYCoordinate())
                             || mower.getName().equals(move.getMowerName()))
                     {
                         if(displayPretty)
                         {
-                            System.out.println(mower.getName() + " was involved in a collision with another mower at ("
+                            output.println(mower.getName() + " was involved in a collision with another mower at ("
                                     + move.getNewXCoordinate() + "," + move.getNewYCoordinate() + ")");
                         }
 
+                        if(stepRecorder != null)
+                        {
+                            stepRecorder.recordMower(mower);
+                        }
+
                         mower.disableMower();
 
                         activeMowers--;
@@ -447,17 +1251,115 @@ public class Simulation
 
                 if(!displayPretty)
                 {
-                    System.out.println("crash");
+                    output.println("crash");
 
                 }
 
-                newSquare.setLawnSquareContent(LawnSquareContent.EMPTY);
+                recordCollision(move, CollisionCause.MOWER);
+
+                updateLawnSquareContent(newSquare, LawnSquareContent.EMPTY);
             }
         }
         if(move.getMowerMovementType() == MowerMovementType.STEER
                 || move.getMowerMovementType() == MowerMovementType.PASS)
         {
-            System.out.println("ok");
+            output.println("ok");
+        }
+    }
+
+    /**
+     * Determines the next move of a mower and records how long the decision took, only called when the metrics are
+     * enabled so a simulation without them never reads the clock
+     *
+     * @param mower - The mower to determine the move for
+     *
+     * @return - The next mower move
+     */
+    private MowerMove determineMeasuredMove(final Mower mower)
+    {
+        final long startTime = System.nanoTime();
+
+        final MowerMove move = mower.determineMove();
+
+        final long nanos = System.nanoTime() - startTime;
+
+        // RANDOM MOWERS NEVER ASK THEIR STRATEGY FOR A MOVE, SO THEY ARE KEPT APART FROM THE STRATEGIC ONES
+        metrics.recordDecision(mower.isStrategic() ? mower.getStrategy().getStrategyName() : "random",
+                mower.isStrategic() ? mower.getLastRiskProfile() : null,
+                nanos);
+
+        metrics.recordMove(move.getMowerMovementType());
+
+        return move;
+    }
+
+    /**
+     * Commits the flight recorder event of a mower decision
+     *
+     * @param event - The event, which has already been ended
+     * @param mower - The mower that decided
+     * @param move - The move the mower decided on
+     */
+    private void commitDecisionEvent(final MowerDecisionEvent event, final Mower mower, final MowerMove move)
+    {
+        final SimulationRiskProfile riskProfile = mower.isStrategic() ? mower.getLastRiskProfile() : null;
+
+        event.mowerName = mower.getName();
+        event.strategyName = mower.isStrategic() ? mower.getStrategy().getStrategyName() : "random";
+        event.riskProfile = riskProfile == null ? "" : riskProfile.name();
+        event.moveType = move.getMowerMovementType().name();
+        event.turn = turnsTaken + 1;
+        event.commit();
+    }
+
+    /**
+     * Records a collision in the metrics when they are enabled and in the flight recorder when it is recording
+     *
+     * @param move - The move that ended in the collision
+     * @param cause - What the mower ran into
+     */
+    private void recordCollision(final MowerMove move, final CollisionCause cause)
+    {
+        if(metrics != null)
+        {
+            metrics.recordCollision(cause);
+        }
+
+        final MowerCollisionEvent event = new MowerCollisionEvent();
+
+        if(event.shouldCommit())
+        {
+            event.mowerName = move.getMowerName();
+            event.cause = cause.name();
+            event.xCoordinate = move.getNewXCoordinate();
+            event.yCoordinate = move.getNewYCoordinate();
+            event.turn = turnsTaken + 1;
+            event.commit();
+        }
+    }
+
+    /**
+     * Updates the content of a lawn square, when the simulation is using shared knowledge the change is also written
+     * into the knowledge map because every change to the lawn is the result of a mower reporting its own move
+     *
+     * @param square - The lawn square to update
+     * @param content - The new content of the square
+     */
+    private void updateLawnSquareContent(final LawnSquare square, final LawnSquareContent content)
+    {
+        if(stepRecorder != null)
+        {
+            stepRecorder.recordSquare(square);
+        }
+
+        grassDensity.recordContentChange(square.getxCoordinate(), square.getyCoordinate(),
+                square.getLawnSquareContent(), content);
+
+        square.setLawnSquareContent(content);
+
+        if(knowledgeMap != null)
+        {
+            knowledgeMap.recordObservation(square.getxCoordinate(), square.getyCoordinate(), content, turnsTaken);
         }
     }
 
@@ -468,12 +1370,13 @@ public class Simulation
     {
         if(displayPretty)
         {
-            System.out.println("Starting the simulation\n");
-            System.out.println("Lawn area: " + lawnArea);
-            System.out.println("Total grass to cut: " + startingGrassToCut);
-            System.out.println("Identified obstacles: " + (lawnArea - startingGrassToCut));
-            System.out.println("Number of mowers: " + activeMowers);
-            System.out.println("Maximum turn limit: " + maxTurns);
+            output.println("Starting the simulation\n");
+            output.println("Lawn area: " + lawnArea);
+            output.println("Total grass to cut: " + startingGrassToCut);
+            output.println("Grass reachable by the mowers: " + reachableGrassToCut);
+            output.println("Identified obstacles: " + (lawnArea - startingGrassToCut));
+            output.println("Number of mowers: " + activeMowers);
+            output.println("Maximum turn limit: " + maxTurns);
         }
     }
 
@@ -484,6 +1387,11 @@ public class Simulation
      */
     private void displayMowerMove(final MowerMove mowerMove)
     {
+        if(!hasReadout)
+        {
+            return;
+        }
+
         final StringBuilder sb = new StringBuilder();
 
         if(mowerMove.getMowerMovementType() == MowerMovementType.MOVE)
@@ -533,7 +1441,7 @@ public class Simulation
             }
         }
 
-        System.out.println(sb.toString());
+        output.println(sb.toString());
     }
 
     /**
@@ -548,8 +1456,10 @@ public class Simulation
             sb.append("The simulation has ended, the final results are:\n");
             sb.append("\nTotal Lawn Area: " + lawnArea);
             sb.append("\nGrass To Cut: " + startingGrassToCut);
+            sb.append("\nReachable Grass: " + reachableGrassToCut);
             sb.append("\nGrass Cut: " + totalGrassCut);
             sb.append("\nTurns: " + turnsTaken);
+            sb.append("\nEnded By: " + getTerminationReason());
 
             for(Mower mower : mowers)
             {
@@ -560,7 +1470,7 @@ public class Simulation
             sb.append(lawnArea + "," + startingGrassToCut + "," + totalGrassCut + "," + turnsTaken);
         }
 
-        System.out.println(sb.toString());
+        output.println(sb.toString());
 
         displayHorizontalRule(false);
     }
@@ -576,7 +1486,133 @@ public class Simulation
 
         if(displayPretty)
         {
-            System.out.println(startingGap? "\n" + line : line);
+            output.println(startingGap? "\n" + line : line);
+        }
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Builds a simulation of a scenario, every setting starts out as the default of the simulation
+     */
+    public static class Builder
+    {
+        private final ScenarioDefinition scenario;
+
+        private boolean displayPretty;
+        private boolean useSharedKnowledge;
+        private String strategyName = MowerStrategyRegistry.DEFAULT_STRATEGY;
+        private Random random;
+        private PrintStream output;
+        private SimulationParameters parameters = SimulationParameters.DEFAULTS;
+
+        private Builder(final ScenarioDefinition scenario)
+        {
+            this.scenario = scenario;
+        }
+
+        /**
+         * @param displayPretty - True to display the less cryptic readout, false to display the class format
+         *
+         * @return - The builder
+         */
+        public Builder setDisplayPretty(final boolean displayPretty)
+        {
+            this.displayPretty = displayPretty;
+
+            return this;
+        }
+
+        /**
+         * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+         *
+         * @return - The builder
+         */
+        public Builder setUseSharedKnowledge(final boolean useSharedKnowledge)
+        {
+            this.useSharedKnowledge = useSharedKnowledge;
+
+            return this;
+        }
+
+        /**
+         * @param strategyName - The name of the strategy used by every mower that does not name its own strategy
+         *
+         * @return - The builder
+         */
+        public Builder setStrategyName(final String strategyName)
+        {
+            this.strategyName = strategyName;
+
+            return this;
+        }
+
+        /**
+         * @param random - The source of every random choice the mowers make, seed it to make a run repeatable
+         *
+         * @return - The builder
+         */
+        public Builder setRandom(final Random random)
+        {
+            this.random = random;
+
+            return this;
+        }
+
+        /**
+         * @param output - The stream the readout is written to, null to run without any readout
+         *
+         * @return - The builder
+         */
+        public Builder setOutput(final PrintStream output)
+        {
+            this.output = output;
+
+            return this;
+        }
+
+        /**
+         * @param parameters - The thresholds the mowers and the simulation decide with
+         *
+         * @return - The builder
+         */
+        public Builder setParameters(final SimulationParameters parameters)
+        {
+            this.parameters = parameters;
+
+            return this;
+        }
+
+        /**
+         * @return - The simulation, ready to be run
+         */
+        public Simulation build()
+        {
+            return new Simulation(scenario,
+                    displayPretty,
+                    useSharedKnowledge,
+                    strategyName,
+                    random == null ? new Random() : random,
+                    output,
+                    parameters);
+        }
+    }
+
+    /**
+     * Output stream that throws away everything written to it, used when a simulation runs without a readout
+     */
+    private static class DiscardingOutputStream extends OutputStream
+    {
+        @Override
+        public void write(final int b)
+        {
+            // THROWING AWAY THE READOUT
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len)
+        {
+            // THROWING AWAY THE READOUT
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package sim;
+
+import constant.SimulationJobStatus;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class used to hold a simulation submitted to the job service while it waits, runs, and after it ends. The job is
+ * written by the worker that runs it and read by any number of threads polling it
+ */
+public class SimulationJob
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long jobId;
+    private final String scenarioHash;
+    private final ScenarioDefinition scenario;
+    private final String strategyName;
+    private final long seed;
+    private final boolean useSharedKnowledge;
+    private final long submitTime;
+    private final CountDownLatch done;
+
+    private volatile SimulationJobStatus status;
+    private volatile Simulation simulation;
+    private volatile SimulationResult result;
+    private volatile String errorMessage;
+    private volatile long waitNanos;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationJob(final long jobId,
+                  final String scenarioHash,
+                  final ScenarioDefinition scenario,
+                  final String strategyName,
+                  final long seed,
+                  final boolean useSharedKnowledge)
+    {
+        this.jobId = jobId;
+        this.scenarioHash = scenarioHash;
+        this.scenario = scenario;
+        this.strategyName = strategyName;
+        this.seed = seed;
+        this.useSharedKnowledge = useSharedKnowledge;
+        this.submitTime = System.nanoTime();
+        this.done = new CountDownLatch(1);
+        this.status = SimulationJobStatus.QUEUED;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Waits for the job to end
+     *
+     * @param timeoutMillis - The longest time to wait
+     *
+     * @return - True if the job has ended, false if the time ran out first
+     */
+    public boolean awaitCompletion(final long timeoutMillis)
+    {
+        try
+        {
+            return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            return status.isDone();
+        }
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public long getJobId() {
+        return jobId;
+    }
+
+    /**
+     * @return - The content hash of the submitted scenario, the same text always has the same hash
+     */
+    public String getScenarioHash() {
+        return scenarioHash;
+    }
+
+    public ScenarioDefinition getScenario() {
+        return scenario;
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isUsingSharedKnowledge() {
+        return useSharedKnowledge;
+    }
+
+    public SimulationJobStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return - The progress of the job as of its last turn, null unless it is running with telemetry enabled
+     */
+    public SimulationProgress getProgress()
+    {
+        final Simulation running = simulation;
+
+        return running == null ? null : running.getProgress();
+    }
+
+    /**
+     * @return - The results, null until the job has finished
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return - Why the job failed, null unless it has failed
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * @return - The time the job spent in the queue, in nanoseconds
+     */
+    public long getWaitNanos() {
+        return status == SimulationJobStatus.QUEUED ? System.nanoTime() - submitTime : waitNanos;
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Runs the simulation of the job on the calling thread, a simulation that fails marks the job as failed
+     */
+    void run()
+    {
+        waitNanos = System.nanoTime() - submitTime;
+
+        try
+        {
+            simulation = Simulation.builder(scenario)
+                    .setStrategyName(strategyName)
+                    .setUseSharedKnowledge(useSharedKnowledge)
+                    .setRandom(new Random(seed))
+                    .build();
+
+            status = SimulationJobStatus.RUNNING;
+
+            result = simulation.run();
+            status = SimulationJobStatus.FINISHED;
+        }
+        // A LAWN TOO LARGE FOR THE HEAP FAILS ITS OWN JOB, NOT THE WORKER
+        catch(RuntimeException | OutOfMemoryError e)
+        {
+            errorMessage = e.getMessage() == null ? e.toString() : e.getMessage();
+            status = SimulationJobStatus.FAILED;
+        }
+        finally
+        {
+            simulation = null;
+
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,590 @@
+package sim;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import mower.MowerStrategyRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Class used to take simulation jobs over HTTP, so a batch of scenarios can be run by one long lived JVM instead of
+ * starting Main once per scenario
+ *
+ * Usage:
+ * SimulationJobServer [--bind=<address>] [--port=<port>] [--workers=<count>] [--queue=<count>] [--cache=<count>]
+ *                     [--retain=<count>] [--telemetry=<port>]
+ *
+ * Endpoints:
+ * POST /jobs?strategy=<name>&seed=<seed>&sharedKnowledge=<true|false> - Queues the scenario in the body, which is
+ *                                                                        written like a simulation file. Answers 202
+ *                                                                        with the job, 400 when the scenario or
+ *                                                                        strategy is not valid or the scenario is
+ *                                                                        too large, 413 when the body is too large,
+ *                                                                        and 503 when the queue is full
+ * GET  /jobs                   - The counters of the service and the status of every job it still holds
+ * GET  /jobs/<id>?wait=<ms>    - The job and its results once it has ended, waits up to the given time for it to end
+ * GET  /jobs/<id>/stream       - The job as a line of JSON every time it changes, until it ends
+ *
+ * Note:
+ * The server and its telemetry only listen on the loopback address unless --bind names another one, the jobs are
+ * not authenticated so anyone who can reach the port can run them. Every response is JSON. The strategy and seed
+ * are optional, a job without a seed is given a random one and reports it, so any job can be run again the same
+ * way. The running turns of a job are only streamed when telemetry is on
+ */
+public class SimulationJobServer
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String BIND_OPTION = "--bind=";
+    private static final String PORT_OPTION = "--port=";
+    private static final String WORKERS_OPTION = "--workers=";
+    private static final String QUEUE_OPTION = "--queue=";
+    private static final String CACHE_OPTION = "--cache=";
+    private static final String RETAIN_OPTION = "--retain=";
+    private static final String TELEMETRY_OPTION = "--telemetry=";
+    private static final String JOBS_PATH = "/jobs";
+    private static final String STREAM_SUFFIX = "/stream";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String STREAM_CONTENT_TYPE = "application/x-ndjson; charset=utf-8";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_QUEUE = 256;
+    private static final int DEFAULT_CACHE = 64;
+    private static final int DEFAULT_RETAIN = 1024;
+    private static final int MAX_BODY_BYTES = 8 * 1024 * 1024;
+    private static final long MAX_WAIT_MILLIS = 60_000;
+    private static final long STREAM_INTERVAL_MILLIS = 250;
+
+    private final HttpServer server;
+    private final SimulationJobService service;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private SimulationJobServer(final HttpServer server, final SimulationJobService service)
+    {
+        this.server = server;
+        this.service = service;
+    }
+
+    // MAIN
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static void main(String [] args)
+    {
+        InetAddress address = InetAddress.getLoopbackAddress();
+        int port = DEFAULT_PORT;
+        int workers = Runtime.getRuntime().availableProcessors();
+        int queue = DEFAULT_QUEUE;
+        int cache = DEFAULT_CACHE;
+        int retain = DEFAULT_RETAIN;
+        int telemetryPort = -1;
+
+        try
+        {
+            for(String arg : args)
+            {
+                if(arg.startsWith(BIND_OPTION))
+                {
+                    address = InetAddress.getByName(arg.substring(BIND_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(PORT_OPTION))
+                {
+                    port = Integer.parseInt(arg.substring(PORT_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(WORKERS_OPTION))
+                {
+                    workers = Integer.parseInt(arg.substring(WORKERS_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(QUEUE_OPTION))
+                {
+                    queue = Integer.parseInt(arg.substring(QUEUE_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(CACHE_OPTION))
+                {
+                    cache = Integer.parseInt(arg.substring(CACHE_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(RETAIN_OPTION))
+                {
+                    retain = Integer.parseInt(arg.substring(RETAIN_OPTION.length()).trim());
+                }
+                else if(arg.startsWith(TELEMETRY_OPTION))
+                {
+                    telemetryPort = Integer.parseInt(arg.substring(TELEMETRY_OPTION.length()).trim());
+                }
+                else{
+                    throw new RuntimeException("[FATAL ERROR] :: main - Unknown option " + arg);
+                }
+            }
+        }
+        catch(NumberFormatException | UnknownHostException e)
+        {
+            throw new RuntimeException("[FATAL ERROR] :: main - Invalid option | " + e.getMessage());
+        }
+
+        if(telemetryPort >= 0)
+        {
+            System.out.println("Serving telemetry on " + address.getHostAddress() + " port "
+                    + TelemetryServer.start(address, telemetryPort).getPort());
+        }
+
+        final SimulationJobServer jobServer = start(address, port,
+                new SimulationJobService(workers, queue, cache, retain));
+
+        // THE SERVER THREAD KEEPS THE JVM RUNNING UNTIL IT IS KILLED
+        System.out.println("Serving simulation jobs on " + address.getHostAddress() + " port " + jobServer.getPort()
+                + " with " + workers + " workers and room for " + queue + " queued jobs");
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Starts taking jobs for a job service on the loopback address
+     *
+     * @param port - The port to listen on, 0 to pick a free one
+     * @param service - The service that runs the jobs
+     *
+     * @return - The running server
+     *
+     * @throws RuntimeException - When the port can not be bound
+     */
+    public static SimulationJobServer start(final int port, final SimulationJobService service)
+    {
+        return start(InetAddress.getLoopbackAddress(), port, service);
+    }
+
+    /**
+     * Starts taking jobs for a job service
+     *
+     * @param address - The address to listen on, the wildcard address listens on every interface
+     * @param port - The port to listen on, 0 to pick a free one
+     * @param service - The service that runs the jobs
+     *
+     * @return - The running server
+     *
+     * @throws RuntimeException - When the port can not be bound
+     */
+    public static SimulationJobServer start(final InetAddress address,
+                                            final int port,
+                                            final SimulationJobService service)
+    {
+        final HttpServer server;
+
+        try
+        {
+            server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        }
+        catch(IOException e)
+        {
+            final String errorMsg = "[ERROR] - Unable to serve simulation jobs on " + address.getHostAddress()
+                    + " port " + port + " | " + e.getMessage();
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e);
+        }
+
+        final SimulationJobServer response = new SimulationJobServer(server, service);
+
+        server.createContext(JOBS_PATH, response::handle);
+
+        // A STREAM HOLDS ITS THREAD UNTIL THE JOB ENDS, SO EVERY REQUEST GETS A THREAD OF ITS OWN
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "simulation-job-server");
+
+            thread.setDaemon(true);
+
+            return thread;
+        }));
+        server.start();
+
+        return response;
+    }
+
+    /**
+     * @return - The port the server is listening on
+     */
+    public int getPort()
+    {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops taking requests and shuts the job service down
+     */
+    public void stop()
+    {
+        server.stop(0);
+
+        service.shutdown();
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Sends a request to the endpoint of its method and path
+     *
+     * @param exchange - The request
+     */
+    private void handle(final HttpExchange exchange) throws IOException
+    {
+        try
+        {
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath();
+            final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if(path.equals(JOBS_PATH) || path.equals(JOBS_PATH + "/"))
+            {
+                if(method.equals("POST"))
+                {
+                    submit(exchange, query);
+                }
+                else if(method.equals("GET"))
+                {
+                    send(exchange, 200, toServiceJson());
+                }
+                else{
+                    sendError(exchange, 405, "Use GET or POST");
+                }
+            }
+            else if(!method.equals("GET"))
+            {
+                sendError(exchange, 405, "Use GET");
+            }
+            else if(path.endsWith(STREAM_SUFFIX))
+            {
+                final SimulationJob job = findJob(path.substring(0, path.length() - STREAM_SUFFIX.length()));
+
+                if(job == null)
+                {
+                    sendError(exchange, 404, "No such job");
+                }
+                else{
+                    stream(exchange, job);
+                }
+            }
+            else{
+                final SimulationJob job = findJob(path);
+
+                if(job == null)
+                {
+                    sendError(exchange, 404, "No such job");
+                }
+                else{
+                    if(query.containsKey("wait"))
+                    {
+                        job.awaitCompletion(Math.min(MAX_WAIT_MILLIS, Long.parseLong(query.get("wait"))));
+                    }
+
+                    send(exchange, 200, toJobJson(job, true));
+                }
+            }
+        }
+        catch(NumberFormatException e)
+        {
+            sendError(exchange, 400, "Invalid number | " + e.getMessage());
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Queues the scenario in the body of the request
+     *
+     * @param exchange - The request
+     * @param query - The options of the job
+     */
+    private void submit(final HttpExchange exchange, final Map<String, String> query) throws IOException
+    {
+        final String strategyName = query.getOrDefault("strategy", MowerStrategyRegistry.DEFAULT_STRATEGY);
+        final long seed = query.containsKey("seed")
+                ? Long.parseLong(query.get("seed"))
+                : ThreadLocalRandom.current().nextLong();
+        final boolean useSharedKnowledge = Boolean.parseBoolean(query.get("sharedKnowledge"));
+        final String scenarioText = readBody(exchange);
+
+        if(scenarioText == null)
+        {
+            sendError(exchange, 413, "The scenario is over the limit of " + MAX_BODY_BYTES + " bytes");
+
+            return;
+        }
+
+        final SimulationJob job;
+
+        try
+        {
+            job = service.submit(scenarioText, strategyName, seed, useSharedKnowledge);
+        }
+        catch(RuntimeException e)
+        {
+            sendError(exchange, 400, e.getMessage());
+
+            return;
+        }
+
+        if(job == null)
+        {
+            // BACKPRESSURE, THE CLIENT IS TOLD TO TRY AGAIN INSTEAD OF THE QUEUE GROWING WITHOUT A LIMIT
+            exchange.getResponseHeaders().set("Retry-After", "1");
+
+            sendError(exchange, 503, "The job queue is full");
+        }
+        else{
+            exchange.getResponseHeaders().set("Location", JOBS_PATH + "/" + job.getJobId());
+
+            send(exchange, 202, toJobJson(job, false));
+        }
+    }
+
+    /**
+     * Writes the job as a line of JSON every time it changes until it ends, the last line holds the results
+     *
+     * @param exchange - The request
+     * @param job - The job
+     */
+    private void stream(final HttpExchange exchange, final SimulationJob job) throws IOException
+    {
+        exchange.getResponseHeaders().set("Content-Type", STREAM_CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, 0);
+
+        try(OutputStream out = exchange.getResponseBody())
+        {
+            String lastLine = null;
+
+            while(true)
+            {
+                final boolean isDone = job.getStatus().isDone();
+                final String line = toJobJson(job, isDone);
+
+                if(!line.equals(lastLine))
+                {
+                    out.write(line.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+
+                    lastLine = line;
+                }
+
+                if(isDone)
+                {
+                    break;
+                }
+
+                job.awaitCompletion(STREAM_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * @param path - The path of the job, /jobs/<id>
+     *
+     * @return - The job, null when the path does not name a job the service holds
+     */
+    private SimulationJob findJob(final String path)
+    {
+        if(!path.startsWith(JOBS_PATH + "/"))
+        {
+            return null;
+        }
+
+        try
+        {
+            return service.getJob(Long.parseLong(path.substring(JOBS_PATH.length() + 1)));
+        }
+        catch(NumberFormatException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * @return - The counters of the service and the status of every job it holds as JSON
+     */
+    private String toServiceJson()
+    {
+        final List<SimulationJob> jobs = service.getJobs();
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("{\"workers\":").append(service.getWorkerCount());
+        sb.append(",\"queueCapacity\":").append(service.getQueueCapacity());
+        sb.append(",\"queuedJobs\":").append(service.getQueuedJobs());
+        sb.append(",\"runningJobs\":").append(service.getRunningJobs());
+        sb.append(",\"jobsSubmitted\":").append(service.getJobsSubmitted());
+        sb.append(",\"jobsRejected\":").append(service.getJobsRejected());
+        sb.append(",\"scenarioCacheHits\":").append(service.getCacheHits());
+        sb.append(",\"scenarioCacheMisses\":").append(service.getCacheMisses());
+        sb.append(",\"jobs\":[");
+
+        for(int i = 0; i < jobs.size(); i++)
+        {
+            if(i > 0)
+            {
+                sb.append(',');
+            }
+
+            sb.append("{\"jobId\":").append(jobs.get(i).getJobId());
+            sb.append(",\"status\":\"").append(jobs.get(i).getStatus()).append("\"}");
+        }
+
+        sb.append("]}\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * @param job - The job
+     * @param includeResult - True to include the results of a job that has finished
+     *
+     * @return - The job as a line of JSON
+     */
+    private static String toJobJson(final SimulationJob job, final boolean includeResult)
+    {
+        final StringBuilder sb = new StringBuilder();
+        final SimulationProgress progress = job.getProgress();
+        final SimulationResult result = job.getResult();
+
+        sb.append("{\"jobId\":").append(job.getJobId());
+        sb.append(",\"status\":\"").append(job.getStatus()).append('"');
+        sb.append(",\"scenario\":\"").append(TelemetryServer.escapeJson(job.getScenario().getName())).append('"');
+        sb.append(",\"scenarioHash\":\"").append(job.getScenarioHash()).append('"');
+        sb.append(",\"strategy\":\"").append(TelemetryServer.escapeJson(job.getStrategyName())).append('"');
+        sb.append(",\"seed\":").append(job.getSeed());
+        sb.append(",\"sharedKnowledge\":").append(job.isUsingSharedKnowledge());
+        sb.append(",\"waitSeconds\":").append(String.format("%.3f", job.getWaitNanos() / 1e9));
+
+        if(progress != null && !progress.isFinished())
+        {
+            sb.append(",\"turnsTaken\":").append(progress.getTurnsTaken());
+            sb.append(",\"totalGrassCut\":").append(progress.getTotalGrassCut());
+        }
+
+        if(job.getErrorMessage() != null)
+        {
+            sb.append(",\"error\":\"").append(TelemetryServer.escapeJson(job.getErrorMessage())).append('"');
+        }
+
+        if(includeResult && result != null)
+        {
+            sb.append(",\"result\":{\"lawnArea\":").append(result.getLawnArea());
+            sb.append(",\"startingGrassToCut\":").append(result.getStartingGrassToCut());
+            sb.append(",\"reachableGrassToCut\":").append(result.getReachableGrassToCut());
+            sb.append(",\"totalGrassCut\":").append(result.getTotalGrassCut());
+            sb.append(",\"turnsTaken\":").append(result.getTurnsTaken());
+            sb.append(",\"maxTurns\":").append(result.getMaxTurns());
+            sb.append(",\"activeMowers\":").append(result.getActiveMowers());
+            sb.append(",\"terminationReason\":\"").append(result.getTerminationReason()).append('"');
+            sb.append(",\"setupSeconds\":").append(String.format("%.6f", result.getSetupNanos() / 1e9));
+            sb.append(",\"turnSeconds\":").append(String.format("%.6f", result.getTurnNanos() / 1e9));
+            sb.append(",\"mowers\":[");
+
+            for(int i = 0; i < result.getMowers().size(); i++)
+            {
+                final SimulationResult.MowerResult mower = result.getMowers().get(i);
+
+                if(i > 0)
+                {
+                    sb.append(',');
+                }
+
+                sb.append("{\"id\":").append(mower.getId());
+                sb.append(",\"strategic\":").append(mower.isStrategic());
+                sb.append(",\"strategy\":\"").append(TelemetryServer.escapeJson(mower.getStrategyName())).append('"');
+                sb.append(",\"disabled\":").append(mower.isDisabled());
+                sb.append(",\"x\":").append(mower.getXCoordinate());
+                sb.append(",\"y\":").append(mower.getYCoordinate());
+                sb.append(",\"direction\":\"").append(mower.getDirection()).append("\"}");
+            }
+
+            sb.append("]}");
+        }
+
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+
+    private static Map<String, String> parseQuery(final String rawQuery) throws IOException
+    {
+        final Map<String, String> response = new HashMap<>();
+
+        if(rawQuery != null)
+        {
+            for(String parameter : rawQuery.split("&"))
+            {
+                final int equals = parameter.indexOf('=');
+
+                if(equals > 0)
+                {
+                    response.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+                            URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+                }
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Reads the body of a request, it is only read up to the limit so a large body can not fill the heap
+     *
+     * @param exchange - The request
+     *
+     * @return - The body, null when it is over the limit
+     */
+    private static String readBody(final HttpExchange exchange) throws IOException
+    {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+
+        try(InputStream in = exchange.getRequestBody())
+        {
+            int read = in.read(buffer);
+
+            while(read >= 0)
+            {
+                if(body.size() + read > MAX_BODY_BYTES)
+                {
+                    return null;
+                }
+
+                body.write(buffer, 0, read);
+
+                read = in.read(buffer);
+            }
+        }
+
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final String body) throws IOException
+    {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try(OutputStream out = exchange.getResponseBody())
+        {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(final HttpExchange exchange, final int status, final String message)
+            throws IOException
+    {
+        send(exchange, status, "{\"error\":\"" + TelemetryServer.escapeJson(String.valueOf(message)) + "\"}\n");
+    }
+}
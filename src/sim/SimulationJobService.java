@@ -0,0 +1,351 @@
+package sim;
+
+import mower.MowerStrategyRegistry;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class used to run submitted simulations on a pool of workers, so many scenarios can be run by one long lived JVM
+ * instead of starting a JVM per scenario. Jobs wait in a bounded queue, a submission that finds the queue full is
+ * turned away instead of piling up, and the results stay around to be polled until enough newer jobs have ended
+ *
+ * Note:
+ * The scenarios are kept by the hash of their text, so a scenario that is submitted again is not parsed again. A
+ * scenario is immutable, so every job of the same scenario shares one copy of it. A submitted scenario can come from
+ * anyone who can reach the service, so its lawn and its mowers are capped, one job can not take the heap of the
+ * whole JVM
+ */
+public class SimulationJobService
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public static final int MAX_LAWN_SQUARES = 1_000_000;
+    public static final int MAX_MOWERS = 10_000;
+
+    private static final int HASH_PREFIX_LENGTH = 12;
+
+    private final ThreadPoolExecutor workers;
+    private final int queueCapacity;
+    private final int retainedJobs;
+    private final Map<String, ScenarioDefinition> scenarioCache;
+    private final ConcurrentMap<Long, SimulationJob> jobs;
+    private final Queue<Long> endedJobIds;
+    private final AtomicLong nextJobId;
+    private final LongAdder jobsSubmitted;
+    private final LongAdder jobsRejected;
+    private final LongAdder cacheHits;
+    private final LongAdder cacheMisses;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param workerCount - The number of simulations run at the same time
+     * @param queueCapacity - The number of jobs that can wait for a worker before submissions are turned away
+     * @param cacheCapacity - The number of parsed scenarios kept, the least recently submitted is dropped first
+     * @param retainedJobs - The number of ended jobs kept for polling, the oldest is dropped first
+     *
+     * @throws RuntimeException - When any of the sizes is less than 1
+     */
+    public SimulationJobService(final int workerCount,
+                                final int queueCapacity,
+                                final int cacheCapacity,
+                                final int retainedJobs)
+    {
+        if(workerCount < 1 || queueCapacity < 1 || cacheCapacity < 1 || retainedJobs < 1)
+        {
+            final String errorMsg = "[ERROR] - The job service needs at least 1 worker, 1 queued job, 1 cached "
+                    + "scenario, and 1 retained job";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        final AtomicInteger workerNumber = new AtomicInteger();
+
+        this.workers = new ThreadPoolExecutor(workerCount,
+                workerCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "simulation-worker-" + workerNumber.incrementAndGet());
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+        this.queueCapacity = queueCapacity;
+        this.retainedJobs = retainedJobs;
+        this.scenarioCache = new LinkedHashMap<String, ScenarioDefinition>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, ScenarioDefinition> eldest)
+            {
+                return size() > cacheCapacity;
+            }
+        };
+        this.jobs = new ConcurrentHashMap<>();
+        this.endedJobIds = new ConcurrentLinkedQueue<>();
+        this.nextJobId = new AtomicLong();
+        this.jobsSubmitted = new LongAdder();
+        this.jobsRejected = new LongAdder();
+        this.cacheHits = new LongAdder();
+        this.cacheMisses = new LongAdder();
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Queues a simulation of a scenario
+     *
+     * @param scenarioText - The scenario in the format of a simulation file
+     * @param strategyName - The strategy of every mower that does not name its own strategy in the scenario
+     * @param seed - The seed of the random choices of the mowers
+     * @param useSharedKnowledge - True to write every scan into a knowledge map shared by all of the mowers
+     *
+     * @return - The queued job, null when the queue is full and the job was turned away
+     *
+     * @throws RuntimeException - When the scenario or the strategy is not valid, or the scenario is over the limits
+     */
+    public SimulationJob submit(final String scenarioText,
+                                final String strategyName,
+                                final long seed,
+                                final boolean useSharedKnowledge)
+    {
+        // FAIL THE SUBMISSION, NOT THE JOB, WHEN THE STRATEGY DOES NOT EXIST
+        MowerStrategyRegistry.getProvider(strategyName);
+
+        final String scenarioHash = hash(scenarioText);
+        final SimulationJob job = new SimulationJob(nextJobId.incrementAndGet(),
+                scenarioHash,
+                getScenario(scenarioHash, scenarioText),
+                strategyName,
+                seed,
+                useSharedKnowledge);
+
+        jobs.put(job.getJobId(), job);
+
+        try
+        {
+            workers.execute(() -> {
+                job.run();
+
+                retire(job);
+            });
+        }
+        catch(RejectedExecutionException e)
+        {
+            jobs.remove(job.getJobId());
+
+            jobsRejected.increment();
+
+            return null;
+        }
+
+        jobsSubmitted.increment();
+
+        return job;
+    }
+
+    /**
+     * @param jobId - The id of the job
+     *
+     * @return - The job, null when there is no such job or it has ended long enough ago to be dropped
+     */
+    public SimulationJob getJob(final long jobId)
+    {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * @return - Every job that is queued, running, or still retained, ordered by job id
+     */
+    public List<SimulationJob> getJobs()
+    {
+        final List<SimulationJob> response = new ArrayList<>(jobs.values());
+
+        response.sort((first, second) -> Long.compare(first.getJobId(), second.getJobId()));
+
+        return response;
+    }
+
+    /**
+     * Stops taking jobs and drops the jobs that are still queued, a running job can not be stopped part way so it
+     * runs to its end on a daemon worker that the JVM does not wait for
+     */
+    public void shutdown()
+    {
+        workers.shutdownNow();
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public int getWorkerCount() {
+        return workers.getMaximumPoolSize();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getQueuedJobs() {
+        return workers.getQueue().size();
+    }
+
+    public int getRunningJobs() {
+        return workers.getActiveCount();
+    }
+
+    public long getJobsSubmitted() {
+        return jobsSubmitted.sum();
+    }
+
+    /**
+     * @return - The number of submissions turned away because the queue was full
+     */
+    public long getJobsRejected() {
+        return jobsRejected.sum();
+    }
+
+    /**
+     * @return - The number of submissions whose scenario was already parsed
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the parsed scenario of a text from the cache, parsing it on a miss
+     *
+     * @param scenarioHash - The hash of the text
+     * @param scenarioText - The text
+     *
+     * @return - The scenario
+     *
+     * @throws RuntimeException - When the text is not a valid scenario or the scenario is over the limits
+     */
+    private ScenarioDefinition getScenario(final String scenarioHash, final String scenarioText)
+    {
+        synchronized(scenarioCache)
+        {
+            final ScenarioDefinition cached = scenarioCache.get(scenarioHash);
+
+            if(cached != null)
+            {
+                cacheHits.increment();
+
+                return cached;
+            }
+        }
+
+        // PARSED OUTSIDE OF THE LOCK, TWO SUBMISSIONS OF A NEW SCENARIO MAY BOTH PARSE IT BUT NEVER WAIT ON EACH OTHER
+        final ScenarioDefinition response;
+
+        try
+        {
+            response = ScenarioDefinition.read("scenario-" + scenarioHash.substring(0, HASH_PREFIX_LENGTH),
+                    new StringReader(scenarioText));
+        }
+        catch(IOException | RuntimeException e)
+        {
+            final String errorMsg = "[ERROR] - The scenario could not be parsed | " + e.getMessage();
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e);
+        }
+
+        // EVERY SQUARE OF THE LAWN TAKES AN OBJECT AND A FEW ARRAY SLOTS ONCE THE JOB SETS UP
+        if((long) response.getWidth() * response.getHeight() > MAX_LAWN_SQUARES
+                || response.getMowers().size() > MAX_MOWERS)
+        {
+            final String errorMsg = "[ERROR] - The scenario is too large, a " + response.getWidth() + "x"
+                    + response.getHeight() + " lawn with " + response.getMowers().size() + " mowers is over the "
+                    + "limit of " + MAX_LAWN_SQUARES + " squares and " + MAX_MOWERS + " mowers";
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        cacheMisses.increment();
+
+        synchronized(scenarioCache)
+        {
+            scenarioCache.put(scenarioHash, response);
+        }
+
+        return response;
+    }
+
+    /**
+     * Keeps an ended job for polling and drops the oldest ended jobs past the number that are retained
+     *
+     * @param job - The job that ended
+     */
+    private void retire(final SimulationJob job)
+    {
+        endedJobIds.add(job.getJobId());
+
+        while(endedJobIds.size() > retainedJobs)
+        {
+            final Long droppedJobId = endedJobIds.poll();
+
+            if(droppedJobId != null)
+            {
+                jobs.remove(droppedJobId);
+            }
+        }
+    }
+
+    /**
+     * @param text - The text to hash
+     *
+     * @return - The SHA-256 of the text as hex
+     */
+    private static String hash(final String text)
+    {
+        try
+        {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for(byte b : digest)
+            {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return sb.toString();
+        }
+        catch(NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException("[ERROR] - SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package sim;
+
+import constant.CollisionCause;
+import constant.MowerMovementType;
+import constant.SimulationRiskProfile;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class used to count what happens in the turn loop of a simulation: the moves by type, the collisions by cause, the
+ * grass cut, and how long every strategy and risk profile takes to decide on a move
+ *
+ * Note:
+ * A simulation only has metrics once they are enabled, every place that records into them checks for null first so a
+ * simulation without metrics does not even read the clock. The counters are striped, so a snapshot can be taken from
+ * another thread at any time while the simulation is running
+ */
+public class SimulationMetrics
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final LongAdder[] moves;
+    private final LongAdder[] collisions;
+    private final LongAdder grassCut;
+    private final LongAdder turns;
+    private final LatencyHistogram[] riskProfileLatencies;
+    private final ConcurrentMap<String, LatencyHistogram> strategyLatencies;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationMetrics()
+    {
+        this.moves = createCounters(MowerMovementType.values().length);
+        this.collisions = createCounters(CollisionCause.values().length);
+        this.grassCut = new LongAdder();
+        this.turns = new LongAdder();
+        this.riskProfileLatencies = new LatencyHistogram[SimulationRiskProfile.values().length];
+        this.strategyLatencies = new ConcurrentHashMap<>();
+
+        for(int i = 0; i < riskProfileLatencies.length; i++)
+        {
+            riskProfileLatencies[i] = new LatencyHistogram();
+        }
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - A copy of every metric as it is right now
+     */
+    public SimulationMetricsSnapshot getSnapshot()
+    {
+        final long[] moveCounts = new long[moves.length];
+        final long[] collisionCounts = new long[collisions.length];
+        final LatencyHistogram.Snapshot[] riskProfileSnapshots =
+                new LatencyHistogram.Snapshot[riskProfileLatencies.length];
+        final Map<String, LatencyHistogram.Snapshot> strategySnapshots = new TreeMap<>();
+
+        for(int i = 0; i < moves.length; i++)
+        {
+            moveCounts[i] = moves[i].sum();
+        }
+
+        for(int i = 0; i < collisions.length; i++)
+        {
+            collisionCounts[i] = collisions[i].sum();
+        }
+
+        for(int i = 0; i < riskProfileLatencies.length; i++)
+        {
+            riskProfileSnapshots[i] = riskProfileLatencies[i].getSnapshot();
+        }
+
+        for(Map.Entry<String, LatencyHistogram> entry : strategyLatencies.entrySet())
+        {
+            strategySnapshots.put(entry.getKey(), entry.getValue().getSnapshot());
+        }
+
+        return new SimulationMetricsSnapshot(turns.sum(), moveCounts, collisionCounts, grassCut.sum(),
+                strategySnapshots, riskProfileSnapshots);
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    void recordTurn()
+    {
+        turns.increment();
+    }
+
+    void recordMove(final MowerMovementType movementType)
+    {
+        moves[movementType.ordinal()].increment();
+    }
+
+    void recordCollision(final CollisionCause cause)
+    {
+        collisions[cause.ordinal()].increment();
+    }
+
+    void recordGrassCut()
+    {
+        grassCut.increment();
+    }
+
+    /**
+     * Records how long a mower took to decide on its move
+     *
+     * @param strategyName - The name of the strategy of the mower
+     * @param riskProfile - The risk profile the mower decided with, null if the strategy did not ask for one
+     * @param nanos - The time the decision took
+     */
+    void recordDecision(final String strategyName, final SimulationRiskProfile riskProfile, final long nanos)
+    {
+        strategyLatencies.computeIfAbsent(strategyName, name -> new LatencyHistogram()).record(nanos);
+
+        if(riskProfile != null)
+        {
+            riskProfileLatencies[riskProfile.ordinal()].record(nanos);
+        }
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static LongAdder[] createCounters(final int count)
+    {
+        final LongAdder[] response = new LongAdder[count];
+
+        for(int i = 0; i < count; i++)
+        {
+            response[i] = new LongAdder();
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,120 @@
+package sim;
+
+import constant.CollisionCause;
+import constant.MowerMovementType;
+import constant.SimulationRiskProfile;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Class used to hold the metrics of a simulation at one point in time, nothing in it changes once it is taken
+ */
+public class SimulationMetricsSnapshot
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long turns;
+    private final long[] moves;
+    private final long[] collisions;
+    private final long grassCut;
+    private final Map<String, LatencyHistogram.Snapshot> strategyLatencies;
+    private final LatencyHistogram.Snapshot[] riskProfileLatencies;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationMetricsSnapshot(final long turns,
+                              final long[] moves,
+                              final long[] collisions,
+                              final long grassCut,
+                              final Map<String, LatencyHistogram.Snapshot> strategyLatencies,
+                              final LatencyHistogram.Snapshot[] riskProfileLatencies)
+    {
+        this.turns = turns;
+        this.moves = moves;
+        this.collisions = collisions;
+        this.grassCut = grassCut;
+        this.strategyLatencies = Collections.unmodifiableMap(strategyLatencies);
+        this.riskProfileLatencies = riskProfileLatencies;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public long getTurns() {
+        return turns;
+    }
+
+    public long getMoves(final MowerMovementType movementType) {
+        return moves[movementType.ordinal()];
+    }
+
+    public long getCollisions(final CollisionCause cause) {
+        return collisions[cause.ordinal()];
+    }
+
+    /**
+     * @return - The grass cut by mower moves, the squares the mowers start on are not counted
+     */
+    public long getGrassCut() {
+        return grassCut;
+    }
+
+    /**
+     * @return - The decision latencies by strategy name, sorted by name
+     */
+    public Map<String, LatencyHistogram.Snapshot> getStrategyLatencies() {
+        return strategyLatencies;
+    }
+
+    public LatencyHistogram.Snapshot getRiskProfileLatency(final SimulationRiskProfile riskProfile) {
+        return riskProfileLatencies[riskProfile.ordinal()];
+    }
+
+    /**
+     * @return - The number of scans for every square of grass cut, 0 when no grass has been cut
+     */
+    public double getScansPerGrassCut()
+    {
+        return grassCut == 0 ? 0.0 : (double) getMoves(MowerMovementType.SCAN) / grassCut;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("turns: ").append(turns).append('\n');
+        sb.append("moves:");
+
+        for(MowerMovementType movementType : MowerMovementType.values())
+        {
+            sb.append(' ').append(movementType.name().toLowerCase()).append('=').append(getMoves(movementType));
+        }
+
+        sb.append("\ncollisions:");
+
+        for(CollisionCause cause : CollisionCause.values())
+        {
+            sb.append(' ').append(cause.name().toLowerCase()).append('=').append(getCollisions(cause));
+        }
+
+        sb.append(String.format("%ngrass cut: %d, scans per grass cut: %.2f%n", grassCut, getScansPerGrassCut()));
+
+        for(Map.Entry<String, LatencyHistogram.Snapshot> entry : strategyLatencies.entrySet())
+        {
+            sb.append("decision latency [").append(entry.getKey()).append("]: ").append(entry.getValue())
+                    .append('\n');
+        }
+
+        for(SimulationRiskProfile riskProfile : SimulationRiskProfile.values())
+        {
+            if(getRiskProfileLatency(riskProfile).getCount() > 0)
+            {
+                sb.append("decision latency [").append(riskProfile.name().toLowerCase()).append(" risk]: ")
+                        .append(getRiskProfileLatency(riskProfile)).append('\n');
+            }
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package sim;
+
+import constant.SimulationParameter;
+
+import java.util.Arrays;
+
+/**
+ * Class that holds a value for every simulation parameter. The class is immutable, changing a parameter creates a
+ * new set of parameters so a single set can be shared by any number of simulations running in parallel
+ */
+public final class SimulationParameters
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final SimulationParameter[] PARAMETERS = SimulationParameter.values();
+
+    public static final SimulationParameters DEFAULTS = new SimulationParameters(getDefaultValues());
+
+    private final int[] values;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private SimulationParameters(final int[] values)
+    {
+        this.values = values;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Gets the value of a parameter
+     *
+     * @param parameter - The parameter
+     *
+     * @return - The value
+     */
+    public int get(final SimulationParameter parameter)
+    {
+        return values[parameter.ordinal()];
+    }
+
+    /**
+     * Creates a copy of these parameters with one value changed
+     *
+     * @param parameter - The parameter to change
+     * @param value - The new value
+     *
+     * @return - The new parameters
+     *
+     * @throws RuntimeException - When the value is outside of the range of the parameter
+     */
+    public SimulationParameters with(final SimulationParameter parameter, final int value)
+    {
+        if(value < parameter.getMinValue() || value > parameter.getMaxValue())
+        {
+            final String errorMsg = "[ERROR] - " + parameter + " must be between " + parameter.getMinValue()
+                    + " and " + parameter.getMaxValue() + " but was " + value;
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg);
+        }
+
+        final int[] newValues = Arrays.copyOf(values, values.length);
+
+        newValues[parameter.ordinal()] = value;
+
+        return new SimulationParameters(newValues);
+    }
+
+    /**
+     * Checks the rules between parameters that the ranges of the single parameters can not express
+     *
+     * @return - True if the random move percentages add up to 100 or less and the medium risk factor is not above the
+     *           low risk factor, false otherwise
+     */
+    public boolean isConsistent()
+    {
+        final int randomPercent = get(SimulationParameter.RANDOM_PASS_PERCENT)
+                + get(SimulationParameter.RANDOM_MOVE_PERCENT)
+                + get(SimulationParameter.RANDOM_SCAN_PERCENT);
+
+        return randomPercent <= 100
+                && get(SimulationParameter.MEDIUM_RISK_FACTOR) <= get(SimulationParameter.LOW_RISK_FACTOR);
+    }
+
+    @Override
+    public boolean equals(final Object other)
+    {
+        return other instanceof SimulationParameters && Arrays.equals(values, ((SimulationParameters) other).values);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        for(SimulationParameter parameter : PARAMETERS)
+        {
+            if(sb.length() > 0)
+            {
+                sb.append(", ");
+            }
+
+            sb.append(parameter.name()).append('=').append(get(parameter));
+        }
+
+        return sb.toString();
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static int[] getDefaultValues()
+    {
+        final int[] response = new int[PARAMETERS.length];
+
+        for(SimulationParameter parameter : PARAMETERS)
+        {
+            response[parameter.ordinal()] = parameter.getDefaultValue();
+        }
+
+        return response;
+    }
+}
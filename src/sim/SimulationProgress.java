@@ -0,0 +1,116 @@
+package sim;
+
+import constant.SimulationRiskProfile;
+
+/**
+ * Class used to hold the progress of a running simulation at the end of a turn. The simulation publishes a new one
+ * after every turn, so a reader on another thread always sees the numbers of one whole turn and never has to wait on
+ * the turn loop
+ */
+public class SimulationProgress
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long runId;
+    private final String scenarioName;
+    private final String strategyName;
+    private final int turnsTaken;
+    private final int maxTurns;
+    private final int totalGrassCut;
+    private final int startingGrassToCut;
+    private final int activeMowers;
+    private final int mowerCount;
+    private final int[] riskProfileCounts;
+    private final long elapsedNanos;
+    private final boolean isFinished;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationProgress(final long runId,
+                       final String scenarioName,
+                       final String strategyName,
+                       final int turnsTaken,
+                       final int maxTurns,
+                       final int totalGrassCut,
+                       final int startingGrassToCut,
+                       final int activeMowers,
+                       final int mowerCount,
+                       final int[] riskProfileCounts,
+                       final long elapsedNanos,
+                       final boolean isFinished)
+    {
+        this.runId = runId;
+        this.scenarioName = scenarioName;
+        this.strategyName = strategyName;
+        this.turnsTaken = turnsTaken;
+        this.maxTurns = maxTurns;
+        this.totalGrassCut = totalGrassCut;
+        this.startingGrassToCut = startingGrassToCut;
+        this.activeMowers = activeMowers;
+        this.mowerCount = mowerCount;
+        this.riskProfileCounts = riskProfileCounts;
+        this.elapsedNanos = elapsedNanos;
+        this.isFinished = isFinished;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public long getRunId() {
+        return runId;
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    /**
+     * @return - The strategy of the run, mowers that name their own strategy in the simulation file can differ
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public int getTurnsTaken() {
+        return turnsTaken;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public int getTotalGrassCut() {
+        return totalGrassCut;
+    }
+
+    public int getStartingGrassToCut() {
+        return startingGrassToCut;
+    }
+
+    public int getActiveMowers() {
+        return activeMowers;
+    }
+
+    public int getMowerCount() {
+        return mowerCount;
+    }
+
+    /**
+     * @param riskProfile - The risk profile
+     *
+     * @return - The number of active strategic mowers whose last move was decided with the risk profile
+     */
+    public int getRiskProfileCount(final SimulationRiskProfile riskProfile) {
+        return riskProfileCounts[riskProfile.ordinal()];
+    }
+
+    /**
+     * @return - The time since the run started, including the parsing of the simulation file
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isFinished() {
+        return isFinished;
+    }
+}
@@ -0,0 +1,232 @@
+package sim;
+
+import constant.Direction;
+import constant.SimulationTerminationReason;
+import mower.Mower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class used to hold the outcome of a simulation that has been run, so a program that embeds the simulation can read
+ * the results without parsing the readout. The class is immutable, it is a copy of the state of the simulation when
+ * the last turn ended
+ */
+public final class SimulationResult
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final String scenarioName;
+    private final String strategyName;
+    private final int lawnArea;
+    private final int startingGrassToCut;
+    private final int reachableGrassToCut;
+    private final int totalGrassCut;
+    private final int turnsTaken;
+    private final int maxTurns;
+    private final int activeMowers;
+    private final SimulationTerminationReason terminationReason;
+    private final List<MowerResult> mowers;
+    private final long setupNanos;
+    private final long elapsedNanos;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationResult(final String scenarioName,
+                     final String strategyName,
+                     final int lawnArea,
+                     final int startingGrassToCut,
+                     final int reachableGrassToCut,
+                     final int totalGrassCut,
+                     final int turnsTaken,
+                     final int maxTurns,
+                     final int activeMowers,
+                     final SimulationTerminationReason terminationReason,
+                     final List<Mower> mowers,
+                     final long setupNanos,
+                     final long elapsedNanos)
+    {
+        final List<MowerResult> mowerResults = new ArrayList<>(mowers.size());
+
+        for(Mower mower : mowers)
+        {
+            mowerResults.add(new MowerResult(mower));
+        }
+
+        this.scenarioName = scenarioName;
+        this.strategyName = strategyName;
+        this.lawnArea = lawnArea;
+        this.startingGrassToCut = startingGrassToCut;
+        this.reachableGrassToCut = reachableGrassToCut;
+        this.totalGrassCut = totalGrassCut;
+        this.turnsTaken = turnsTaken;
+        this.maxTurns = maxTurns;
+        this.activeMowers = activeMowers;
+        this.terminationReason = terminationReason;
+        this.mowers = Collections.unmodifiableList(mowerResults);
+        this.setupNanos = setupNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    /**
+     * @return - The strategy of the run, mowers that name their own strategy in the scenario can differ
+     */
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public int getLawnArea() {
+        return lawnArea;
+    }
+
+    public int getStartingGrassToCut() {
+        return startingGrassToCut;
+    }
+
+    /**
+     * @return - The grass the mowers could get to from where they started without running into a crater
+     */
+    public int getReachableGrassToCut() {
+        return reachableGrassToCut;
+    }
+
+    public int getTotalGrassCut() {
+        return totalGrassCut;
+    }
+
+    public int getTurnsTaken() {
+        return turnsTaken;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public int getActiveMowers() {
+        return activeMowers;
+    }
+
+    /**
+     * @return - Why the simulation stopped taking turns
+     */
+    public SimulationTerminationReason getTerminationReason() {
+        return terminationReason;
+    }
+
+    /**
+     * @return - Every mower in the order they took their turns
+     */
+    public List<MowerResult> getMowers() {
+        return mowers;
+    }
+
+    /**
+     * @return - The time spent setting up the lawn and mowers before the first turn, in nanoseconds
+     */
+    public long getSetupNanos() {
+        return setupNanos;
+    }
+
+    /**
+     * @return - The time spent taking turns, in nanoseconds
+     */
+    public long getTurnNanos() {
+        return elapsedNanos - setupNanos;
+    }
+
+    /**
+     * @return - The time of the whole run including the setup, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - True if every square of grass was cut before the simulation ended
+     */
+    public boolean isLawnCut()
+    {
+        return totalGrassCut == startingGrassToCut;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s [%s]: %d/%d grass cut (%d reachable) in %d/%d turns (%s), %d of %d mowers active, "
+                + "%.3f ms", scenarioName, strategyName, totalGrassCut, startingGrassToCut, reachableGrassToCut,
+                turnsTaken, maxTurns, terminationReason, activeMowers, mowers.size(), elapsedNanos / 1e6);
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A mower as it stood when the simulation ended
+     */
+    public static final class MowerResult
+    {
+        private final int id;
+        private final String name;
+        private final String strategyName;
+        private final boolean isStrategic;
+        private final boolean isDisabled;
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final Direction direction;
+
+        private MowerResult(final Mower mower)
+        {
+            this.id = mower.getId();
+            this.name = mower.getName();
+            this.strategyName = mower.getStrategy().getStrategyName();
+            this.isStrategic = mower.isStrategic();
+            this.isDisabled = mower.isDisabled();
+            this.xCoordinate = mower.getXCoordinate();
+            this.yCoordinate = mower.getYCoordinate();
+            this.direction = mower.getDirection();
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return - The strategy the mower was given, a random mower never asks it for a move
+         */
+        public String getStrategyName() {
+            return strategyName;
+        }
+
+        public boolean isStrategic() {
+            return isStrategic;
+        }
+
+        public boolean isDisabled() {
+            return isDisabled;
+        }
+
+        public int getXCoordinate() {
+            return xCoordinate;
+        }
+
+        public int getYCoordinate() {
+            return yCoordinate;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+    }
+}
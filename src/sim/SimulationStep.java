@@ -0,0 +1,218 @@
+package sim;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class used to hold what changed while a simulation took one or more turns, so a program following the simulation
+ * only has to apply the changes instead of reading the whole lawn after every turn. The class is immutable
+ *
+ * Note:
+ * Only the end state of the step is reported. A square or mower that changed and changed back within the step is
+ * left out, and a square that changed twice is reported once with its last content
+ */
+public final class SimulationStep
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final int turnsTaken;
+    private final int totalTurnsTaken;
+    private final int grassCut;
+    private final int totalGrassCut;
+    private final int mowersDisabled;
+    private final int activeMowers;
+    private final boolean isFinished;
+    private final List<SquareChange> squareChanges;
+    private final List<MowerChange> mowerChanges;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    SimulationStep(final int turnsTaken,
+                   final int totalTurnsTaken,
+                   final int grassCut,
+                   final int totalGrassCut,
+                   final int mowersDisabled,
+                   final int activeMowers,
+                   final boolean isFinished,
+                   final List<SquareChange> squareChanges,
+                   final List<MowerChange> mowerChanges)
+    {
+        this.turnsTaken = turnsTaken;
+        this.totalTurnsTaken = totalTurnsTaken;
+        this.grassCut = grassCut;
+        this.totalGrassCut = totalGrassCut;
+        this.mowersDisabled = mowersDisabled;
+        this.activeMowers = activeMowers;
+        this.isFinished = isFinished;
+        this.squareChanges = Collections.unmodifiableList(squareChanges);
+        this.mowerChanges = Collections.unmodifiableList(mowerChanges);
+    }
+
+    // ACCESS METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - The turns taken in this step, fewer than asked for when the simulation ended part way
+     */
+    public int getTurnsTaken() {
+        return turnsTaken;
+    }
+
+    public int getTotalTurnsTaken() {
+        return totalTurnsTaken;
+    }
+
+    /**
+     * @return - The grass cut in this step
+     */
+    public int getGrassCut() {
+        return grassCut;
+    }
+
+    public int getTotalGrassCut() {
+        return totalGrassCut;
+    }
+
+    /**
+     * @return - The mowers disabled in this step
+     */
+    public int getMowersDisabled() {
+        return mowersDisabled;
+    }
+
+    public int getActiveMowers() {
+        return activeMowers;
+    }
+
+    /**
+     * @return - True if the simulation ended in this step, it can not be stepped again
+     */
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * @return - The squares whose content changed, in the order they first changed
+     */
+    public List<SquareChange> getSquareChanges() {
+        return squareChanges;
+    }
+
+    /**
+     * @return - The mowers that moved, turned, or were disabled, in the order they first changed
+     */
+    public List<MowerChange> getMowerChanges() {
+        return mowerChanges;
+    }
+
+    @Override
+    public String toString()
+    {
+        return turnsTaken + " turns to turn " + totalTurnsTaken + ": " + squareChanges.size() + " squares and "
+                + mowerChanges.size() + " mowers changed, +" + grassCut + " grass, -" + mowersDisabled + " mowers"
+                + (isFinished ? ", finished" : "");
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * A square of the lawn and its content at the end of the step
+     */
+    public static final class SquareChange
+    {
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final LawnSquareContent previousContent;
+        private final LawnSquareContent content;
+
+        SquareChange(final int xCoordinate,
+                     final int yCoordinate,
+                     final LawnSquareContent previousContent,
+                     final LawnSquareContent content)
+        {
+            this.xCoordinate = xCoordinate;
+            this.yCoordinate = yCoordinate;
+            this.previousContent = previousContent;
+            this.content = content;
+        }
+
+        public int getXCoordinate() {
+            return xCoordinate;
+        }
+
+        public int getYCoordinate() {
+            return yCoordinate;
+        }
+
+        /**
+         * @return - The content of the square before the step
+         */
+        public LawnSquareContent getPreviousContent() {
+            return previousContent;
+        }
+
+        public LawnSquareContent getContent() {
+            return content;
+        }
+    }
+
+    /**
+     * A mower and where it stands at the end of the step
+     */
+    public static final class MowerChange
+    {
+        private final int id;
+        private final String name;
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final Direction direction;
+        private final boolean isDisabled;
+
+        MowerChange(final int id,
+                    final String name,
+                    final int xCoordinate,
+                    final int yCoordinate,
+                    final Direction direction,
+                    final boolean isDisabled)
+        {
+            this.id = id;
+            this.name = name;
+            this.xCoordinate = xCoordinate;
+            this.yCoordinate = yCoordinate;
+            this.direction = direction;
+            this.isDisabled = isDisabled;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return - The x coordinate of the mower, meaningless once it has been disabled
+         */
+        public int getXCoordinate() {
+            return xCoordinate;
+        }
+
+        /**
+         * @return - The y coordinate of the mower, meaningless once it has been disabled
+         */
+        public int getYCoordinate() {
+            return yCoordinate;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+
+        public boolean isDisabled() {
+            return isDisabled;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package sim;
+
+import constant.Direction;
+import constant.LawnSquareContent;
+import lawn.LawnSquare;
+import mower.Mower;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class used to collect the changes of a simulation while it is being stepped. Every square and mower is remembered
+ * as it was the first time it changes in a step, and compared with how it ended up once the step is over, so the
+ * cost of a step follows the number of changes and not the size of the lawn
+ */
+class SimulationStepRecorder
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // THE MAPS KEEP THE ORDER THE CHANGES WERE FIRST SEEN IN THROUGH THE LISTS NEXT TO THEM
+    private final Map<LawnSquare, LawnSquareContent> previousContents = new IdentityHashMap<>();
+    private final List<LawnSquare> changedSquares = new ArrayList<>();
+    private final Map<Mower, MowerState> previousMowerStates = new IdentityHashMap<>();
+    private final List<Mower> changedMowers = new ArrayList<>();
+
+    private int startingTurnsTaken;
+    private int startingGrassCut;
+    private int startingActiveMowers;
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Starts a step
+     *
+     * @param turnsTaken - The turns taken before the step
+     * @param totalGrassCut - The grass cut before the step
+     * @param activeMowers - The active mowers before the step
+     */
+    void begin(final int turnsTaken, final int totalGrassCut, final int activeMowers)
+    {
+        previousContents.clear();
+        changedSquares.clear();
+        previousMowerStates.clear();
+        changedMowers.clear();
+
+        startingTurnsTaken = turnsTaken;
+        startingGrassCut = totalGrassCut;
+        startingActiveMowers = activeMowers;
+    }
+
+    /**
+     * Remembers the content of a square before it changes
+     *
+     * @param square - The square that is about to change
+     */
+    void recordSquare(final LawnSquare square)
+    {
+        if(!previousContents.containsKey(square))
+        {
+            previousContents.put(square, square.getLawnSquareContent());
+            changedSquares.add(square);
+        }
+    }
+
+    /**
+     * Remembers the position of a mower before it may change
+     *
+     * @param mower - The mower that is about to move or be disabled
+     */
+    void recordMower(final Mower mower)
+    {
+        if(!previousMowerStates.containsKey(mower))
+        {
+            previousMowerStates.put(mower, new MowerState(mower));
+            changedMowers.add(mower);
+        }
+    }
+
+    /**
+     * Ends a step
+     *
+     * @param turnsTaken - The turns taken after the step
+     * @param totalGrassCut - The grass cut after the step
+     * @param activeMowers - The active mowers after the step
+     * @param isFinished - True if the simulation has ended
+     *
+     * @return - What changed in the step
+     */
+    SimulationStep finish(final int turnsTaken,
+                          final int totalGrassCut,
+                          final int activeMowers,
+                          final boolean isFinished)
+    {
+        final List<SimulationStep.SquareChange> squareChanges = new ArrayList<>();
+        final List<SimulationStep.MowerChange> mowerChanges = new ArrayList<>();
+
+        for(LawnSquare square : changedSquares)
+        {
+            final LawnSquareContent previousContent = previousContents.get(square);
+
+            if(square.getLawnSquareContent() != previousContent)
+            {
+                squareChanges.add(new SimulationStep.SquareChange(square.getxCoordinate(),
+                        square.getyCoordinate(),
+                        previousContent,
+                        square.getLawnSquareContent()));
+            }
+        }
+
+        for(Mower mower : changedMowers)
+        {
+            if(!previousMowerStates.get(mower).isSameAs(mower))
+            {
+                mowerChanges.add(new SimulationStep.MowerChange(mower.getId(),
+                        mower.getName(),
+                        mower.getXCoordinate(),
+                        mower.getYCoordinate(),
+                        mower.getDirection(),
+                        mower.isDisabled()));
+            }
+        }
+
+        return new SimulationStep(turnsTaken - startingTurnsTaken,
+                turnsTaken,
+                totalGrassCut - startingGrassCut,
+                totalGrassCut,
+                startingActiveMowers - activeMowers,
+                activeMowers,
+                isFinished,
+                squareChanges,
+                mowerChanges);
+    }
+
+    // INNER CLASSES
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Where a mower stood before it changed
+     */
+    private static class MowerState
+    {
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final Direction direction;
+        private final boolean isDisabled;
+
+        private MowerState(final Mower mower)
+        {
+            this.xCoordinate = mower.getXCoordinate();
+            this.yCoordinate = mower.getYCoordinate();
+            this.direction = mower.getDirection();
+            this.isDisabled = mower.isDisabled();
+        }
+
+        private boolean isSameAs(final Mower mower)
+        {
+            return xCoordinate == mower.getXCoordinate()
+                    && yCoordinate == mower.getYCoordinate()
+                    && direction == mower.getDirection()
+                    && isDisabled == mower.isDisabled();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class used to keep track of every simulation running in the JVM, so long batch jobs can be watched while they run.
+ * Once enabled every simulation that starts registers itself, publishes its progress after every turn, and removes
+ * itself when it ends
+ *
+ * Note:
+ * Telemetry is off until enable is called, and a simulation only looks for it once when it starts, so a JVM that
+ * never enables it pays nothing per turn. The readers only see published snapshots and striped counters, nothing a
+ * reader does can hold up a turn
+ */
+public class SimulationTelemetry
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static volatile SimulationTelemetry simulationTelemetry;
+
+    private final long startTime;
+    private final AtomicLong nextRunId;
+    private final ConcurrentMap<Long, Simulation> activeRuns;
+    private final LongAdder runsStarted;
+    private final LongAdder runsFinished;
+    private final LongAdder turnsTaken;
+    private final LongAdder grassCut;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private SimulationTelemetry()
+    {
+        this.startTime = System.nanoTime();
+        this.nextRunId = new AtomicLong();
+        this.activeRuns = new ConcurrentHashMap<>();
+        this.runsStarted = new LongAdder();
+        this.runsFinished = new LongAdder();
+        this.turnsTaken = new LongAdder();
+        this.grassCut = new LongAdder();
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Turns telemetry on for every simulation that starts from now on
+     *
+     * @return - The telemetry of the JVM
+     */
+    public static synchronized SimulationTelemetry enable()
+    {
+        if(simulationTelemetry == null)
+        {
+            simulationTelemetry = new SimulationTelemetry();
+        }
+
+        return simulationTelemetry;
+    }
+
+    /**
+     * @return - The telemetry of the JVM, null when it has not been enabled
+     */
+    public static SimulationTelemetry getInstance()
+    {
+        return simulationTelemetry;
+    }
+
+    /**
+     * @return - The last published progress of every simulation that is still running, ordered by run id
+     */
+    public List<SimulationProgress> getActiveProgress()
+    {
+        final List<SimulationProgress> response = new ArrayList<>();
+
+        for(Simulation simulation : activeRuns.values())
+        {
+            final SimulationProgress progress = simulation.getProgress();
+
+            if(progress != null)
+            {
+                response.add(progress);
+            }
+        }
+
+        response.sort((a, b) -> Long.compare(a.getRunId(), b.getRunId()));
+
+        return response;
+    }
+
+    public long getRunsStarted() {
+        return runsStarted.sum();
+    }
+
+    public long getRunsFinished() {
+        return runsFinished.sum();
+    }
+
+    /**
+     * @return - The turns taken by every simulation since telemetry was enabled
+     */
+    public long getTurnsTaken() {
+        return turnsTaken.sum();
+    }
+
+    /**
+     * @return - The grass cut by every finished simulation since telemetry was enabled
+     */
+    public long getGrassCut() {
+        return grassCut.sum();
+    }
+
+    /**
+     * @return - The time since telemetry was enabled
+     */
+    public long getUptimeNanos() {
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * @return - The turns taken per second by every simulation together since telemetry was enabled
+     */
+    public double getTurnsPerSecond()
+    {
+        return getTurnsTaken() * 1e9 / Math.max(1, getUptimeNanos());
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @param simulation - The simulation that is starting
+     *
+     * @return - The id of the run
+     */
+    long runStarted(final Simulation simulation)
+    {
+        final long response = nextRunId.incrementAndGet();
+
+        activeRuns.put(response, simulation);
+        runsStarted.increment();
+
+        return response;
+    }
+
+    void turnTaken()
+    {
+        turnsTaken.increment();
+    }
+
+    /**
+     * @param runId - The id of the run that ended
+     * @param grassCutByRun - The grass the run cut
+     */
+    void runFinished(final long runId, final int grassCutByRun)
+    {
+        activeRuns.remove(runId);
+        runsFinished.increment();
+        grassCut.add(grassCutByRun);
+    }
+}
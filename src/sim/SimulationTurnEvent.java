@@ -0,0 +1,29 @@
+package sim;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event that spans one turn of a simulation, from the first mower deciding on its move to the last
+ * mower making it
+ */
+@Name("mower.simulation.Turn")
+@Label("Simulation Turn")
+@Category({"Mower Simulation"})
+@Description("One turn of every active mower")
+@StackTrace(false)
+public class SimulationTurnEvent extends jdk.jfr.Event
+{
+    @Label("Turn")
+    int turn;
+
+    @Label("Active Mowers")
+    @Description("The mowers still active at the end of the turn")
+    int activeMowers;
+
+    @Label("Total Grass Cut")
+    int totalGrassCut;
+}
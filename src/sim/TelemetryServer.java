@@ -0,0 +1,296 @@
+package sim;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import constant.SimulationRiskProfile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Class used to serve the telemetry of the running simulations over HTTP, so a long batch job can be watched from a
+ * browser, curl, or a Prometheus scrape
+ *
+ * Endpoints:
+ * /progress - The progress of every running simulation and the totals of the JVM as JSON
+ * /metrics  - The same numbers in the Prometheus text format
+ *
+ * Note:
+ * The server only listens on the loopback address unless it is given another one, so the progress of the jobs on
+ * a machine is not published to the network by default. The server answers on a single thread of its own and only
+ * reads the snapshots the simulations publish, so a slow client can never hold up a turn. The JDK server keeps the
+ * JVM alive until it is stopped, so stop it once the job is done
+ */
+public class TelemetryServer
+{
+    // FIELDS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final SimulationTelemetry telemetry;
+
+    // CONSTRUCTORS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private TelemetryServer(final HttpServer server, final SimulationTelemetry telemetry)
+    {
+        this.server = server;
+        this.telemetry = telemetry;
+    }
+
+    // PUBLIC METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Enables telemetry and starts serving it on the loopback address
+     *
+     * @param port - The port to listen on, 0 to pick a free one
+     *
+     * @return - The running server
+     *
+     * @throws RuntimeException - When the port can not be bound
+     */
+    public static TelemetryServer start(final int port)
+    {
+        return start(InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Enables telemetry and starts serving it
+     *
+     * @param address - The address to listen on, the wildcard address listens on every interface
+     * @param port - The port to listen on, 0 to pick a free one
+     *
+     * @return - The running server
+     *
+     * @throws RuntimeException - When the port can not be bound
+     */
+    public static TelemetryServer start(final InetAddress address, final int port)
+    {
+        final HttpServer server;
+
+        try
+        {
+            server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        }
+        catch(IOException e)
+        {
+            final String errorMsg = "[ERROR] - Unable to serve telemetry on " + address.getHostAddress() + " port "
+                    + port + " | " + e.getMessage();
+
+            System.out.println(errorMsg);
+
+            throw new RuntimeException(errorMsg, e);
+        }
+
+        final TelemetryServer response = new TelemetryServer(server, SimulationTelemetry.enable());
+
+        server.createContext("/progress", exchange -> response.send(exchange, JSON_CONTENT_TYPE, response.toJson()));
+        server.createContext("/metrics",
+                exchange -> response.send(exchange, PROMETHEUS_CONTENT_TYPE, response.toPrometheusText()));
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "telemetry-server");
+
+            thread.setDaemon(true);
+
+            return thread;
+        }));
+        server.start();
+
+        return response;
+    }
+
+    /**
+     * @return - The port the server is listening on
+     */
+    public int getPort()
+    {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving, telemetry stays enabled for the simulations that are still running
+     */
+    public void stop()
+    {
+        server.stop(0);
+    }
+
+    // PACKAGE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * @return - The progress of every running simulation and the totals of the JVM as JSON
+     */
+    String toJson()
+    {
+        final List<SimulationProgress> runs = telemetry.getActiveProgress();
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append("{\"uptimeSeconds\":").append(String.format("%.3f", telemetry.getUptimeNanos() / 1e9));
+        sb.append(",\"runsStarted\":").append(telemetry.getRunsStarted());
+        sb.append(",\"runsFinished\":").append(telemetry.getRunsFinished());
+        sb.append(",\"turnsTaken\":").append(telemetry.getTurnsTaken());
+        sb.append(",\"turnsPerSecond\":").append(String.format("%.1f", telemetry.getTurnsPerSecond()));
+        sb.append(",\"grassCutByFinishedRuns\":").append(telemetry.getGrassCut());
+        sb.append(",\"activeRuns\":[");
+
+        for(int i = 0; i < runs.size(); i++)
+        {
+            final SimulationProgress run = runs.get(i);
+
+            if(i > 0)
+            {
+                sb.append(',');
+            }
+
+            sb.append("{\"runId\":").append(run.getRunId());
+            sb.append(",\"scenario\":\"").append(escapeJson(run.getScenarioName())).append('"');
+            sb.append(",\"strategy\":\"").append(escapeJson(run.getStrategyName())).append('"');
+            sb.append(",\"turnsTaken\":").append(run.getTurnsTaken());
+            sb.append(",\"maxTurns\":").append(run.getMaxTurns());
+            sb.append(",\"totalGrassCut\":").append(run.getTotalGrassCut());
+            sb.append(",\"startingGrassToCut\":").append(run.getStartingGrassToCut());
+            sb.append(",\"activeMowers\":").append(run.getActiveMowers());
+            sb.append(",\"mowerCount\":").append(run.getMowerCount());
+            sb.append(",\"riskProfiles\":{");
+
+            for(SimulationRiskProfile riskProfile : SimulationRiskProfile.values())
+            {
+                if(riskProfile.ordinal() > 0)
+                {
+                    sb.append(',');
+                }
+
+                sb.append('"').append(riskProfile.name().toLowerCase()).append("\":")
+                        .append(run.getRiskProfileCount(riskProfile));
+            }
+
+            sb.append("},\"elapsedSeconds\":").append(String.format("%.3f", run.getElapsedNanos() / 1e9)).append('}');
+        }
+
+        sb.append("]}\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * @return - The progress of every running simulation and the totals of the JVM in the Prometheus text format
+     */
+    String toPrometheusText()
+    {
+        final List<SimulationProgress> runs = telemetry.getActiveProgress();
+        final StringBuilder sb = new StringBuilder();
+
+        appendMetric(sb, "mower_sim_runs_started_total", "counter", "Simulations started", telemetry.getRunsStarted());
+        appendMetric(sb, "mower_sim_runs_finished_total", "counter", "Simulations finished",
+                telemetry.getRunsFinished());
+        appendMetric(sb, "mower_sim_runs_active", "gauge", "Simulations running", runs.size());
+        appendMetric(sb, "mower_sim_turns_total", "counter", "Turns taken by every simulation",
+                telemetry.getTurnsTaken());
+        appendMetric(sb, "mower_sim_turns_per_second", "gauge", "Turns taken per second since telemetry was enabled",
+                telemetry.getTurnsPerSecond());
+        appendMetric(sb, "mower_sim_grass_cut_total", "counter", "Grass cut by every finished simulation",
+                telemetry.getGrassCut());
+
+        appendHelp(sb, "mower_sim_run_turns", "gauge", "Turns taken by a running simulation");
+        appendHelp(sb, "mower_sim_run_max_turns", "gauge", "Turn limit of a running simulation");
+        appendHelp(sb, "mower_sim_run_grass_cut", "gauge", "Grass cut by a running simulation");
+        appendHelp(sb, "mower_sim_run_grass_to_cut", "gauge", "Grass a running simulation started with");
+        appendHelp(sb, "mower_sim_run_active_mowers", "gauge", "Mowers still active in a running simulation");
+        appendHelp(sb, "mower_sim_run_mowers_by_risk_profile", "gauge",
+                "Active strategic mowers of a running simulation by their last risk profile");
+
+        for(SimulationProgress run : runs)
+        {
+            final String labels = "run=\"" + run.getRunId() + "\",scenario=\"" + escapeLabel(run.getScenarioName())
+                    + "\",strategy=\"" + escapeLabel(run.getStrategyName()) + "\"";
+
+            sb.append("mower_sim_run_turns{").append(labels).append("} ").append(run.getTurnsTaken()).append('\n');
+            sb.append("mower_sim_run_max_turns{").append(labels).append("} ").append(run.getMaxTurns()).append('\n');
+            sb.append("mower_sim_run_grass_cut{").append(labels).append("} ").append(run.getTotalGrassCut())
+                    .append('\n');
+            sb.append("mower_sim_run_grass_to_cut{").append(labels).append("} ").append(run.getStartingGrassToCut())
+                    .append('\n');
+            sb.append("mower_sim_run_active_mowers{").append(labels).append("} ").append(run.getActiveMowers())
+                    .append('\n');
+
+            for(SimulationRiskProfile riskProfile : SimulationRiskProfile.values())
+            {
+                sb.append("mower_sim_run_mowers_by_risk_profile{").append(labels).append(",risk_profile=\"")
+                        .append(riskProfile.name().toLowerCase()).append("\"} ")
+                        .append(run.getRiskProfileCount(riskProfile)).append('\n');
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @param value - The text to put in a JSON string
+     *
+     * @return - The text with the quotes, backslashes, and control characters escaped
+     */
+    static String escapeJson(final String value)
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        for(char c : value.toCharArray())
+        {
+            if(c == '"' || c == '\\')
+            {
+                sb.append('\\').append(c);
+            }
+            else if(c < 0x20)
+            {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+            else{
+                sb.append(c);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    // PRIVATE METHODS
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void send(final HttpExchange exchange, final String contentType, final String body) throws IOException
+    {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try(OutputStream out = exchange.getResponseBody())
+        {
+            out.write(bytes);
+        }
+    }
+
+    private static void appendMetric(final StringBuilder sb,
+                                     final String name,
+                                     final String type,
+                                     final String help,
+                                     final Number value)
+    {
+        appendHelp(sb, name, type, help);
+
+        sb.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void appendHelp(final StringBuilder sb, final String name, final String type, final String help)
+    {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String escapeLabel(final String value)
+    {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}